@@ -28,6 +28,7 @@ export type DiscoverUserItem = {
   displayName: string;
   email: string;
   createdAt: string;
+  lastActiveAt: string;
 };
 export type FollowedUserItem = {
   targetUserId: string;
@@ -43,6 +44,15 @@ async function request<T>(
   init?: RequestInit,
   token?: string
 ): Promise<T> {
+  const { body } = await requestWithHeaders<T>(url, init, token);
+  return body;
+}
+
+async function requestWithHeaders<T>(
+  url: string,
+  init?: RequestInit,
+  token?: string
+): Promise<{ body: T; headers: Headers }> {
   const headers = new Headers(init?.headers);
   if (token) {
     headers.set("Authorization", `Bearer ${token}`);
@@ -61,7 +71,24 @@ async function request<T>(
     const details = typeof body === "string" ? body : JSON.stringify(body);
     throw new Error(`HTTP ${response.status}: ${details}`);
   }
-  return body as T;
+  return { body: body as T, headers: response.headers };
+}
+
+// List endpoints return at most one page and hand out the next one through X-Next-Cursor.
+async function requestAllPages<T>(url: string, pageSize: number, token?: string): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: string | null = null;
+  do {
+    const page = new URL(url, window.location.origin);
+    page.searchParams.set("limit", String(pageSize));
+    if (cursor) {
+      page.searchParams.set("cursor", cursor);
+    }
+    const { body, headers } = await requestWithHeaders<T[]>(page.toString(), { method: "GET" }, token);
+    items.push(...body);
+    cursor = headers.get("X-Next-Cursor");
+  } while (cursor);
+  return items;
 }
 
 export function register(payload: { email: string; password: string; displayName: string }) {
@@ -80,6 +107,10 @@ export function login(payload: { email: string; password: string }) {
   });
 }
 
+export function reissueToken(token: string) {
+  return request<{ accessToken: string; tokenType: string }>(`${userApi}/api/v1/users/me/token`, { method: "POST" }, token);
+}
+
 export function oauthLogin(payload: {
   provider: string;
   providerUserId: string;
@@ -111,7 +142,7 @@ export function unfollow(targetUserId: string, token: string) {
 }
 
 export function listFollows(token: string) {
-  return request<FollowedUserItem[]>(`${userApi}/api/v1/users/me/follows`, { method: "GET" }, token);
+  return requestAllPages<FollowedUserItem>(`${userApi}/api/v1/users/me/follows`, 200, token);
 }
 
 export function listDiscoverUsers(token: string) {
@@ -136,7 +167,7 @@ export async function uploadTrack(
 }
 
 export function listTracks(token: string) {
-  return request<TrackItem[]>(`${mediaApi}/api/v1/media/tracks`, { method: "GET" }, token);
+  return requestAllPages<TrackItem>(`${mediaApi}/api/v1/media/tracks`, 500, token);
 }
 
 export function mediaUrl(path: string) {
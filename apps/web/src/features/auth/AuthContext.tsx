@@ -1,4 +1,5 @@
-import { createContext, ReactNode, useContext, useMemo, useState } from "react";
+import { createContext, ReactNode, useContext, useEffect, useMemo, useState } from "react";
+import { reissueToken } from "../../api";
 
 type AuthContextType = {
   token: string;
@@ -9,6 +10,7 @@ type AuthContextType = {
 
 const AuthContext = createContext<AuthContextType | undefined>(undefined);
 const TOKEN_KEY = "dmsa.web.token";
+const UUID_PATTERN = /^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$/i;
 
 function readInitialToken(): string {
   const token = localStorage.getItem(TOKEN_KEY);
@@ -35,6 +37,25 @@ type AuthProviderProps = {
 export function AuthProvider({ children }: AuthProviderProps) {
   const [token, setTokenState] = useState<string>(readInitialToken);
 
+  // Older tokens use the email as subject; swap them for a user-id token so the server can skip the lookup.
+  useEffect(() => {
+    if (!token || UUID_PATTERN.test(readUserId(token))) {
+      return;
+    }
+    let cancelled = false;
+    reissueToken(token)
+      .then((result) => {
+        if (!cancelled) {
+          setTokenState(result.accessToken);
+          localStorage.setItem(TOKEN_KEY, result.accessToken);
+        }
+      })
+      .catch(() => undefined);
+    return () => {
+      cancelled = true;
+    };
+  }, [token]);
+
   const value = useMemo<AuthContextType>(
     () => ({
       token,
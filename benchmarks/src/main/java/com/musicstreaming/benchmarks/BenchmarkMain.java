@@ -0,0 +1,38 @@
+package com.musicstreaming.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs JMH with the given arguments and, unless a result format is
+ * already chosen, writes the results as JSON to {@code jmh-results/<timestamp>.json} (override the directory
+ * with {@code -Djmh.results.dir=...}) so runs before and after a change can be compared.
+ */
+public final class BenchmarkMain {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> jmhArgs = new ArrayList<>(List.of(args));
+        if (!jmhArgs.contains("-rf") && !jmhArgs.contains("-rff") && !listsOnly(jmhArgs)) {
+            Path resultsDir = Path.of(System.getProperty("jmh.results.dir", "jmh-results"));
+            Files.createDirectories(resultsDir);
+            Path resultFile = resultsDir.resolve(RUN_ID.format(LocalDateTime.now()) + ".json");
+            jmhArgs.addAll(List.of("-rf", "json", "-rff", resultFile.toString()));
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+
+    private static boolean listsOnly(List<String> args) {
+        return args.contains("-l") || args.contains("-lp") || args.contains("-lprof") || args.contains("-h");
+    }
+}
@@ -0,0 +1,90 @@
+package com.musicstreaming.benchmarks.events;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.common.events.codec.EventCodecRegistry;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    // Traced envelopes carry a W3C traceparent and use the codec's traced format.
+    @Param({"false", "true"})
+    public boolean traced;
+
+    private EventCodecRegistry registry;
+    private ObjectMapper objectMapper;
+    private JavaType envelopeType;
+    private EventEnvelope<TrackUploadedEvent> envelope;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = EventCodecRegistry.withDefaults();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        envelopeType = objectMapper.getTypeFactory().constructParametricType(EventEnvelope.class, TrackUploadedEvent.class);
+        envelope = new EventEnvelope<>(
+                "TrackUploaded",
+                "1.1.0",
+                Instant.parse("2026-03-01T12:34:56.789123Z"),
+                new TrackUploadedEvent(
+                        "trk_3f9a1c0b7d2e",
+                        "artist-8c41f2",
+                        "5b0e7c2a-91d4-4f3e-8a6b-c2d1e0f9a8b7",
+                        "Midnight Drive (Extended Mix)",
+                        "cas/4b/e1/4be1c0f5a0d7e3b9f6c2a8d41e7b0c93f5a2d6e8b1c4f7a0d3e6b9c2f5a8d1e4",
+                        "1.1.0"));
+        if (traced) {
+            envelope = envelope.withTraceHeaders(Map.of("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+        }
+        binary = registry.encode(envelope);
+        json = objectMapper.writeValueAsBytes(envelope);
+        System.out.printf("%nbytes/event: binary=%d json=%d%n", binary.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return registry.encode(envelope);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public EventEnvelope<?> binaryDecode() {
+        return registry.decode(binary);
+    }
+
+    @Benchmark
+    public EventEnvelope<?> jsonDecode() throws IOException {
+        return objectMapper.readValue(json, envelopeType);
+    }
+}
@@ -0,0 +1,172 @@
+package com.musicstreaming.benchmarks.playlist;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes one playlist's worth of rows into a temp copy of {@code playlist_tracks} per invocation. Needs a
+ * reachable Postgres; point it elsewhere with {@code -p jdbcUrl=... -p user=... -p password=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaylistTrackInsertBenchmark {
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TEMP TABLE bench_playlist_tracks (
+                id UUID PRIMARY KEY,
+                playlist_id UUID NOT NULL,
+                track_id VARCHAR(64) NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                artist_name VARCHAR(200) NOT NULL,
+                genre VARCHAR(80) NOT NULL,
+                position BIGINT NOT NULL,
+                added_at TIMESTAMPTZ NOT NULL,
+                UNIQUE (playlist_id, track_id)
+            );
+            CREATE INDEX ON bench_playlist_tracks (playlist_id, position);
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO bench_playlist_tracks (id, playlist_id, track_id, title, artist_name, genre, position, added_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Param("jdbc:postgresql://localhost:5432/music")
+    public String jdbcUrl;
+
+    @Param("music")
+    public String user;
+
+    @Param("music")
+    public String password;
+
+    @Param({"100", "500"})
+    public int trackCount;
+
+    @Param({"random", "time-ordered"})
+    public String idStyle;
+
+    private Connection plain;
+    private Connection rewriting;
+    private long lastTick;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        plain = open(false);
+        rewriting = open(true);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        for (Connection connection : new Connection[] {plain, rewriting}) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE bench_playlist_tracks");
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        plain.close();
+        rewriting.close();
+    }
+
+    // Baseline: what saveAll does without hibernate.jdbc.batch_size, one round-trip per row.
+    @Benchmark
+    public int rowByRow() throws SQLException {
+        UUID playlistId = UUID.randomUUID();
+        int written = 0;
+        try (PreparedStatement statement = plain.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < trackCount; i++) {
+                bind(statement, playlistId, i);
+                written += statement.executeUpdate();
+            }
+        }
+        plain.commit();
+        return written;
+    }
+
+    @Benchmark
+    public int jdbcBatch() throws SQLException {
+        return insertBatch(plain);
+    }
+
+    @Benchmark
+    public int jdbcBatchRewritten() throws SQLException {
+        return insertBatch(rewriting);
+    }
+
+    private int insertBatch(Connection connection) throws SQLException {
+        UUID playlistId = UUID.randomUUID();
+        int written;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < trackCount; i++) {
+                bind(statement, playlistId, i);
+                statement.addBatch();
+            }
+            written = statement.executeBatch().length;
+        }
+        connection.commit();
+        return written;
+    }
+
+    private void bind(PreparedStatement statement, UUID playlistId, int index) throws SQLException {
+        statement.setObject(1, "random".equals(idStyle) ? UUID.randomUUID() : timeOrderedUuid());
+        statement.setObject(2, playlistId);
+        statement.setString(3, "trk_" + index);
+        statement.setString(4, "Track " + index);
+        statement.setString(5, "Artist " + (index % 37));
+        statement.setString(6, "Pop");
+        statement.setLong(7, (index + 1) * 1024L);
+        statement.setObject(8, Instant.now().atOffset(ZoneOffset.UTC));
+    }
+
+    // Same layout as the user-service generator: UUIDv7 with a per-millisecond counter.
+    private UUID timeOrderedUuid() {
+        lastTick = Math.max(lastTick + 1, System.currentTimeMillis() << 12);
+        long mostSignificant = ((lastTick >>> 12) << 16) | 0x7000L | (lastTick & 0xFFF);
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private Connection open(boolean rewriteBatchedInserts) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", user);
+        properties.setProperty("password", password);
+        properties.setProperty("reWriteBatchedInserts", Boolean.toString(rewriteBatchedInserts));
+        Connection connection = DriverManager.getConnection(jdbcUrl, properties);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE_SQL);
+        }
+        connection.commit();
+        return connection;
+    }
+}
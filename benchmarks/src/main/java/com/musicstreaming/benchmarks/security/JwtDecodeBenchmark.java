@@ -0,0 +1,94 @@
+package com.musicstreaming.benchmarks.security;
+
+import com.musicstreaming.common.security.jwt.CachingJwtDecoder;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * Per-request cost of turning a bearer token into a {@link Jwt}. {@code burst} is how many requests reuse a token
+ * before the next one appears, so 1 measures the cache's overhead on misses and 15 matches a web page load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    private static final String SECRET = "changeit-changeit-changeit-changeit";
+    private static final int DISTINCT_TOKENS = 4_096;
+
+    @Param({"1", "15"})
+    public int burst;
+
+    private JwtDecoder nimbusDecoder;
+    private JwtDecoder cachingDecoder;
+    private String[] tokens;
+    private int request;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(key).build();
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        tokens = new String[DISTINCT_TOKENS];
+        Instant now = Instant.now();
+        for (int i = 0; i < tokens.length; i++) {
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .issuer("user-service")
+                    .issuedAt(now)
+                    .expiresAt(now.plus(Duration.ofHours(1)))
+                    .subject(UUID.randomUUID().toString())
+                    .claim("email", "listener" + i + "@example.com")
+                    .claim("displayName", "Listener " + i)
+                    .claim("scope", List.of("USER"))
+                    .build();
+            tokens[i] = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims)).getTokenValue();
+        }
+        // Smaller than the token pool, so burst=1 keeps missing as it cycles through.
+        cachingDecoder = new CachingJwtDecoder(nimbusDecoder, DISTINCT_TOKENS / 4, Duration.ofMinutes(15));
+    }
+
+    @Benchmark
+    public Jwt nimbus() {
+        return nimbusDecoder.decode(nextToken());
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return cachingDecoder.decode(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens[(request / burst) % DISTINCT_TOKENS];
+        request++;
+        return token;
+    }
+}
@@ -0,0 +1,50 @@
+package com.musicstreaming.benchmarks.security;
+
+import com.musicstreaming.userservice.config.JwtTokenService;
+import com.musicstreaming.userservice.service.UserAuthService.AuthenticatedUser;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * Cost of minting an access token on sign-in or refresh, with the encoder the user service configures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtIssueBenchmark {
+
+    private static final String SECRET = "changeit-changeit-changeit-changeit";
+
+    private JwtTokenService tokenService;
+    private AuthenticatedUser user;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        tokenService = new JwtTokenService(new NimbusJwtEncoder(new ImmutableSecret<>(key)), "user-service", 60);
+        user = new AuthenticatedUser(UUID.randomUUID(), "listener@example.com", "Listener");
+    }
+
+    @Benchmark
+    public String issueToken() {
+        return tokenService.issueToken(user);
+    }
+}
@@ -0,0 +1,100 @@
+package com.musicstreaming.mediaservice.storage;
+
+import com.musicstreaming.mediaservice.storage.ChecksummingCopier.CopyResult;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Local media storage: object-key building, the checksumming copy on its own (into a discarding channel), and a
+ * full {@code store} to a temp directory including file creation. Lives in the storage package to reach the key
+ * builder. {@code objectSize} is the uploaded file size, {@code bufferSize} the {@code media.storage.local.buffer-size}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalStorageBenchmark {
+
+    private static final WritableByteChannel DISCARD = Channels.newChannel(OutputStream.nullOutputStream());
+
+    @Benchmark
+    public String buildObjectKey() {
+        return LocalFilesystemStorage.buildObjectKey("artist-8c41f2", "Midnight Drive (Extended Mix).FLAC");
+    }
+
+    @Benchmark
+    public CopyResult checksummingCopy(Upload upload) throws IOException {
+        return ChecksummingCopier.copy(Channels.newChannel(new ByteArrayInputStream(upload.content)), DISCARD, upload.copyBufferSize);
+    }
+
+    @Benchmark
+    public StoredObject store(Upload upload) throws IOException {
+        return upload.storage.store("artist-8c41f2", "song.flac", new ByteArrayInputStream(upload.content));
+    }
+
+    @State(Scope.Benchmark)
+    public static class Upload {
+
+        @Param({"1MB", "8MB"})
+        public String objectSize;
+
+        @Param({"8KB", "64KB"})
+        public String bufferSize;
+
+        private Path root;
+        private LocalFilesystemStorage storage;
+        private byte[] content;
+        private int copyBufferSize;
+
+        @Setup
+        public void setUp() throws IOException {
+            root = Files.createTempDirectory("media-bench");
+            MediaStorageProperties properties = new MediaStorageProperties();
+            properties.getLocal().setRoot(root.toString());
+            properties.getLocal().setBufferSize(DataSize.parse(bufferSize));
+            storage = new LocalFilesystemStorage(properties);
+            copyBufferSize = Math.toIntExact(DataSize.parse(bufferSize).toBytes());
+            content = new byte[Math.toIntExact(DataSize.parse(objectSize).toBytes())];
+            ThreadLocalRandom.current().nextBytes(content);
+        }
+
+        // Stored files would otherwise fill the temp directory over a run.
+        @TearDown(Level.Iteration)
+        public void clearStoredObjects() throws IOException {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).filter(path -> !path.equals(root)).forEach(path -> path.toFile().delete());
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            clearStoredObjects();
+            Files.deleteIfExists(root);
+        }
+    }
+}
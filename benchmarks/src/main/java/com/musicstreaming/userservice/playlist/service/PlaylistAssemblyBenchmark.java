@@ -0,0 +1,78 @@
+package com.musicstreaming.userservice.playlist.service;
+
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrack;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackDetails;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackInput;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Request-side validation of a playlist write ({@code normalizeTracks}) and grouping of fetched rows into
+ * per-playlist track lists ({@code buildTrackMap}). Lives in the service's package to reach both helpers.
+ * {@code tracks} is the size of each playlist; the map is built for {@code playlists} of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaylistAssemblyBenchmark {
+
+    @Param({"20", "1000"})
+    public int tracks;
+
+    @Param({"50"})
+    public int playlists;
+
+    private List<PlaylistTrackInput> inputs;
+    private List<PlaylistTrack> rows;
+
+    @Setup
+    public void setUp() {
+        inputs = new ArrayList<>(tracks);
+        for (int i = 0; i < tracks; i++) {
+            inputs.add(new PlaylistTrackInput(" trk_" + i + " ", "Song " + i, "Artist " + (i % 37), "Genre " + (i % 11)));
+        }
+        rows = new ArrayList<>(tracks * playlists);
+        Instant addedAt = Instant.parse("2026-03-01T12:00:00Z");
+        for (int p = 0; p < playlists; p++) {
+            UUID playlistId = UUID.randomUUID();
+            for (int i = 0; i < tracks; i++) {
+                rows.add(new PlaylistTrack(
+                        playlistId,
+                        "trk_" + i,
+                        "Song " + i,
+                        "Artist " + (i % 37),
+                        "Genre " + (i % 11),
+                        PlaylistTrackSequence.positionFor(i),
+                        addedAt));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<PlaylistTrackInput> normalizeTracks() {
+        return PlaylistInputs.normalizeTracks(inputs, PlaylistService.MAX_PLAYLIST_TRACKS);
+    }
+
+    @Benchmark
+    public Map<UUID, List<PlaylistTrackDetails>> buildTrackMap() {
+        return PlaylistService.buildTrackMap(rows);
+    }
+}
@@ -1,11 +1,30 @@
 package com.musicstreaming.common.events;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
+import java.util.Map;
 
+/**
+ * An event plus its metadata. {@code traceHeaders} holds the propagation headers (W3C {@code traceparent} and
+ * {@code tracestate}) of the request that produced the event, so consumers can continue the same trace.
+ */
 public record EventEnvelope<T>(
         String eventType,
         String eventVersion,
         Instant occurredAt,
-        T payload
+        T payload,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> traceHeaders
 ) {
+
+    public EventEnvelope {
+        traceHeaders = traceHeaders == null ? Map.of() : Map.copyOf(traceHeaders);
+    }
+
+    public EventEnvelope(String eventType, String eventVersion, Instant occurredAt, T payload) {
+        this(eventType, eventVersion, occurredAt, payload, Map.of());
+    }
+
+    public EventEnvelope<T> withTraceHeaders(Map<String, String> traceHeaders) {
+        return new EventEnvelope<>(eventType, eventVersion, occurredAt, payload, traceHeaders);
+    }
 }
@@ -1,8 +1,13 @@
 package com.musicstreaming.common.events;
 
+/**
+ * {@code artistId} is the catalogue artist the uploader typed in; {@code uploaderUserId} is the authenticated
+ * account that made the upload (the JWT subject), and is {@code null} on events written before version 1.1.0.
+ */
 public record TrackUploadedEvent(
         String trackId,
         String artistId,
+        String uploaderUserId,
         String title,
         String storagePath,
         String schemaVersion
@@ -0,0 +1,103 @@
+package com.musicstreaming.common.events.codec;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary wire format for {@link EventEnvelope}: a format byte, the event type and version as
+ * length-prefixed strings, the timestamp as varints, then the payload as written by the
+ * {@link PayloadCodec} registered for that type and version. Format 2 adds the trace headers as a
+ * count followed by name/value strings before the payload; envelopes without trace headers are still
+ * written as format 1.
+ */
+public final class EventCodecRegistry {
+
+    public static final String CONTENT_TYPE = "application/vnd.musicstreaming.event+binary";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int FORMAT_VERSION_TRACED = 2;
+
+    private final Map<CodecKey, PayloadCodec<?>> codecs = new HashMap<>();
+
+    public EventCodecRegistry(List<? extends PayloadCodec<?>> codecs) {
+        for (PayloadCodec<?> codec : codecs) {
+            CodecKey key = new CodecKey(codec.eventType(), codec.eventVersion());
+            if (this.codecs.putIfAbsent(key, codec) != null) {
+                throw new IllegalArgumentException("Duplicate codec for " + key);
+            }
+        }
+    }
+
+    public static EventCodecRegistry withDefaults() {
+        return new EventCodecRegistry(List.of(new TrackUploadedEventV1Codec(), new TrackUploadedEventCodec()));
+    }
+
+    public byte[] encode(EventEnvelope<?> envelope) {
+        EventWriter out = new EventWriter();
+        Map<String, String> traceHeaders = envelope.traceHeaders();
+        out.writeByte(traceHeaders.isEmpty() ? FORMAT_VERSION : FORMAT_VERSION_TRACED)
+                .writeString(envelope.eventType())
+                .writeString(envelope.eventVersion())
+                .writeInstant(envelope.occurredAt());
+        if (!traceHeaders.isEmpty()) {
+            out.writeVarInt(traceHeaders.size());
+            traceHeaders.forEach((name, value) -> out.writeString(name).writeString(value));
+        }
+        writePayload(codecFor(envelope.eventType(), envelope.eventVersion()), envelope.payload(), out);
+        return out.toByteArray();
+    }
+
+    public EventEnvelope<?> decode(byte[] bytes) {
+        EventReader in = new EventReader(bytes);
+        int format = in.readByte();
+        if (format != FORMAT_VERSION && format != FORMAT_VERSION_TRACED) {
+            throw new IllegalArgumentException("Unsupported event format " + format);
+        }
+        String eventType = in.readString();
+        String eventVersion = in.readString();
+        Instant occurredAt = in.readInstant();
+        Map<String, String> traceHeaders = format == FORMAT_VERSION_TRACED ? readTraceHeaders(in) : Map.of();
+        return new EventEnvelope<>(eventType, eventVersion, occurredAt, codecFor(eventType, eventVersion).read(in), traceHeaders);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> EventEnvelope<T> decode(byte[] bytes, Class<T> payloadType) {
+        EventEnvelope<?> envelope = decode(bytes);
+        if (!payloadType.isInstance(envelope.payload())) {
+            throw new IllegalArgumentException("Event " + envelope.eventType() + " does not carry " + payloadType.getSimpleName());
+        }
+        return (EventEnvelope<T>) envelope;
+    }
+
+    public boolean supports(String eventType, String eventVersion) {
+        return codecs.containsKey(new CodecKey(eventType, eventVersion));
+    }
+
+    private PayloadCodec<?> codecFor(String eventType, String eventVersion) {
+        PayloadCodec<?> codec = codecs.get(new CodecKey(eventType, eventVersion));
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec registered for " + eventType + " " + eventVersion);
+        }
+        return codec;
+    }
+
+    private static Map<String, String> readTraceHeaders(EventReader in) {
+        int count = in.readVarInt();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            headers.put(in.readString(), in.readString());
+        }
+        return headers;
+    }
+
+    private static <T> void writePayload(PayloadCodec<T> codec, Object payload, EventWriter out) {
+        codec.write(codec.payloadType().cast(payload), out);
+    }
+
+    private record CodecKey(String eventType, String eventVersion) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.musicstreaming.common.events.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+public final class EventReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public EventReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public EventReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if ((value & ~0xFFFFFFFFL) != 0) {
+            throw new IllegalArgumentException("Varint does not fit in 32 bits");
+        }
+        return (int) value;
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public String readString() {
+        int encodedLength = readVarInt();
+        if (encodedLength == 0) {
+            return null;
+        }
+        int length = encodedLength - 1;
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public Instant readInstant() {
+        long seconds = readSignedVarLong();
+        return Instant.ofEpochSecond(seconds, readVarInt());
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    private void require(int length) {
+        if (length < 0 || limit - position < length) {
+            throw new IllegalArgumentException("Truncated event payload");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.musicstreaming.common.events.codec;
+
+public interface PayloadCodec<T> {
+
+    String eventType();
+
+    String eventVersion();
+
+    Class<T> payloadType();
+
+    void write(T payload, EventWriter out);
+
+    T read(EventReader in);
+}
@@ -0,0 +1,38 @@
+package com.musicstreaming.common.events.codec;
+
+import com.musicstreaming.common.events.TrackUploadedEvent;
+
+/** Version 1.1.0 appends the uploader's user id to the 1.0.0 payload. */
+public final class TrackUploadedEventCodec implements PayloadCodec<TrackUploadedEvent> {
+
+    @Override
+    public String eventType() {
+        return "TrackUploaded";
+    }
+
+    @Override
+    public String eventVersion() {
+        return "1.1.0";
+    }
+
+    @Override
+    public Class<TrackUploadedEvent> payloadType() {
+        return TrackUploadedEvent.class;
+    }
+
+    @Override
+    public void write(TrackUploadedEvent payload, EventWriter out) {
+        TrackUploadedEventV1Codec.writeV1(payload, out);
+        out.writeString(payload.uploaderUserId());
+    }
+
+    @Override
+    public TrackUploadedEvent read(EventReader in) {
+        String trackId = in.readString();
+        String artistId = in.readString();
+        String title = in.readString();
+        String storagePath = in.readString();
+        String schemaVersion = in.readString();
+        return new TrackUploadedEvent(trackId, artistId, in.readString(), title, storagePath, schemaVersion);
+    }
+}
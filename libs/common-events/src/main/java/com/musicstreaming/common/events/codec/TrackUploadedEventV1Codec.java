@@ -0,0 +1,46 @@
+package com.musicstreaming.common.events.codec;
+
+import com.musicstreaming.common.events.TrackUploadedEvent;
+
+/** Reads events produced before the uploader was recorded; they decode with a {@code null} uploader. */
+public final class TrackUploadedEventV1Codec implements PayloadCodec<TrackUploadedEvent> {
+
+    @Override
+    public String eventType() {
+        return "TrackUploaded";
+    }
+
+    @Override
+    public String eventVersion() {
+        return "1.0.0";
+    }
+
+    @Override
+    public Class<TrackUploadedEvent> payloadType() {
+        return TrackUploadedEvent.class;
+    }
+
+    @Override
+    public void write(TrackUploadedEvent payload, EventWriter out) {
+        writeV1(payload, out);
+    }
+
+    @Override
+    public TrackUploadedEvent read(EventReader in) {
+        return new TrackUploadedEvent(
+                in.readString(),
+                in.readString(),
+                null,
+                in.readString(),
+                in.readString(),
+                in.readString());
+    }
+
+    static void writeV1(TrackUploadedEvent payload, EventWriter out) {
+        out.writeString(payload.trackId())
+                .writeString(payload.artistId())
+                .writeString(payload.title())
+                .writeString(payload.storagePath())
+                .writeString(payload.schemaVersion());
+    }
+}
@@ -0,0 +1,120 @@
+package com.musicstreaming.common.events.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EventCodecRegistryTests {
+
+    private static final TrackUploadedEvent EVENT =
+            new TrackUploadedEvent("trk_1", "artist-1", "3f2b8c1e-5d4a-4b6f-9e7d-2a1c0b9f8e7d", "Song", "https://example.com/song.mp3", "1.1.0");
+
+    private final EventCodecRegistry registry = EventCodecRegistry.withDefaults();
+
+    @Test
+    void roundTripsTrackUploadedEnvelope() {
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>("TrackUploaded", "1.1.0", Instant.parse("2026-01-01T00:00:00.123456789Z"), EVENT);
+
+        EventEnvelope<TrackUploadedEvent> decoded = registry.decode(registry.encode(envelope), TrackUploadedEvent.class);
+
+        assertThat(decoded).isEqualTo(envelope);
+    }
+
+    @Test
+    void roundTripsNonAsciiAndEmptyStrings() {
+        TrackUploadedEvent event = new TrackUploadedEvent("trk_2", "artist-ü", null, "Ñandú — 夜曲 🎵", "", "1.1.0");
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>("TrackUploaded", "1.1.0", Instant.EPOCH, event);
+
+        assertThat(registry.decode(registry.encode(envelope), TrackUploadedEvent.class)).isEqualTo(envelope);
+    }
+
+    @Test
+    void decodesEventsWrittenBeforeTheUploaderWasRecorded() {
+        TrackUploadedEvent legacy = new TrackUploadedEvent("trk_1", "artist-1", null, "Song", "https://example.com/song.mp3", "1.0.0");
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>("TrackUploaded", "1.0.0", Instant.EPOCH, legacy);
+        byte[] bytes = new EventWriter()
+                .writeByte(1)
+                .writeString("TrackUploaded")
+                .writeString("1.0.0")
+                .writeInstant(Instant.EPOCH)
+                .writeString("trk_1")
+                .writeString("artist-1")
+                .writeString("Song")
+                .writeString("https://example.com/song.mp3")
+                .writeString("1.0.0")
+                .toByteArray();
+
+        assertThat(registry.decode(bytes, TrackUploadedEvent.class)).isEqualTo(envelope);
+        assertThat(registry.encode(envelope)).isEqualTo(bytes);
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        byte[] bytes = registry.encode(new EventEnvelope<>("TrackUploaded", "1.1.0", Instant.EPOCH, EVENT));
+        bytes[0] = 9;
+
+        assertThatThrownBy(() -> registry.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported event format 9");
+    }
+
+    @Test
+    void rejectsUnknownEventTypeOnEncode() {
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>("PlaylistCreated", "1.0.0", Instant.EPOCH, EVENT);
+
+        assertThatThrownBy(() -> registry.encode(envelope))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No codec registered for PlaylistCreated 1.0.0");
+    }
+
+    @Test
+    void rejectsUnknownEventTypeOnDecode() {
+        byte[] bytes = new EventWriter()
+                .writeByte(1)
+                .writeString("TrackUploaded")
+                .writeString("2.0.0")
+                .writeInstant(Instant.EPOCH)
+                .toByteArray();
+
+        assertThat(registry.supports("TrackUploaded", "2.0.0")).isFalse();
+        assertThatThrownBy(() -> registry.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No codec registered for TrackUploaded 2.0.0");
+    }
+
+    @Test
+    void rejectsDuplicateCodecRegistration() {
+        assertThatThrownBy(() -> new EventCodecRegistry(List.of(new TrackUploadedEventCodec(), new TrackUploadedEventCodec())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate codec");
+    }
+
+    @Test
+    void roundTripsTraceHeaders() {
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>("TrackUploaded", "1.1.0", Instant.parse("2026-01-01T00:00:00Z"), EVENT)
+                .withTraceHeaders(Map.of("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+
+        byte[] bytes = registry.encode(envelope);
+
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+        assertThat(registry.decode(bytes, TrackUploadedEvent.class)).isEqualTo(envelope);
+    }
+
+    @Test
+    void untracedEnvelopesKeepTheOriginalFormat() {
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>("TrackUploaded", "1.1.0", Instant.parse("2026-01-01T00:00:00Z"), EVENT);
+
+        byte[] bytes = registry.encode(envelope);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        EventEnvelope<TrackUploadedEvent> decoded = registry.decode(bytes, TrackUploadedEvent.class);
+        assertThat(decoded).isEqualTo(envelope);
+        assertThat(decoded.traceHeaders()).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.musicstreaming.common.observability;
+
+import com.musicstreaming.common.observability.db.DbRoundTripFilter;
+import com.musicstreaming.common.observability.db.InstrumentedDataSource;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Hot-path instrumentation shared by the services: {@code @Timed} and {@code @Observed} support, per-request
+ * database round-trip counts ({@code http.server.requests.db.round.trips}) and JDBC spans.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    // The registry is looked up on first use: data sources are created before observation handlers are wired.
+    @Bean
+    @ConditionalOnProperty(prefix = "observability.db-round-trips", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        SingletonSupplier<ObservationRegistry> registry =
+                SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? InstrumentedDataSource.wrap(dataSource, registry) : bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "observability.db-round-trips", name = "enabled", havingValue = "true", matchIfMissing = true)
+    DbRoundTripFilter dbRoundTripFilter(MeterRegistry meterRegistry) {
+        return new DbRoundTripFilter(meterRegistry);
+    }
+}
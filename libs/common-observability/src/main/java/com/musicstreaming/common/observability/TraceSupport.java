@@ -1,12 +1,22 @@
 package com.musicstreaming.common.observability;
 
 import java.util.UUID;
+import org.slf4j.MDC;
 
 public final class TraceSupport {
 
+    // Micrometer Tracing keeps the current trace id in the logging MDC under this key.
+    private static final String TRACE_ID_KEY = "traceId";
+
     private TraceSupport() {
     }
 
+    /** The id of the trace the current request belongs to, so error bodies can be matched to logs and spans. */
+    public static String currentTraceId() {
+        String traceId = MDC.get(TRACE_ID_KEY);
+        return traceId == null || traceId.isEmpty() ? newTraceId() : traceId;
+    }
+
     public static String newTraceId() {
         return UUID.randomUUID().toString().replace("-", "");
     }
@@ -0,0 +1,41 @@
+package com.musicstreaming.common.observability.db;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** Records how many database round trips each handled request made, tagged like {@code http.server.requests}. */
+public class DbRoundTripFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public DbRoundTripFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DbRoundTrips.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int roundTrips = DbRoundTrips.end();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (uri != null) {
+                DistributionSummary.builder("http.server.requests.db.round.trips")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri.toString())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(roundTrips);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.musicstreaming.common.observability.db;
+
+/**
+ * Round trips issued by the current thread while a request is being counted. Work handed to other threads (async
+ * dispatch, streaming response bodies) is not attributed to the request.
+ */
+public final class DbRoundTrips {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private DbRoundTrips() {
+    }
+
+    public static int current() {
+        int[] counter = CURRENT.get();
+        return counter == null ? 0 : counter[0];
+    }
+
+    static void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    static int end() {
+        int count = current();
+        CURRENT.remove();
+        return count;
+    }
+
+    static void increment() {
+        int[] counter = CURRENT.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.musicstreaming.common.observability.db;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Wraps a {@link DataSource} so every statement execution, commit and rollback counts towards
+ * {@link DbRoundTrips}, and statements executed inside an observed request or consumer get a
+ * {@code jdbc.execute} observation (and therefore a span). The proxies keep all interfaces of the wrapped
+ * objects, so pool MXBeans, {@code unwrap} and {@code close} still reach the pool.
+ */
+public final class InstrumentedDataSource {
+
+    private InstrumentedDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource, Supplier<ObservationRegistry> observationRegistry) {
+        return proxy(dataSource, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return method.getName().equals("getConnection") ? connection((Connection) result, observationRegistry) : result;
+        });
+    }
+
+    private static Connection connection(Connection connection, Supplier<ObservationRegistry> observationRegistry) {
+        return proxy(connection, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("commit") || name.equals("rollback")) {
+                DbRoundTrips.increment();
+            }
+            Object result = invoke(connection, method, args);
+            return switch (name) {
+                case "createStatement" -> statement((Statement) result, null, observationRegistry);
+                case "prepareStatement", "prepareCall" -> statement((Statement) result, (String) args[0], observationRegistry);
+                default -> result;
+            };
+        });
+    }
+
+    private static Statement statement(Statement statement, String preparedSql, Supplier<ObservationRegistry> observationRegistry) {
+        return proxy(statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            DbRoundTrips.increment();
+            ObservationRegistry registry = observationRegistry.get();
+            if (registry.getCurrentObservation() == null) {
+                return invoke(statement, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            String operation = operation(sql);
+            Observation observation = Observation.createNotStarted("jdbc.execute", registry)
+                    .contextualName("jdbc " + operation)
+                    .lowCardinalityKeyValue("db.operation", operation)
+                    .highCardinalityKeyValue("db.statement", sql == null ? "" : sql)
+                    .start();
+            try (Observation.Scope ignored = observation.openScope()) {
+                return invoke(statement, method, args);
+            } catch (Throwable ex) {
+                observation.error(ex);
+                throw ex;
+            } finally {
+                observation.stop();
+            }
+        });
+    }
+
+    private static String operation(String sql) {
+        if (sql == null) {
+            return "batch";
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "other" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), ClassUtils.getAllInterfaces(target), handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
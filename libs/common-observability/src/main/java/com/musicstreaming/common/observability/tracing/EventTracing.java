@@ -0,0 +1,46 @@
+package com.musicstreaming.common.observability.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries trace context across the event stream. Producers store {@link #currentTraceHeaders()} in the event
+ * envelope when the event is created, which may be long before it is relayed; consumers wrap their handling in
+ * {@link #observeConsumer} so it joins the producing request's trace.
+ */
+@Component
+public class EventTracing {
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final ObservationRegistry observationRegistry;
+
+    public EventTracing(Tracer tracer, Propagator propagator, ObservationRegistry observationRegistry) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.observationRegistry = observationRegistry;
+    }
+
+    public Map<String, String> currentTraceHeaders() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return Map.of();
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        propagator.inject(span.context(), headers, Map::put);
+        return headers;
+    }
+
+    public void observeConsumer(String name, Map<String, String> traceHeaders, Runnable handler) {
+        ReceiverContext<Map<String, String>> context = new ReceiverContext<>((carrier, key) -> carrier.get(key));
+        context.setCarrier(traceHeaders);
+        Observation.createNotStarted(name, () -> context, observationRegistry).observe(handler);
+    }
+}
@@ -0,0 +1,39 @@
+package com.musicstreaming.common.observability.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class DbRoundTripFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DbRoundTripFilter filter = new DbRoundTripFilter(meterRegistry);
+
+    @Test
+    void recordsRoundTripsAgainstTheMatchedRoute() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/playlists/42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            DbRoundTrips.increment();
+            DbRoundTrips.increment();
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/playlists/{playlistId}");
+        });
+
+        assertThat(meterRegistry.get("http.server.requests.db.round.trips")
+                .tags("method", "GET", "uri", "/api/v1/playlists/{playlistId}")
+                .summary()
+                .totalAmount()).isEqualTo(2);
+        assertThat(DbRoundTrips.current()).isZero();
+    }
+
+    @Test
+    void skipsRequestsThatMatchedNoHandler() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(), (req, res) -> { });
+
+        assertThat(meterRegistry.find("http.server.requests.db.round.trips").meters()).isEmpty();
+    }
+}
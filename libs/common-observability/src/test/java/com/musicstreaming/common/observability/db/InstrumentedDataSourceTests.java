@@ -0,0 +1,106 @@
+package com.musicstreaming.common.observability.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedDataSourceTests {
+
+    private final DataSource target = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    private final Statement statement = mock(Statement.class);
+    private final List<String> observed = new ArrayList<>();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    InstrumentedDataSourceTests() {
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add(context.getName() + " " + context.getContextualName());
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbRoundTrips.end();
+    }
+
+    @Test
+    void countsStatementExecutionsAndTransactionEnds() throws Exception {
+        stubConnection();
+        DataSource dataSource = InstrumentedDataSource.wrap(target, () -> observationRegistry);
+        DbRoundTrips.begin();
+
+        Connection borrowed = dataSource.getConnection();
+        borrowed.prepareStatement("select 1").executeQuery();
+        Statement batch = borrowed.createStatement();
+        batch.addBatch("update a set b = 1");
+        batch.executeBatch();
+        borrowed.commit();
+        borrowed.close();
+
+        assertThat(DbRoundTrips.end()).isEqualTo(3);
+        verify(preparedStatement).executeQuery();
+        verify(connection).close();
+    }
+
+    @Test
+    void ignoresStatementsOutsideACountedRequest() throws Exception {
+        stubConnection();
+        DataSource dataSource = InstrumentedDataSource.wrap(target, () -> observationRegistry);
+
+        dataSource.getConnection().prepareStatement("select 1").executeQuery();
+
+        assertThat(DbRoundTrips.current()).isZero();
+    }
+
+    @Test
+    void observesStatementsOnlyInsideAnObservedRequest() throws Exception {
+        stubConnection();
+        DataSource dataSource = InstrumentedDataSource.wrap(target, () -> observationRegistry);
+
+        dataSource.getConnection().prepareStatement("select 1").executeQuery();
+        Observation.createNotStarted("http.server.requests", observationRegistry).observeChecked(() -> {
+            dataSource.getConnection().prepareStatement("select 1").executeQuery();
+        });
+
+        assertThat(observed).containsExactly("jdbc.execute jdbc select", "http.server.requests null");
+    }
+
+    @Test
+    void keepsThePoolsOtherInterfaces() throws Exception {
+        DataSource dataSource = InstrumentedDataSource.wrap(target, () -> observationRegistry);
+
+        assertThat(dataSource).isInstanceOf(Closeable.class);
+        ((Closeable) dataSource).close();
+        verify((Closeable) target).close();
+    }
+
+    private void stubConnection() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+    }
+}
@@ -0,0 +1,69 @@
+package com.musicstreaming.common.observability.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventTracingTests {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+    private final Tracer tracer = new OtelTracer(openTelemetry.getTracer("test"), new OtelCurrentTraceContext(), event -> { });
+    private final OtelPropagator propagator = new OtelPropagator(openTelemetry.getPropagators(), openTelemetry.getTracer("test"));
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+    private final EventTracing eventTracing = new EventTracing(tracer, propagator, observationRegistry);
+
+    EventTracingTests() {
+        observationRegistry.observationConfig().observationHandler(new PropagatingReceiverTracingObservationHandler<>(tracer, propagator));
+    }
+
+    @AfterEach
+    void tearDown() {
+        openTelemetry.close();
+    }
+
+    @Test
+    void consumerContinuesTheTraceCapturedByTheProducer() {
+        Span upload = tracer.nextSpan().name("upload").start();
+        Map<String, String> headers;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(upload)) {
+            headers = eventTracing.currentTraceHeaders();
+        } finally {
+            upload.end();
+        }
+
+        eventTracing.observeConsumer("feed.fanout", headers, () -> { });
+
+        assertThat(headers).containsKey("traceparent");
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(2);
+        SpanData consumer = spans.get(1);
+        assertThat(consumer.getTraceId()).isEqualTo(upload.context().traceId());
+        assertThat(consumer.getParentSpanId()).isEqualTo(upload.context().spanId());
+    }
+
+    @Test
+    void noTraceHeadersOutsideASpan() {
+        assertThat(eventTracing.currentTraceHeaders()).isEmpty();
+    }
+}
@@ -0,0 +1,26 @@
+package com.musicstreaming.common.search;
+
+import java.util.Locale;
+
+/** Query helpers shared by the tiered typeahead searches over tracks and users. */
+public final class TypeaheadQueries {
+
+    /** Shorter queries match too many trigrams to be a useful typo fallback. */
+    public static final int MIN_FUZZY_QUERY_LENGTH = 3;
+
+    private TypeaheadQueries() {
+    }
+
+    /** Lower-cases {@code query} and escapes LIKE wildcards so it matches as a literal prefix. */
+    public static String likePrefix(String query) {
+        String escaped = query.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    public static boolean allowsFuzzy(String query) {
+        return query.length() >= MIN_FUZZY_QUERY_LENGTH;
+    }
+}
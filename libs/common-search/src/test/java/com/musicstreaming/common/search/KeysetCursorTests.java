@@ -0,0 +1,46 @@
+package com.musicstreaming.common.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class KeysetCursorTests {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        Instant createdAt = Instant.parse("2026-01-02T10:00:00.123456Z");
+        UUID id = UUID.randomUUID();
+
+        String encoded = KeysetCursor.encode(createdAt, id);
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        Map.Entry<Instant, UUID> decoded = KeysetCursor.decode(encoded, (at, raw) -> Map.entry(at, UUID.fromString(raw)));
+        assertThat(decoded).isEqualTo(Map.entry(createdAt, id));
+    }
+
+    @Test
+    void rejectsMalformedCursorsWithBadRequest() {
+        String notBase64 = "***";
+        String noSeparator = encodeRaw("2026-01-02T10:00:00Z");
+        String badInstant = encodeRaw("yesterday|trk_1");
+        String badId = encodeRaw("2026-01-02T10:00:00Z|not-a-uuid");
+
+        for (String value : new String[] {notBase64, noSeparator, badInstant, badId}) {
+            assertThatThrownBy(() -> KeysetCursor.decode(value, (at, raw) -> UUID.fromString(raw)))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,19 @@
+package com.musicstreaming.common.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TypeaheadQueriesTests {
+
+    @Test
+    void escapesLikeWildcardsInQuery() {
+        assertThat(TypeaheadQueries.likePrefix("100%_Pure\\")).isEqualTo("100\\%\\_pure\\\\%");
+    }
+
+    @Test
+    void fuzzyMatchingNeedsThreeCharacters() {
+        assertThat(TypeaheadQueries.allowsFuzzy("ab")).isFalse();
+        assertThat(TypeaheadQueries.allowsFuzzy("abc")).isTrue();
+    }
+}
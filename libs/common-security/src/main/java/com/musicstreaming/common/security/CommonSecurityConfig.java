@@ -1,10 +1,20 @@
 package com.musicstreaming.common.security;
 
+import com.musicstreaming.common.security.jwt.CachingJwtDecoder;
+import com.musicstreaming.common.security.jwt.TimedJwtDecoder;
+import com.musicstreaming.common.security.ratelimit.RateLimitFilter;
+import com.musicstreaming.common.security.ratelimit.RateLimitProperties;
+import com.musicstreaming.common.security.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,7 +27,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
@@ -28,13 +41,23 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class CommonSecurityConfig {
 
     private final String allowedOriginsProperty;
+    private final Integer serverPort;
+    private final Integer managementPort;
 
-    public CommonSecurityConfig(@Value("${security.cors.allowed-origins:http://localhost:8080,http://127.0.0.1:8080,http://localhost:8088,http://127.0.0.1:8088,http://localhost:5173,http://127.0.0.1:5173}") String allowedOriginsProperty) {
+    public CommonSecurityConfig(
+            @Value("${security.cors.allowed-origins:http://localhost:8080,http://127.0.0.1:8080,http://localhost:8088,http://127.0.0.1:8088,http://localhost:5173,http://127.0.0.1:5173}") String allowedOriginsProperty,
+            @Value("${server.port:8080}") Integer serverPort,
+            @Value("${management.server.port:}") Integer managementPort) {
         this.allowedOriginsProperty = allowedOriginsProperty;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            RateLimitProperties rateLimitProperties,
+            RateLimitStore rateLimitStore) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
@@ -48,23 +71,47 @@ public class CommonSecurityConfig {
                                 "/swagger-ui/**",
                                 "/swagger-ui.html")
                         .permitAll()
+                        .requestMatchers(new AndRequestMatcher(PathPatternRequestMatcher.withDefaults().matcher("/actuator/prometheus"), this::onManagementPort)).permitAll()
                         .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .anyRequest()
                         .authenticated())
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> {}));
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> {}))
+                .addFilterAfter(new RateLimitFilter(rateLimitProperties, rateLimitStore), BearerTokenAuthenticationFilter.class);
         return http.build();
     }
 
+    // Metrics are scraped without a token only on a dedicated management port, which is kept off the public network;
+    // on the application port they need a bearer token like any other endpoint.
+    private boolean onManagementPort(HttpServletRequest request) {
+        return managementPort != null
+                && managementPort > 0
+                && !managementPort.equals(serverPort)
+                && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
     @Bean
-    JwtDecoder jwtDecoder(@Value("${security.jwt.secret}") String jwtSecret) {
+    JwtDecoder jwtDecoder(
+            @Value("${security.jwt.secret}") String jwtSecret,
+            @Value("${security.jwt.decode-cache.max-entries:10000}") long decodeCacheMaxEntries,
+            @Value("${security.jwt.decode-cache.max-ttl:PT15M}") Duration decodeCacheMaxTtl,
+            ObjectProvider<MeterRegistry> meterRegistry) {
         SecretKey key = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        return NimbusJwtDecoder.withSecretKey(key).build();
+        JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).build();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (decodeCacheMaxEntries > 0) {
+            CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(decoder, decodeCacheMaxEntries, decodeCacheMaxTtl);
+            if (registry != null) {
+                CaffeineCacheMetrics.monitor(registry, cachingDecoder.cache(), "security.jwt.decode");
+            }
+            decoder = cachingDecoder;
+        }
+        return registry == null ? decoder : new TimedJwtDecoder(decoder, registry);
     }
 
     @Bean
@@ -78,7 +125,7 @@ public class CommonSecurityConfig {
         configuration.setAllowedOriginPatterns(allowedOrigins);
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Location"));
+        configuration.setExposedHeaders(List.of("Location", "X-Next-Cursor", "Retry-After", "X-RateLimit-Remaining"));
         configuration.setAllowCredentials(false);
         configuration.setMaxAge(3600L);
 
@@ -0,0 +1,39 @@
+package com.musicstreaming.common.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/** Records {@code security.jwt.decode} around every bearer-token decode, tagged by whether the token was accepted. */
+public class TimedJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Timer accepted;
+    private final Timer rejected;
+
+    public TimedJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.accepted = timer(meterRegistry, "accepted");
+        this.rejected = timer(meterRegistry, "rejected");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long startedAt = System.nanoTime();
+        Timer timer = rejected;
+        try {
+            Jwt jwt = delegate.decode(token);
+            timer = accepted;
+            return jwt;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.decode").tag("outcome", outcome).publishPercentileHistogram().register(meterRegistry);
+    }
+}
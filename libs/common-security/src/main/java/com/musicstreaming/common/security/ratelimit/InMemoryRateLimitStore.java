@@ -0,0 +1,45 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Buckets are per instance: N replicas admit up to N times the configured rate. Use the redis store for a shared limit.
+@Component
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "store", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryRateLimitStore(RateLimitProperties properties) {
+        this(properties.getMaxBuckets(), properties.longestRefill(), System::nanoTime);
+    }
+
+    // Idle buckets refill completely within longestRefill, so evicting them after that is indistinguishable from keeping them.
+    InMemoryRateLimitStore(long maxBuckets, Duration longestRefill, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(longestRefill)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        AtomicLong bucket = buckets.get(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long current = bucket.get();
+            RateLimitDecision.Step step = RateLimitDecision.step(current, nanoClock.getAsLong(), rule);
+            if (!step.decision().allowed() || bucket.compareAndSet(current, step.theoreticalArrival())) {
+                return step.decision();
+            }
+        }
+    }
+}
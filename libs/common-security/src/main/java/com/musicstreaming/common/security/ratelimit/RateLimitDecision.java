@@ -0,0 +1,32 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import java.time.Duration;
+
+public record RateLimitDecision(boolean allowed, long remaining, Duration retryAfter) {
+
+    static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, Duration.ZERO);
+    }
+
+    static RateLimitDecision reject(long waitNanos) {
+        return new RateLimitDecision(false, 0, Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * One GCRA step. {@code theoreticalArrival} is when the bucket would be full again ({@code <= now} means full);
+     * returns the decision and, if allowed, the value to store.
+     */
+    static Step step(long theoreticalArrival, long now, RateLimitRule rule) {
+        long interval = rule.emissionIntervalNanos();
+        long next = Math.max(theoreticalArrival, now) + interval;
+        long backlog = next - now;
+        long wait = backlog - rule.burstNanos();
+        if (wait > 0) {
+            return new Step(reject(wait), theoreticalArrival);
+        }
+        return new Step(allow((rule.burstNanos() - backlog) / interval), next);
+    }
+
+    record Step(RateLimitDecision decision, long theoreticalArrival) {
+    }
+}
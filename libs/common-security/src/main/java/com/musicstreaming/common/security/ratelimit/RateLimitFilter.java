@@ -0,0 +1,110 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import com.musicstreaming.common.observability.TraceSupport;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Token-bucket admission control for the routes listed under {@code security.rate-limit.routes}. Registered in the
+ * security chain after bearer-token authentication so {@code USER} routes can key on the JWT subject. Over-limit
+ * requests get 429 with {@code Retry-After} before any controller work (bcrypt, uploads, queries) happens.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimitStore store;
+    private final List<CompiledRoute> routes;
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitStore store) {
+        this.store = store;
+        this.routes = properties.isEnabled()
+                ? properties.getRoutes().stream().map(CompiledRoute::of).toList()
+                : List.of();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRoute route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = store.tryAcquire(route.name() + ":" + clientKey(route.key(), request), route.rule());
+        if (decision.allowed()) {
+            response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setHeader(REMAINING_HEADER, "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("""
+                {"code":"TOO_MANY_REQUESTS","message":"Rate limit exceeded, retry in %d s","details":[],"traceId":"%s"}"""
+                .formatted(retryAfterSeconds, TraceSupport.currentTraceId()));
+    }
+
+    private CompiledRoute match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledRoute route : routes) {
+            if ((route.method() == null || route.method().equals(request.getMethod())) && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // The client address is whatever the servlet container reports; behind a proxy, set
+    // server.forward-headers-strategy so it reflects X-Forwarded-For from trusted hops only.
+    private static String clientKey(RateLimitProperties.KeyType keyType, HttpServletRequest request) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication instanceof JwtAuthenticationToken jwt && jwt.isAuthenticated()) {
+                return "user:" + jwt.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record CompiledRoute(String name, String method, PathPattern pattern, RateLimitProperties.KeyType key, RateLimitRule rule) {
+
+        static CompiledRoute of(RateLimitProperties.Route route) {
+            if (route.getName() == null || route.getPattern() == null) {
+                throw new IllegalArgumentException("Rate limit routes need a name and a pattern");
+            }
+            return new CompiledRoute(
+                    route.getName(),
+                    route.getMethod() == null ? null : route.getMethod().toUpperCase(Locale.ROOT),
+                    PathPatternParser.defaultInstance.parse(route.getPattern()),
+                    route.getKey(),
+                    route.toRule());
+        }
+    }
+}
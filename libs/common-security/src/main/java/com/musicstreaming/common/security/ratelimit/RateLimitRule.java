@@ -0,0 +1,25 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A token bucket holding up to {@code capacity} requests that regains {@code refillTokens} every
+ * {@code refillPeriod}. Stores track it as the time the bucket will next be full (GCRA), so a bucket is one number.
+ */
+public record RateLimitRule(int capacity, int refillTokens, Duration refillPeriod) {
+
+    public RateLimitRule {
+        if (capacity < 1 || refillTokens < 1 || refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException(
+                    "Rate limit needs capacity >= 1, refill-tokens >= 1 and a positive refill-period");
+        }
+    }
+
+    public long emissionIntervalNanos() {
+        return Math.max(1, refillPeriod.toNanos() / refillTokens);
+    }
+
+    public long burstNanos() {
+        return emissionIntervalNanos() * capacity;
+    }
+}
@@ -0,0 +1,9 @@
+package com.musicstreaming.common.security.ratelimit;
+
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket named {@code key}, creating it full on first use.
+     */
+    RateLimitDecision tryAcquire(String key, RateLimitRule rule);
+}
@@ -0,0 +1,72 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// Shares buckets across replicas. When Redis is unavailable each instance falls back to its own buckets
+// rather than rejecting or admitting everything.
+@Component
+@ConditionalOnProperty(prefix = "security.rate-limit", name = "store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimitStore.class);
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // Same GCRA step as RateLimitDecision.step, in microseconds of Redis server time so replicas need no clock sync.
+    private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if tat < now then tat = now end
+            local next = tat + interval
+            local backlog = next - now
+            if backlog > burst then
+                return {0, backlog - burst}
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.ceil(backlog / 1000))
+            return {1, math.floor((burst - backlog) / interval)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitStore fallback;
+
+    @Autowired
+    public RedisRateLimitStore(RedisConnectionFactory connectionFactory, RateLimitProperties properties) {
+        this(new StringRedisTemplate(connectionFactory), new InMemoryRateLimitStore(properties));
+    }
+
+    RedisRateLimitStore(StringRedisTemplate redisTemplate, RateLimitStore fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        long intervalMicros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(rule.emissionIntervalNanos()));
+        try {
+            List<?> result = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(KEY_PREFIX + key),
+                    Long.toString(intervalMicros),
+                    Long.toString(intervalMicros * rule.capacity()));
+            long value = ((Number) result.get(1)).longValue();
+            return ((Number) result.get(0)).longValue() == 1
+                    ? RateLimitDecision.allow(value)
+                    : RateLimitDecision.reject(TimeUnit.MICROSECONDS.toNanos(value));
+        } catch (DataAccessException ex) {
+            log.warn("Redis rate limit check failed for {}, using local bucket", key, ex);
+            return fallback.tryAcquire(key, rule);
+        }
+    }
+}
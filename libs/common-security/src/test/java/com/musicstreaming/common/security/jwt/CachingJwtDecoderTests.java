@@ -0,0 +1,61 @@
+package com.musicstreaming.common.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+class CachingJwtDecoderTests {
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    @Test
+    void verifiesEachTokenOnceUntilItExpires() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate(Instant.now().plusSeconds(300)), 100, Duration.ofMinutes(15));
+
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void doesNotKeepTokensPastTheirExpiry() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate(Instant.now().minusSeconds(1)), 100, Duration.ofMinutes(15));
+
+        decoder.decode("token-a");
+        decoder.decode("token-a");
+
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() {
+        JwtDecoder failing = token -> {
+            delegateCalls.incrementAndGet();
+            throw new BadJwtException("bad signature");
+        };
+        CachingJwtDecoder decoder = new CachingJwtDecoder(failing, 100, Duration.ofMinutes(15));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        }
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    private JwtDecoder delegate(Instant expiresAt) {
+        return token -> {
+            delegateCalls.incrementAndGet();
+            return new Jwt(token, expiresAt.minusSeconds(600), expiresAt, Map.of("alg", "HS256"), Map.of("sub", token));
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimitStoreTests {
+
+    private static final RateLimitRule THREE_PER_SECOND = new RateLimitRule(3, 3, Duration.ofSeconds(1));
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(1_000, Duration.ofMinutes(1), clock::get);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejectsWithRetryAfter() {
+        assertThat(store.tryAcquire("k", THREE_PER_SECOND).remaining()).isEqualTo(2);
+        assertThat(store.tryAcquire("k", THREE_PER_SECOND).remaining()).isEqualTo(1);
+        assertThat(store.tryAcquire("k", THREE_PER_SECOND).remaining()).isZero();
+
+        RateLimitDecision rejected = store.tryAcquire("k", THREE_PER_SECOND);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofNanos(TimeUnit.SECONDS.toNanos(1) / 3));
+    }
+
+    @Test
+    void refillsOneTokenPerIntervalAndNeverAboveCapacity() {
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("k", THREE_PER_SECOND);
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1) / 3);
+        assertThat(store.tryAcquire("k", THREE_PER_SECOND).allowed()).isTrue();
+        assertThat(store.tryAcquire("k", THREE_PER_SECOND).allowed()).isFalse();
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(store.tryAcquire("k", THREE_PER_SECOND).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("a", THREE_PER_SECOND);
+        }
+
+        assertThat(store.tryAcquire("a", THREE_PER_SECOND).allowed()).isFalse();
+        assertThat(store.tryAcquire("b", THREE_PER_SECOND).allowed()).isTrue();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws InterruptedException {
+        RateLimitRule rule = new RateLimitRule(100, 1, Duration.ofHours(1));
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                if (store.tryAcquire("shared", rule).allowed()) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(admitted).hasValue(100);
+    }
+
+    @Test
+    void rejectsRulesWithoutCapacity() {
+        assertThatThrownBy(() -> new RateLimitRule(0, 1, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
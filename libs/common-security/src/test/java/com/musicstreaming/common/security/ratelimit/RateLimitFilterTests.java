@@ -0,0 +1,93 @@
+package com.musicstreaming.common.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class RateLimitFilterTests {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(
+                route("login", "post", "/api/v1/public/auth/login", RateLimitProperties.KeyType.IP, 2),
+                route("discover", null, "/api/v1/users/discover/**", RateLimitProperties.KeyType.USER, 1)));
+        filter = new RateLimitFilter(properties, new InMemoryRateLimitStore(1_000, Duration.ofMinutes(1), System::nanoTime));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsOverLimitRequestsWith429AndRetryAfter() throws Exception {
+        assertThat(call("POST", "/api/v1/public/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("POST", "/api/v1/public/auth/login", "10.0.0.1").getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+
+        MockHttpServletResponse rejected = call("POST", "/api/v1/public/auth/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(rejected.getContentAsString()).contains("\"code\":\"TOO_MANY_REQUESTS\"");
+        assertThat(call("POST", "/api/v1/public/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void leavesUnmatchedMethodsAndPathsAlone() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(call("GET", "/api/v1/public/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(call("POST", "/api/v1/users/me/follows/x", "10.0.0.1").getHeader(RateLimitFilter.REMAINING_HEADER)).isNull();
+        }
+    }
+
+    @Test
+    void userRoutesKeyOnJwtSubjectAcrossAddresses() throws Exception {
+        authenticate("user-1");
+        assertThat(call("GET", "/api/v1/users/discover", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call("GET", "/api/v1/users/discover/suggested", "10.0.0.2").getStatus()).isEqualTo(429);
+
+        authenticate("user-2");
+        assertThat(call("GET", "/api/v1/users/discover", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse call(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(String subject) {
+        Jwt jwt = new Jwt("token", Instant.now(), Instant.now().plusSeconds(60), Map.of("alg", "HS256"), Map.of("sub", subject));
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, List.of()));
+    }
+
+    private static RateLimitProperties.Route route(
+            String name, String method, String pattern, RateLimitProperties.KeyType key, int capacity) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName(name);
+        route.setMethod(method);
+        route.setPattern(pattern);
+        route.setKey(key);
+        route.setCapacity(capacity);
+        route.setRefillTokens(capacity);
+        route.setRefillPeriod(Duration.ofMinutes(1));
+        return route;
+    }
+}
@@ -0,0 +1,69 @@
+package com.musicstreaming.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and error counts per endpoint template (for example {@code GET /api/v1/users/me/playlists/{id}}).
+ * Samples are dropped until {@link #startMeasuring()} so warmup traffic does not skew the percentiles. Errors are
+ * counted by status code, with 0 standing for transport failures and timeouts.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    void record(String endpoint, long elapsedNanos, int status) {
+        if (!measuring) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, ignored -> new Endpoint());
+        stats.latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (status / 100 != 2) {
+            stats.errors.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    Map<String, Summary> summarize(double elapsedSeconds) {
+        Map<String, Summary> summaries = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            Histogram latency = stats.latencyMicros.copy();
+            Map<Integer, Long> errorsByStatus = new TreeMap<>();
+            stats.errors.forEach((status, count) -> errorsByStatus.put(status, count.sum()));
+            summaries.put(endpoint, new Summary(
+                    latency.getTotalCount(),
+                    errorsByStatus.values().stream().mapToLong(Long::longValue).sum(),
+                    errorsByStatus,
+                    latency.getTotalCount() / elapsedSeconds,
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue())));
+        });
+        return summaries;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Endpoint {
+        private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+    }
+
+    record Summary(long requests, long errors, Map<Integer, Long> errorsByStatus, double throughput, double p50Millis,
+            double p99Millis, double p999Millis, double maxMillis) {
+    }
+}
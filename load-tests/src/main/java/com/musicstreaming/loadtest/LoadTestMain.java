@@ -0,0 +1,198 @@
+package com.musicstreaming.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.musicstreaming.loadtest.EndpointStats.Summary;
+import com.musicstreaming.loadtest.MusicApi.Account;
+import com.musicstreaming.loadtest.Scenario.Workload;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mixed-traffic load test against both services. Seeds accounts and tracks, runs {@code --users} virtual users
+ * through the scenario mix for the warmup plus the measured duration, then prints throughput and p50/p99/p99.9
+ * latency per endpoint and writes the same numbers to {@code <results-dir>/<run-id>/report.json}.
+ */
+public final class LoadTestMain {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int SEED_PARALLELISM = 16;
+    private static final int SEED_UPLOAD_BYTES = 4 * 1024;
+    private static final int SEED_ATTEMPTS = 5;
+    private static final Duration SEED_RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        String runId = RUN_ID.format(LocalDateTime.now());
+        Path runDir = Files.createDirectories(options.resultsDir().resolve(runId));
+        if (options.startsStandIns()) {
+            System.out.println("Starting embedded Postgres and both services; logs in " + runDir);
+            try (StandIns standIns = StandIns.start(options.servicesDir(), runDir)) {
+                run(options, runId, runDir, standIns.userService(), standIns.mediaService());
+            }
+        } else {
+            run(options, runId, runDir, options.userServiceUrl(), options.mediaServiceUrl());
+        }
+    }
+
+    private static void run(LoadTestOptions options, String runId, Path runDir, URI userService, URI mediaService)
+            throws IOException, InterruptedException {
+        EndpointStats stats = new EndpointStats();
+        MusicApi api = new MusicApi(userService, mediaService, stats);
+
+        List<Account> accounts = seedAccounts(api, runId, options.users());
+        seedTracks(api, accounts, options.seedTracks());
+
+        byte[] uploadBody = new byte[options.uploadBytes()];
+        ThreadLocalRandom.current().nextBytes(uploadBody);
+        Workload workload = new Workload(options.mix(), uploadBody);
+
+        System.out.printf("Running %d users: %s warmup, %s measured%n", options.users(), options.warmup(), options.duration());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                Account account = accounts.get(i);
+                // Users join over the first half of the warmup rather than all at once.
+                long joinAt = start + options.warmup().toNanos() / 2 * i / options.users();
+                users.submit(() -> {
+                    sleepUntil(joinAt);
+                    while (System.nanoTime() < end) {
+                        workload.next().run(api, account, workload);
+                        Thread.sleep(options.thinkTime());
+                    }
+                    return null;
+                });
+            }
+            sleepUntil(measureFrom);
+            stats.startMeasuring();
+            sleepUntil(end);
+        }
+        long measuredNanos = System.nanoTime() - measureFrom;
+
+        Map<String, Summary> summaries = stats.summarize(measuredNanos / 1e9);
+        print(summaries);
+        Path report = runDir.resolve("report.json");
+        writeReport(report, runId, options, userService, mediaService, summaries);
+        System.out.println("Report written to " + report);
+    }
+
+    private static List<Account> seedAccounts(MusicApi api, String runId, int count) throws InterruptedException {
+        List<Account> accounts = Collections.synchronizedList(new ArrayList<>(count));
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService seeders = Executors.newFixedThreadPool(SEED_PARALLELISM)) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                seeders.submit(() -> {
+                    Account account = seedAccount(api, "load-" + runId + "-" + index + "@example.com", "Load Test " + index);
+                    if (account != null) {
+                        accounts.add(account);
+                    } else {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " of " + count + " accounts could not register or sign in;"
+                    + " are the services up and their rate limits disabled?");
+        }
+        return accounts;
+    }
+
+    // Sign-ups hash passwords on a bounded pool that answers 503 when saturated, so a cold service needs retries.
+    private static Account seedAccount(MusicApi api, String email, String displayName) throws InterruptedException {
+        Account account = null;
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            if (account == null) {
+                account = api.register(email, displayName);
+            }
+            if (account != null && api.login(account)) {
+                return account;
+            }
+            Thread.sleep(SEED_RETRY_BACKOFF.multipliedBy(attempt));
+        }
+        return null;
+    }
+
+    private static void seedTracks(MusicApi api, List<Account> accounts, int count) {
+        if (count == 0) {
+            return;
+        }
+        System.out.printf("Seeding %d tracks%n", count);
+        byte[] body = new byte[SEED_UPLOAD_BYTES];
+        try (ExecutorService seeders = Executors.newFixedThreadPool(SEED_PARALLELISM)) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                seeders.submit(() -> api.uploadTrack(accounts.get(index % accounts.size()), "Seed track " + index,
+                        Scenario.GENRES.get(index % Scenario.GENRES.size()), body));
+            }
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private static void print(Map<String, Summary> summaries) {
+        System.out.printf("%n%-48s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        summaries.forEach((endpoint, summary) -> System.out.printf("%-48s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%s%n",
+                endpoint, summary.requests(), summary.errors(), summary.throughput(),
+                summary.p50Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis(),
+                summary.errors() == 0 ? "" : "  errors by status " + summary.errorsByStatus()));
+        System.out.println();
+    }
+
+    private static void writeReport(Path report, String runId, LoadTestOptions options, URI userService, URI mediaService,
+            Map<String, Summary> summaries) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("runId", runId);
+        document.put("userService", userService.toString());
+        document.put("mediaService", mediaService.toString());
+        document.put("standIns", options.startsStandIns());
+        document.put("users", options.users());
+        document.put("warmup", options.warmup().toString());
+        document.put("duration", options.duration().toString());
+        document.put("thinkTime", options.thinkTime().toString());
+        document.put("uploadBytes", options.uploadBytes());
+        document.put("seedTracks", options.seedTracks());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((scenario, weight) -> mix.put(scenario.wireName(), weight));
+        document.put("mix", mix);
+        document.put("endpoints", summaries);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), document);
+    }
+}
@@ -0,0 +1,113 @@
+package com.musicstreaming.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line settings, given as {@code --name=value}. When both service URLs are omitted the harness starts
+ * its own stand-ins (embedded Postgres plus the two service jars from {@code servicesDir}).
+ */
+record LoadTestOptions(
+        URI userServiceUrl,
+        URI mediaServiceUrl,
+        Path servicesDir,
+        Path resultsDir,
+        int users,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        int seedTracks,
+        int uploadBytes,
+        Map<Scenario, Integer> mix) {
+
+    static final String USAGE = """
+            Usage: java -jar load-tests/target/load-tests.jar [--name=value ...]
+              --users=50                 concurrent virtual users (closed model)
+              --warmup=PT15S             ramp-up excluded from the report
+              --duration=PT60S           measured run time
+              --think-time=PT0S          pause between scenarios per user
+              --seed-tracks=500          tracks uploaded before the run so listings have data
+              --upload-kb=256            body size of each upload
+              --mix=login:5,discover:15,playlists:30,uploads:5,tracks:45
+              --user-service-url=URL     target running services instead of starting stand-ins;
+              --media-service-url=URL    both must be given (disable their rate limits first)
+              --services-dir=services    where the stand-ins' jars are built
+              --results-dir=load-results
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        URI userServiceUrl = uri(values.remove("user-service-url"));
+        URI mediaServiceUrl = uri(values.remove("media-service-url"));
+        if ((userServiceUrl == null) != (mediaServiceUrl == null)) {
+            throw new IllegalArgumentException("--user-service-url and --media-service-url must be given together");
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                userServiceUrl,
+                mediaServiceUrl,
+                Path.of(take(values, "services-dir", "services")),
+                Path.of(take(values, "results-dir", "load-results")),
+                positive(take(values, "users", "50"), "users"),
+                Duration.parse(take(values, "warmup", "PT15S")),
+                Duration.parse(take(values, "duration", "PT60S")),
+                Duration.parse(take(values, "think-time", "PT0S")),
+                Integer.parseInt(take(values, "seed-tracks", "500")),
+                positive(take(values, "upload-kb", "256"), "upload-kb") * 1024,
+                mix(take(values, "mix", "login:5,discover:15,playlists:30,uploads:5,tracks:45")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    boolean startsStandIns() {
+        return userServiceUrl == null;
+    }
+
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight in --mix but got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(Scenario.fromName(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one scenario with a positive weight");
+        }
+        return weights;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static URI uri(String value) {
+        return value == null ? null : URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+    }
+
+    private static int positive(String value, String name) {
+        int parsed = Integer.parseInt(value);
+        if (parsed < 1) {
+            throw new IllegalArgumentException("--" + name + " must be at least 1");
+        }
+        return parsed;
+    }
+}
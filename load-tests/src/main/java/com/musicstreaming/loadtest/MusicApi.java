@@ -0,0 +1,206 @@
+package com.musicstreaming.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The slice of both services' public API the scenarios drive. Every call is timed into {@link EndpointStats}
+ * under its route template; non-2xx answers and transport failures count as errors.
+ */
+final class MusicApi {
+
+    static final String PASSWORD = "load-test-password";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI userService;
+    private final URI mediaService;
+    private final EndpointStats stats;
+
+    MusicApi(URI userService, URI mediaService, EndpointStats stats) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.userService = userService;
+        this.mediaService = mediaService;
+        this.stats = stats;
+    }
+
+    Account register(String email, String displayName) {
+        JsonNode body = send("POST /api/v1/public/users/register", post(userService, "/api/v1/public/users/register", null,
+                Map.of("email", email, "password", PASSWORD, "displayName", displayName)));
+        return body == null ? null : new Account(email, body.path("userId").asText());
+    }
+
+    boolean login(Account account) {
+        JsonNode body = send("POST /api/v1/public/auth/login", post(userService, "/api/v1/public/auth/login", null,
+                Map.of("email", account.email(), "password", PASSWORD)));
+        if (body == null) {
+            return false;
+        }
+        account.token(body.path("accessToken").asText());
+        return true;
+    }
+
+    void discover(Account account) {
+        send("GET /api/v1/users/discover", get(userService, "/api/v1/users/discover?limit=20", account));
+    }
+
+    String createPlaylist(Account account, Object request) {
+        JsonNode body = send("POST /api/v1/users/me/playlists", post(userService, "/api/v1/users/me/playlists", account, request));
+        return body == null ? null : body.path("id").asText();
+    }
+
+    void getPlaylist(Account account, String playlistId) {
+        send("GET /api/v1/users/me/playlists/{id}", get(userService, "/api/v1/users/me/playlists/" + playlistId, account));
+    }
+
+    void updatePlaylist(Account account, String playlistId, Object request) {
+        send("PUT /api/v1/users/me/playlists/{id}",
+                request(userService, "/api/v1/users/me/playlists/" + playlistId, account)
+                        .header("Content-Type", "application/json")
+                        .PUT(json(request))
+                        .build());
+    }
+
+    void editPlaylistTracks(Account account, String playlistId, Object request) {
+        send("PATCH /api/v1/users/me/playlists/{id}/tracks",
+                request(userService, "/api/v1/users/me/playlists/" + playlistId + "/tracks", account)
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", json(request))
+                        .build());
+    }
+
+    void deletePlaylist(Account account, String playlistId) {
+        send("DELETE /api/v1/users/me/playlists/{id}",
+                request(userService, "/api/v1/users/me/playlists/" + playlistId, account).DELETE().build());
+    }
+
+    void uploadTrack(Account account, String title, String genre, byte[] audio) {
+        String query = query(Map.of(
+                "title", title,
+                "artistId", account.userId(),
+                "artistName", account.email(),
+                "genre", genre,
+                "filename", "load-test.mp3"));
+        send("POST /api/v1/media/tracks", request(mediaService, "/api/v1/media/tracks?" + query, account)
+                .header("Content-Type", "audio/mpeg")
+                .POST(BodyPublishers.ofByteArray(audio))
+                .build());
+    }
+
+    /** Returns the {@code X-Next-Cursor} of the page, or null on the last page. */
+    String listTracks(Account account, String cursor) {
+        String path = "/api/v1/media/tracks?limit=100" + (cursor == null ? "" : "&cursor=" + encode(cursor));
+        HttpResponse<byte[]> response = exchange("GET /api/v1/media/tracks", get(mediaService, path, account));
+        return response == null ? null : response.headers().firstValue("X-Next-Cursor").orElse(null);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        HttpResponse<byte[]> response = exchange(endpoint, request);
+        if (response == null || response.body().length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    // Returns null for failures, which are already counted.
+    private HttpResponse<byte[]> exchange(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+            stats.record(endpoint, System.nanoTime() - start, response.statusCode());
+            return response.statusCode() / 100 == 2 ? response : null;
+        } catch (IOException ex) {
+            stats.record(endpoint, System.nanoTime() - start, 0);
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest get(URI service, String path, Account account) {
+        return request(service, path, account).header("Accept", "application/json").GET().build();
+    }
+
+    private HttpRequest post(URI service, String path, Account account, Object body) {
+        return request(service, path, account).header("Content-Type", "application/json").POST(json(body)).build();
+    }
+
+    private HttpRequest.Builder request(URI service, String path, Account account) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(service + path)).timeout(REQUEST_TIMEOUT);
+        if (account != null) {
+            builder.header("Authorization", "Bearer " + account.token());
+        }
+        return builder;
+    }
+
+    private BodyPublisher json(Object body) {
+        try {
+            return BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String query(Map<String, String> params) {
+        return params.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    static final class Account {
+
+        private final String email;
+        private final String userId;
+        private volatile String token;
+
+        Account(String email, String userId) {
+            this.email = email;
+            this.userId = userId;
+        }
+
+        String email() {
+            return email;
+        }
+
+        String userId() {
+            return userId;
+        }
+
+        String token() {
+            return token;
+        }
+
+        void token(String token) {
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.musicstreaming.loadtest;
+
+import com.musicstreaming.loadtest.MusicApi.Account;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One user journey. A virtual user picks the next scenario at random, weighted by {@code --mix}.
+ */
+enum Scenario {
+
+    LOGIN("login") {
+        @Override
+        void run(MusicApi api, Account account, Workload workload) {
+            api.login(account);
+        }
+    },
+
+    DISCOVER("discover") {
+        @Override
+        void run(MusicApi api, Account account, Workload workload) {
+            api.discover(account);
+        }
+    },
+
+    PLAYLISTS("playlists") {
+        @Override
+        void run(MusicApi api, Account account, Workload workload) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String playlistId = api.createPlaylist(account, playlist("Load test " + random.nextInt(1_000_000), tracks(0, 20)));
+            if (playlistId == null) {
+                return;
+            }
+            api.getPlaylist(account, playlistId);
+            api.editPlaylistTracks(account, playlistId, Map.of("operations", List.of(
+                    Map.of("op", "append", "tracks", tracks(20, 5)),
+                    Map.of("op", "move", "trackId", "trk_load_3", "position", 1),
+                    Map.of("op", "remove", "trackId", "trk_load_7"))));
+            api.updatePlaylist(account, playlistId, playlist("Renamed " + random.nextInt(1_000_000), tracks(0, 10)));
+            api.deletePlaylist(account, playlistId);
+        }
+    },
+
+    UPLOADS("uploads") {
+        @Override
+        void run(MusicApi api, Account account, Workload workload) {
+            int n = ThreadLocalRandom.current().nextInt(1_000_000);
+            api.uploadTrack(account, "Load test track " + n, GENRES.get(n % GENRES.size()), workload.uploadBody());
+        }
+    },
+
+    TRACKS("tracks") {
+        @Override
+        void run(MusicApi api, Account account, Workload workload) {
+            String cursor = api.listTracks(account, null);
+            // Half the listeners page on, which exercises the keyset cursor.
+            if (cursor != null && ThreadLocalRandom.current().nextBoolean()) {
+                api.listTracks(account, cursor);
+            }
+        }
+    };
+
+    static final List<String> GENRES = List.of("Pop", "Rock", "Jazz", "Electronic", "Hip-Hop", "Classical");
+
+    private final String wireName;
+
+    Scenario(String wireName) {
+        this.wireName = wireName;
+    }
+
+    String wireName() {
+        return wireName;
+    }
+
+    abstract void run(MusicApi api, Account account, Workload workload);
+
+    static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.wireName.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario " + name);
+    }
+
+    private static Map<String, Object> playlist(String name, List<Map<String, String>> tracks) {
+        return Map.of("name", name, "description", "Created by the load-test harness", "tracks", tracks);
+    }
+
+    private static List<Map<String, String>> tracks(int from, int count) {
+        List<Map<String, String>> tracks = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            tracks.add(Map.of(
+                    "trackId", "trk_load_" + i,
+                    "title", "Song " + i,
+                    "artistName", "Artist " + (i % 7),
+                    "genre", GENRES.get(i % GENRES.size())));
+        }
+        return tracks;
+    }
+
+    /** Shared inputs and the weighted pick. */
+    record Workload(Map<Scenario, Integer> mix, byte[] uploadBody) {
+
+        Scenario next() {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            int pick = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("No scenario picked from " + mix);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.musicstreaming.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Both services started as child processes against an embedded Postgres, without Docker. Kafka and Redis are
+ * left out: the outbox relay and feed consumer are switched off, and rate limits use the in-memory store and are
+ * disabled so the harness measures the services rather than its own throttling.
+ */
+final class StandIns implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final EmbeddedPostgres postgres;
+    private final List<Process> processes = new ArrayList<>();
+    private URI userService;
+    private URI mediaService;
+
+    private StandIns(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    static StandIns start(Path servicesDir, Path workDir) throws IOException, InterruptedException {
+        StandIns standIns = new StandIns(EmbeddedPostgres.builder().start());
+        try {
+            standIns.createDatabases("usersdb", "mediadb");
+            standIns.userService = standIns.launch(servicesDir, "user-service", "usersdb", workDir, Map.of(
+                    "FEED_CONSUMER_ENABLED", "false"));
+            standIns.mediaService = standIns.launch(servicesDir, "media-service", "mediadb", workDir, Map.of(
+                    "MEDIA_OUTBOX_RELAY_ENABLED", "false",
+                    "MEDIA_LOCAL_ROOT", workDir.resolve("media").toString()));
+            standIns.awaitReady(standIns.userService, "user-service", workDir);
+            standIns.awaitReady(standIns.mediaService, "media-service", workDir);
+            return standIns;
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            standIns.close();
+            throw ex;
+        }
+    }
+
+    URI userService() {
+        return userService;
+    }
+
+    URI mediaService() {
+        return mediaService;
+    }
+
+    private void createDatabases(String... names) throws IOException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String name : names) {
+                statement.execute("CREATE DATABASE " + name);
+            }
+        } catch (SQLException ex) {
+            throw new IOException("Could not create stand-in databases", ex);
+        }
+    }
+
+    private URI launch(Path servicesDir, String service, String database, Path workDir, Map<String, String> extraEnv)
+            throws IOException {
+        int port = freePort();
+        ProcessBuilder builder = new ProcessBuilder(javaCommand(), "-jar", serviceJar(servicesDir, service).toString())
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve(service + ".log").toFile());
+        Map<String, String> env = new HashMap<>(Map.of(
+                "SERVER_PORT", Integer.toString(port),
+                "DB_HOST", "localhost",
+                "DB_PORT", Integer.toString(postgres.getPort()),
+                "DB_NAME", database,
+                "DB_USER", "postgres",
+                "DB_PASSWORD", "postgres",
+                "RATE_LIMIT_ENABLED", "false"));
+        env.putAll(extraEnv);
+        builder.environment().putAll(env);
+        processes.add(builder.start());
+        return URI.create("http://localhost:" + port);
+    }
+
+    private void awaitReady(URI service, String name, Path workDir) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(service + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (processes.stream().anyMatch(process -> !process.isAlive())) {
+                throw new IOException(name + " exited during startup; see " + workDir.resolve(name + ".log"));
+            }
+            try {
+                if (client.send(probe, BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // Not listening yet.
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException(name + " was not ready within " + STARTUP_TIMEOUT + "; see " + workDir.resolve(name + ".log"));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ex) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        postgres.close();
+    }
+
+    private static Path serviceJar(Path servicesDir, String service) throws IOException {
+        Path target = servicesDir.resolve(service).resolve("target");
+        if (Files.isDirectory(target)) {
+            try (DirectoryStream<Path> jars = Files.newDirectoryStream(target, service + "-*.jar")) {
+                for (Path jar : jars) {
+                    return jar;
+                }
+            }
+        }
+        throw new IOException("No " + service + " jar in " + target + "; run mvn -DskipTests package first");
+    }
+
+    private static String javaCommand() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
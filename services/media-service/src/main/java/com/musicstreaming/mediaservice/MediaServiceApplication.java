@@ -2,8 +2,10 @@ package com.musicstreaming.mediaservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.musicstreaming")
+@EnableScheduling
 public class MediaServiceApplication {
 
     public static void main(String[] args) {
@@ -3,8 +3,11 @@ package com.musicstreaming.mediaservice.api;
 import com.musicstreaming.common.observability.TraceSupport;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -19,7 +22,7 @@ public class GlobalExceptionHandler {
         List<String> details = ex.getBindingResult().getFieldErrors().stream()
                 .map(e -> e.getField() + " " + e.getDefaultMessage())
                 .toList();
-        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.newTraceId()));
+        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
@@ -27,7 +30,7 @@ public class GlobalExceptionHandler {
         List<String> details = ex.getConstraintViolations().stream()
                 .map(v -> v.getPropertyPath() + " " + v.getMessage())
                 .toList();
-        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.newTraceId()));
+        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(ResponseStatusException.class)
@@ -35,7 +38,7 @@ public class GlobalExceptionHandler {
         String message = ex.getReason() != null ? ex.getReason() : "Request failed";
         String code = ex.getStatusCode() instanceof HttpStatus status ? status.name() : "REQUEST_FAILED";
         return ResponseEntity.status(ex.getStatusCode())
-                .body(new ErrorResponse(code, message, List.of(), TraceSupport.newTraceId()));
+                .body(new ErrorResponse(code, message, List.of(), TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(MaxUploadSizeExceededException.class)
@@ -45,12 +48,23 @@ public class GlobalExceptionHandler {
                         "PAYLOAD_TOO_LARGE",
                         "Uploaded file exceeds configured size limit",
                         List.of(),
-                        TraceSupport.newTraceId()));
+                        TraceSupport.currentTraceId()));
+    }
+
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(Exception ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(
+                        "SERVICE_UNAVAILABLE",
+                        "Database is busy, retry shortly",
+                        List.of(),
+                        TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ErrorResponse("INTERNAL_ERROR", "Unexpected error", List.of(ex.getClass().getSimpleName()), TraceSupport.newTraceId()));
+                .body(new ErrorResponse("INTERNAL_ERROR", "Unexpected error", List.of(ex.getClass().getSimpleName()), TraceSupport.currentTraceId()));
     }
 }
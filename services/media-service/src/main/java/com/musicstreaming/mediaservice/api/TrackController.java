@@ -2,13 +2,23 @@ package com.musicstreaming.mediaservice.api;
 
 import com.musicstreaming.common.events.EventEnvelope;
 import com.musicstreaming.common.events.TrackUploadedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import com.musicstreaming.mediaservice.track.TrackCatalogService;
+import com.musicstreaming.mediaservice.track.TrackCursor;
 import com.musicstreaming.mediaservice.track.TrackIngestionService;
+import com.musicstreaming.mediaservice.track.TrackSearchService;
 import com.musicstreaming.mediaservice.track.TrackView;
+import java.io.IOException;
 import java.util.List;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,16 +26,28 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/media/tracks")
 @Validated
 public class TrackController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final TrackIngestionService trackIngestionService;
+    private final TrackCatalogService trackCatalogService;
+    private final TrackSearchService trackSearchService;
 
-    public TrackController(TrackIngestionService trackIngestionService) {
+    public TrackController(
+            TrackIngestionService trackIngestionService,
+            TrackCatalogService trackCatalogService,
+            TrackSearchService trackSearchService) {
         this.trackIngestionService = trackIngestionService;
+        this.trackCatalogService = trackCatalogService;
+        this.trackSearchService = trackSearchService;
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -34,13 +56,64 @@ public class TrackController {
             @RequestParam("artistId") @NotBlank(message = "must not be blank") String artistId,
             @RequestParam("artistName") @NotBlank(message = "must not be blank") String artistName,
             @RequestParam("genre") @NotBlank(message = "must not be blank") String genre,
-            @RequestParam("file") MultipartFile file) {
-        EventEnvelope<TrackUploadedEvent> envelope = trackIngestionService.ingest(title, artistId, artistName, genre, file);
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal Jwt jwt) {
+        EventEnvelope<TrackUploadedEvent> envelope =
+                trackIngestionService.ingest(jwt.getSubject(), title, artistId, artistName, genre, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(envelope);
+    }
+
+    @PostMapping(consumes = "audio/*")
+    public ResponseEntity<EventEnvelope<TrackUploadedEvent>> uploadStream(
+            @RequestParam("title") @NotBlank(message = "must not be blank") String title,
+            @RequestParam("artistId") @NotBlank(message = "must not be blank") String artistId,
+            @RequestParam("artistName") @NotBlank(message = "must not be blank") String artistName,
+            @RequestParam("genre") @NotBlank(message = "must not be blank") String genre,
+            @RequestParam(value = "filename", required = false) String filename,
+            HttpServletRequest request,
+            @AuthenticationPrincipal Jwt jwt) throws IOException {
+        EventEnvelope<TrackUploadedEvent> envelope = trackIngestionService.ingestStream(
+                jwt.getSubject(),
+                title,
+                artistId,
+                artistName,
+                genre,
+                request.getContentType(),
+                filename,
+                request.getContentLengthLong(),
+                request.getInputStream());
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(envelope);
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<TrackView>> listTracks() {
-        return ResponseEntity.ok(trackIngestionService.listTracks());
+    public ResponseEntity<List<TrackView>> listTracks(
+            @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        TrackCatalogService.TrackPage page = trackCatalogService.listTracks(decodeCursor(cursor), limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.items());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTracks(
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        TrackCursor after = decodeCursor(cursor);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> trackCatalogService.streamTracks(after, output));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TrackView>> searchTracks(
+            @RequestParam("q") @NotBlank(message = "must not be blank") @Size(max = 100) String query,
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(MAX_SEARCH_RESULTS) int limit) {
+        return ResponseEntity.ok(trackSearchService.search(query, limit));
+    }
+
+    private static TrackCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : TrackCursor.decode(cursor);
     }
 }
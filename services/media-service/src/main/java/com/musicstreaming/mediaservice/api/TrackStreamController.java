@@ -0,0 +1,39 @@
+package com.musicstreaming.mediaservice.api;
+
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.stream.ByteRangeResponseWriter;
+import com.musicstreaming.mediaservice.stream.TrackStreamService;
+import com.musicstreaming.mediaservice.stream.TrackStreamService.StreamableTrack;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/media/tracks")
+public class TrackStreamController {
+
+    private final TrackStreamService trackStreamService;
+    private final ByteRangeResponseWriter byteRangeResponseWriter;
+
+    public TrackStreamController(TrackStreamService trackStreamService, ByteRangeResponseWriter byteRangeResponseWriter) {
+        this.trackStreamService = trackStreamService;
+        this.byteRangeResponseWriter = byteRangeResponseWriter;
+    }
+
+    @GetMapping("/{trackId}/stream")
+    public void stream(
+            @PathVariable("trackId") String trackId,
+            @RequestParam(value = "bitrate", required = false) Integer bitrate,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        StreamableTrack track = trackStreamService.open(trackId, bitrate);
+        try (MediaObject media = track.media()) {
+            byteRangeResponseWriter.write(request, response, track);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.musicstreaming.mediaservice.api;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.mediaservice.upload.ResumableUploadService;
+import com.musicstreaming.mediaservice.upload.ResumableUploadService.ChunkDetails;
+import com.musicstreaming.mediaservice.upload.ResumableUploadService.UploadSessionDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/media/uploads")
+public class UploadSessionController {
+
+    private final ResumableUploadService resumableUploadService;
+
+    public UploadSessionController(ResumableUploadService resumableUploadService) {
+        this.resumableUploadService = resumableUploadService;
+    }
+
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> create(
+            @AuthenticationPrincipal Jwt jwt,
+            @Valid @RequestBody CreateUploadSessionRequest request) {
+        UploadSessionDetails session = resumableUploadService.create(
+                jwt.getSubject(),
+                request.title(),
+                request.artistId(),
+                request.artistName(),
+                request.genre(),
+                request.contentType(),
+                request.filename(),
+                request.totalSizeBytes(),
+                request.chunkSizeBytes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(session));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> get(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable("uploadId") UUID uploadId) {
+        return ResponseEntity.ok(toResponse(resumableUploadService.get(jwt.getSubject(), uploadId)));
+    }
+
+    @PutMapping("/{uploadId}/chunks/{chunkIndex}")
+    public ResponseEntity<ChunkResponse> putChunk(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable("uploadId") UUID uploadId,
+            @PathVariable("chunkIndex") int chunkIndex,
+            @RequestHeader(value = "X-Chunk-Sha256", required = false) String chunkSha256,
+            HttpServletRequest request) throws IOException {
+        ChunkDetails chunk = resumableUploadService.putChunk(
+                jwt.getSubject(),
+                uploadId,
+                chunkIndex,
+                request.getContentLengthLong(),
+                chunkSha256,
+                request.getInputStream());
+        return ResponseEntity.ok(new ChunkResponse(chunk.index(), chunk.sizeBytes(), chunk.sha256()));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<EventEnvelope<TrackUploadedEvent>> complete(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable("uploadId") UUID uploadId) {
+        EventEnvelope<TrackUploadedEvent> envelope = resumableUploadService.complete(jwt.getSubject(), uploadId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(envelope);
+    }
+
+    private UploadSessionResponse toResponse(UploadSessionDetails session) {
+        return new UploadSessionResponse(
+                session.id().toString(),
+                session.status().name(),
+                session.totalSizeBytes(),
+                session.chunkSizeBytes(),
+                session.chunkCount(),
+                session.receivedChunks(),
+                session.trackId(),
+                session.createdAt(),
+                session.updatedAt());
+    }
+
+    public record CreateUploadSessionRequest(
+            @NotBlank(message = "must not be blank")
+            @Size(max = 255, message = "must be at most 255 characters")
+            String title,
+            @NotBlank(message = "must not be blank")
+            @Size(max = 80, message = "must be at most 80 characters")
+            String artistId,
+            @NotBlank(message = "must not be blank")
+            @Size(max = 160, message = "must be at most 160 characters")
+            String artistName,
+            @NotBlank(message = "must not be blank")
+            @Size(max = 80, message = "must be at most 80 characters")
+            String genre,
+            @NotBlank(message = "must not be blank")
+            String contentType,
+            @Size(max = 255, message = "must be at most 255 characters")
+            String filename,
+            @Positive(message = "must be positive")
+            long totalSizeBytes,
+            @Positive(message = "must be positive")
+            Long chunkSizeBytes
+    ) {
+    }
+
+    public record UploadSessionResponse(
+            String uploadId,
+            String status,
+            long totalSizeBytes,
+            long chunkSizeBytes,
+            int chunkCount,
+            List<Integer> receivedChunks,
+            String trackId,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+    }
+
+    public record ChunkResponse(int index, long sizeBytes, String sha256) {
+    }
+}
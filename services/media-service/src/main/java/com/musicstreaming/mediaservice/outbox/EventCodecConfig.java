@@ -0,0 +1,14 @@
+package com.musicstreaming.mediaservice.outbox;
+
+import com.musicstreaming.common.events.codec.EventCodecRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventCodecConfig {
+
+    @Bean
+    public EventCodecRegistry eventCodecRegistry() {
+        return EventCodecRegistry.withDefaults();
+    }
+}
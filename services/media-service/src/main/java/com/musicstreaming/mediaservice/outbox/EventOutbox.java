@@ -0,0 +1,47 @@
+package com.musicstreaming.mediaservice.outbox;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.codec.EventCodecRegistry;
+import com.musicstreaming.common.observability.tracing.EventTracing;
+import com.musicstreaming.mediaservice.outbox.domain.OutboxEvent;
+import com.musicstreaming.mediaservice.outbox.domain.OutboxEventRepository;
+import java.time.Instant;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class EventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final EventCodecRegistry eventCodecRegistry;
+    private final EventTracing eventTracing;
+
+    public EventOutbox(
+            OutboxEventRepository outboxEventRepository,
+            OutboxProperties properties,
+            EventCodecRegistry eventCodecRegistry,
+            EventTracing eventTracing) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.eventCodecRegistry = eventCodecRegistry;
+        this.eventTracing = eventTracing;
+    }
+
+    // The relay publishes from its own poll loop, so the producing request's trace is captured here, not at send time.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String messageKey, EventEnvelope<?> envelope) {
+        if (envelope.traceHeaders().isEmpty()) {
+            envelope = envelope.withTraceHeaders(eventTracing.currentTraceHeaders());
+        }
+        outboxEventRepository.save(new OutboxEvent(
+                properties.getTopic(),
+                messageKey,
+                envelope.eventType(),
+                envelope.eventVersion(),
+                EventCodecRegistry.CONTENT_TYPE,
+                eventCodecRegistry.encode(envelope),
+                Instant.now()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.musicstreaming.mediaservice.outbox;
+
+import com.musicstreaming.mediaservice.outbox.domain.OutboxEvent;
+import com.musicstreaming.mediaservice.outbox.domain.OutboxEventRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(prefix = "media.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final String EVENT_TYPE_HEADER = "eventType";
+    static final String EVENT_VERSION_HEADER = "eventVersion";
+    static final String CONTENT_TYPE_HEADER = "contentType";
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            OutboxProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${media.outbox.relay.poll-interval:PT1S}")
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == properties.getBatchSize());
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, retrying on next poll", ex);
+        }
+    }
+
+    // Rows stay locked until the batch is acknowledged, so concurrent relays skip them and a failed
+    // send leaves the row for the next poll (at-least-once delivery).
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(properties.getBatchSize());
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                sends.add(kafkaTemplate.send(toRecord(event)));
+            }
+
+            List<Long> published = new ArrayList<>(batch.size());
+            long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+            for (int i = 0; i < batch.size(); i++) {
+                if (awaitSend(batch.get(i), sends.get(i), deadline)) {
+                    published.add(batch.get(i).getId());
+                }
+            }
+            outboxEventRepository.deleteAllByIdInBatch(published);
+            return published.size() == batch.size() ? batch.size() : 0;
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(OutboxEvent event) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_VERSION_HEADER, event.getEventVersion().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(CONTENT_TYPE_HEADER, event.getContentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private boolean awaitSend(OutboxEvent event, CompletableFuture<SendResult<String, byte[]>> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException ex) {
+            log.warn("Failed to relay outbox event {} ({}) to {}", event.getId(), event.getEventType(), event.getTopic(), ex);
+            return false;
+        }
+    }
+}
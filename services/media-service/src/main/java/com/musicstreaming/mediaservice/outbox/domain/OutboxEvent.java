@@ -0,0 +1,91 @@
+package com.musicstreaming.mediaservice.outbox.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "event_outbox")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String topic;
+
+    @Column(name = "message_key", length = 255)
+    private String messageKey;
+
+    @Column(name = "event_type", nullable = false, length = 120)
+    private String eventType;
+
+    @Column(name = "event_version", nullable = false, length = 20)
+    private String eventVersion;
+
+    @Column(name = "content_type", nullable = false, length = 120)
+    private String contentType;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected OutboxEvent() {
+    }
+
+    public OutboxEvent(
+            String topic,
+            String messageKey,
+            String eventType,
+            String eventVersion,
+            String contentType,
+            byte[] payload,
+            Instant createdAt) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventType = eventType;
+        this.eventVersion = eventVersion;
+        this.contentType = contentType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getEventVersion() {
+        return eventVersion;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
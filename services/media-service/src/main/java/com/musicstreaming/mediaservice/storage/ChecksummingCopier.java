@@ -0,0 +1,48 @@
+package com.musicstreaming.mediaservice.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class ChecksummingCopier {
+
+    private ChecksummingCopier() {
+    }
+
+    public static CopyResult copy(ReadableByteChannel source, WritableByteChannel target, int bufferSize) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        long total = 0;
+        boolean endOfStream = false;
+        while (!endOfStream) {
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer) < 0) {
+                    endOfStream = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            digest.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                total += target.write(buffer);
+            }
+            buffer.clear();
+        }
+        return new CopyResult(total, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public record CopyResult(long sizeBytes, String sha256) {
+    }
+}
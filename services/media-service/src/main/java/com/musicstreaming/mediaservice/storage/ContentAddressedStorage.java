@@ -0,0 +1,67 @@
+package com.musicstreaming.mediaservice.storage;
+
+import com.musicstreaming.mediaservice.storage.ChecksummingCopier.CopyResult;
+import io.micrometer.observation.annotation.Observed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@Observed(name = "media.storage")
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "content-addressed")
+public class ContentAddressedStorage extends LocalStorageSupport implements MediaObjectStorage {
+
+    private final Path stagingPath;
+
+    public ContentAddressedStorage(MediaStorageProperties properties) {
+        super(properties);
+        this.stagingPath = properties.getLocal().resolveStagingPath().resolve("objects");
+    }
+
+    @Override
+    public StagedObject stage(String artistId, String originalFilename, InputStream content) throws IOException {
+        Files.createDirectories(stagingPath);
+        Path staged = stagingPath.resolve(UUID.randomUUID() + ".part");
+
+        CopyResult written;
+        try (FileChannel target = FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            written = ChecksummingCopier.copy(Channels.newChannel(content), target, bufferSize);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(staged);
+            throw ex;
+        }
+        return new StagedObject(objectKeyFor(written.sha256()), staged, written.sizeBytes(), written.sha256());
+    }
+
+    // Only safe to trust an existing object once a reference to it is held; see MediaBlobRegistry#store.
+    @Override
+    public StoredObject publish(StagedObject staged) throws IOException {
+        Path destination = rootPath.resolve(staged.objectKey());
+        if (Files.exists(destination)) {
+            Files.delete(staged.path());
+            return toStoredObject(staged, true);
+        }
+
+        Files.createDirectories(destination.getParent());
+        try {
+            Files.move(staged.path(), destination, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException ex) {
+            Files.deleteIfExists(staged.path());
+            return toStoredObject(staged, true);
+        }
+        return toStoredObject(staged, false);
+    }
+
+    static String objectKeyFor(String sha256) {
+        return "cas/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+}
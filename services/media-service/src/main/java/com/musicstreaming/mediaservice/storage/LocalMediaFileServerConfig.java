@@ -1,12 +1,12 @@
 package com.musicstreaming.mediaservice.storage;
 
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
-@ConditionalOnProperty(name = "media.storage.type", havingValue = "local", matchIfMissing = true)
+@ConditionalOnExpression("'${media.storage.type:local}' == 'local' or '${media.storage.type:local}' == 'content-addressed'")
 public class LocalMediaFileServerConfig implements WebMvcConfigurer {
 
     private final MediaStorageProperties properties;
@@ -0,0 +1,59 @@
+package com.musicstreaming.mediaservice.storage;
+
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StagedObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+abstract class LocalStorageSupport {
+
+    protected final Path rootPath;
+    protected final int bufferSize;
+    private final String publicBaseUrl;
+
+    protected LocalStorageSupport(MediaStorageProperties properties) {
+        this.rootPath = Path.of(properties.getLocal().getRoot()).toAbsolutePath().normalize();
+        this.publicBaseUrl = properties.getLocal().getPublicBaseUrl();
+        this.bufferSize = Math.toIntExact(properties.getLocal().getBufferSize().toBytes());
+    }
+
+    public MediaObject open(String objectKey) throws IOException {
+        return new LocalMediaObject(resolveExisting(objectKey));
+    }
+
+    public void delete(String objectKey) throws IOException {
+        Path target = rootPath.resolve(objectKey).normalize();
+        if (target.startsWith(rootPath)) {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    public void discard(StagedObject staged) throws IOException {
+        Files.deleteIfExists(staged.path());
+    }
+
+    protected Path resolveExisting(String objectKey) throws IOException {
+        Path source = rootPath.resolve(objectKey).normalize();
+        if (!source.startsWith(rootPath) || !Files.isRegularFile(source)) {
+            throw new NoSuchFileException(objectKey);
+        }
+        return source;
+    }
+
+    protected StoredObject toStoredObject(StagedObject staged, boolean deduplicated) {
+        String objectKey = staged.objectKey();
+        String normalizedKey = objectKey.replace("\\", "/");
+        String storagePath = "/local-media/" + normalizedKey;
+        String publicUrl = trimTrailingSlash(publicBaseUrl) + "/" + normalizedKey;
+        return new StoredObject(normalizedKey, storagePath, publicUrl, staged.sizeBytes(), staged.sha256(), deduplicated);
+    }
+
+    private String trimTrailingSlash(String value) {
+        if (value.endsWith("/")) {
+            return value.substring(0, value.length() - 1);
+        }
+        return value;
+    }
+}
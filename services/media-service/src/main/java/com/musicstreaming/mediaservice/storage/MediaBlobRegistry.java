@@ -0,0 +1,136 @@
+package com.musicstreaming.mediaservice.storage;
+
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StagedObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
+import com.musicstreaming.mediaservice.storage.domain.MediaBlobRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Reference-counts stored objects so deduplicated blobs are only deleted once nothing points at them. Every change
+ * to a blob goes through its {@code media_blobs} row lock: {@link #store} commits its reference before trusting an
+ * existing object, and {@link #purge} only deletes while holding the row at a zero count, so a purge and a
+ * concurrent upload of the same content cannot interleave.
+ */
+@Service
+public class MediaBlobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaBlobRegistry.class);
+
+    private final MediaBlobRepository mediaBlobRepository;
+    private final MediaObjectStorage mediaObjectStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public MediaBlobRegistry(
+            MediaBlobRepository mediaBlobRepository,
+            MediaObjectStorage mediaObjectStorage,
+            PlatformTransactionManager transactionManager) {
+        this.mediaBlobRepository = mediaBlobRepository;
+        this.mediaObjectStorage = mediaObjectStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Stores {@code content} and returns it holding one reference, which the caller hands to whatever row records
+     * the object or gives back through {@link #release}. Must not be called with a transaction open: the reference
+     * is committed on its own before the object is published.
+     */
+    public StoredObject store(String artistId, String originalFilename, InputStream content) throws IOException {
+        StagedObject staged = mediaObjectStorage.stage(artistId, originalFilename, content);
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> mediaBlobRepository.retain(
+                    staged.objectKey(), staged.sha256(), staged.sizeBytes(), Instant.now()));
+        } catch (RuntimeException ex) {
+            discardQuietly(staged);
+            throw ex;
+        }
+
+        try {
+            return mediaObjectStorage.publish(staged);
+        } catch (IOException | RuntimeException ex) {
+            discardQuietly(staged);
+            releaseQuietly(staged.objectKey());
+            throw ex;
+        }
+    }
+
+    public StoredObject store(String artistId, MultipartFile file) throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            return store(artistId, file.getOriginalFilename(), content);
+        }
+    }
+
+    /**
+     * Drops one reference, joining the caller's transaction if there is one. The object itself is purged after
+     * commit once the count reaches zero; a failed purge is left for {@link MediaBlobSweeper}.
+     */
+    public void release(String objectKey) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (mediaBlobRepository.release(objectKey, Instant.now()) == 0) {
+                return;
+            }
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                purge(objectKey);
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    purge(objectKey);
+                }
+            });
+        });
+    }
+
+    /**
+     * Deletes the object and its row if the row is still unreferenced, holding the row lock throughout so a
+     * concurrent {@link #store} of the same content waits and then publishes a fresh copy. Never throws.
+     */
+    public void purge(String objectKey) {
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> {
+                if (mediaBlobRepository.lockUnreferenced(objectKey).isEmpty()) {
+                    return;
+                }
+                try {
+                    mediaObjectStorage.delete(objectKey);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                mediaBlobRepository.deleteUnreferenced(objectKey);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to purge unreferenced object {}, leaving it for the sweeper", objectKey, ex);
+        }
+    }
+
+    private void discardQuietly(StagedObject staged) {
+        try {
+            mediaObjectStorage.discard(staged);
+        } catch (IOException ex) {
+            log.warn("Failed to discard staged object {}", staged.path(), ex);
+        }
+    }
+
+    private void releaseQuietly(String objectKey) {
+        try {
+            release(objectKey);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release {} after it could not be published", objectKey, ex);
+        }
+    }
+}
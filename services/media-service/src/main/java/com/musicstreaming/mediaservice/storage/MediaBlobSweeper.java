@@ -0,0 +1,28 @@
+package com.musicstreaming.mediaservice.storage;
+
+import com.musicstreaming.mediaservice.storage.domain.MediaBlobRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retries purges that failed after commit. Purging is safe at any time, since {@link MediaBlobRegistry#purge}
+ * re-checks the count under the row lock.
+ */
+@Component
+public class MediaBlobSweeper {
+
+    private final MediaBlobRepository mediaBlobRepository;
+    private final MediaBlobRegistry mediaBlobRegistry;
+
+    public MediaBlobSweeper(MediaBlobRepository mediaBlobRepository, MediaBlobRegistry mediaBlobRegistry) {
+        this.mediaBlobRepository = mediaBlobRepository;
+        this.mediaBlobRegistry = mediaBlobRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${media.storage.blob-sweep-interval:PT15M}")
+    public void purgeUnreferencedBlobs() {
+        for (String objectKey : mediaBlobRepository.findTop100UnreferencedKeys()) {
+            mediaBlobRegistry.purge(objectKey);
+        }
+    }
+}
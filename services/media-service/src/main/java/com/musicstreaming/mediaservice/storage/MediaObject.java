@@ -0,0 +1,19 @@
+package com.musicstreaming.mediaservice.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface MediaObject extends Closeable {
+
+    long contentLength();
+
+    /**
+     * Local file backing this object, when the container can hand it to the kernel (sendfile) directly.
+     */
+    Optional<Path> localPath();
+
+    long transferTo(long position, long count, WritableByteChannel target) throws IOException;
+}
@@ -1,12 +1,52 @@
 package com.musicstreaming.mediaservice.storage;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * Writing an object happens in two steps so {@link MediaBlobRegistry} can record a reference in between:
+ * {@link #stage} receives the bytes and learns the object key, {@link #publish} makes them readable under that key
+ * (reusing an identical existing object where the backend deduplicates).
+ */
 public interface MediaObjectStorage {
 
-    StoredObject store(String artistId, MultipartFile file) throws IOException;
+    StagedObject stage(String artistId, String originalFilename, InputStream content) throws IOException;
 
-    record StoredObject(String objectKey, String storagePath, String publicUrl) {
+    StoredObject publish(StagedObject staged) throws IOException;
+
+    void discard(StagedObject staged) throws IOException;
+
+    default StoredObject store(String artistId, String originalFilename, InputStream content) throws IOException {
+        StagedObject staged = stage(artistId, originalFilename, content);
+        try {
+            return publish(staged);
+        } catch (IOException | RuntimeException ex) {
+            discard(staged);
+            throw ex;
+        }
+    }
+
+    default StoredObject store(String artistId, MultipartFile file) throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            return store(artistId, file.getOriginalFilename(), content);
+        }
+    }
+
+    MediaObject open(String objectKey) throws IOException;
+
+    void delete(String objectKey) throws IOException;
+
+    record StagedObject(String objectKey, Path path, long sizeBytes, String sha256) {
+    }
+
+    record StoredObject(
+            String objectKey,
+            String storagePath,
+            String publicUrl,
+            long sizeBytes,
+            String sha256,
+            boolean deduplicated) {
     }
 }
@@ -1,7 +1,9 @@
 package com.musicstreaming.mediaservice.storage;
 
+import java.nio.file.Path;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Component
 @ConfigurationProperties(prefix = "media.storage")
@@ -25,6 +27,10 @@ public class MediaStorageProperties {
     public static class Local {
         private String root = "./data/media";
         private String publicBaseUrl = "http://localhost:8082/local-media";
+        private DataSize bufferSize = DataSize.ofKilobytes(64);
+        // Everything under root is served at /local-media/**, so in-flight writes live elsewhere. Keep it on the same
+        // filesystem as root: publishing a staged object is an atomic rename.
+        private String stagingRoot;
 
         public String getRoot() {
             return root;
@@ -41,5 +47,33 @@ public class MediaStorageProperties {
         public void setPublicBaseUrl(String publicBaseUrl) {
             this.publicBaseUrl = publicBaseUrl;
         }
+
+        public DataSize getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(DataSize bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public String getStagingRoot() {
+            return stagingRoot;
+        }
+
+        public void setStagingRoot(String stagingRoot) {
+            this.stagingRoot = stagingRoot;
+        }
+
+        /** The configured staging root, or a {@code <root>-staging} sibling of root when none is set. */
+        public Path resolveStagingPath() {
+            Path rootPath = Path.of(root).toAbsolutePath().normalize();
+            Path stagingPath = stagingRoot == null || stagingRoot.isBlank()
+                    ? rootPath.resolveSibling(rootPath.getFileName() + "-staging")
+                    : Path.of(stagingRoot).toAbsolutePath().normalize();
+            if (stagingPath.startsWith(rootPath)) {
+                throw new IllegalStateException("media.storage.local.staging-root must not be inside the served root " + rootPath);
+            }
+            return stagingPath;
+        }
     }
 }
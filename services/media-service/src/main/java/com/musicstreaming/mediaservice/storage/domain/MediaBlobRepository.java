@@ -0,0 +1,42 @@
+package com.musicstreaming.mediaservice.storage.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO media_blobs (object_key, sha256, size_bytes, ref_count, created_at, updated_at)
+            VALUES (:objectKey, :sha256, :sizeBytes, 1, :now, :now)
+            ON CONFLICT (object_key) DO UPDATE SET ref_count = media_blobs.ref_count + 1, updated_at = :now
+            """, nativeQuery = true)
+    void retain(
+            @Param("objectKey") String objectKey,
+            @Param("sha256") String sha256,
+            @Param("sizeBytes") long sizeBytes,
+            @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE media_blobs SET ref_count = ref_count - 1, updated_at = :now
+            WHERE object_key = :objectKey AND ref_count > 0
+            """, nativeQuery = true)
+    int release(@Param("objectKey") String objectKey, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = "DELETE FROM media_blobs WHERE object_key = :objectKey AND ref_count = 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("objectKey") String objectKey);
+
+    @Query(value = "SELECT object_key FROM media_blobs WHERE object_key = :objectKey AND ref_count = 0 FOR UPDATE",
+            nativeQuery = true)
+    Optional<String> lockUnreferenced(@Param("objectKey") String objectKey);
+
+    @Query(value = "SELECT object_key FROM media_blobs WHERE ref_count = 0 ORDER BY updated_at LIMIT 100", nativeQuery = true)
+    List<String> findTop100UnreferencedKeys();
+}
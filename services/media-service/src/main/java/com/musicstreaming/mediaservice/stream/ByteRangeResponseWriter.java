@@ -0,0 +1,163 @@
+package com.musicstreaming.mediaservice.stream;
+
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.stream.TrackStreamService.StreamableTrack;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ByteRangeResponseWriter {
+
+    static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate().getHeaderValue();
+    private static final String CRLF = "\r\n";
+
+    public void write(HttpServletRequest request, HttpServletResponse response, StreamableTrack track) throws IOException {
+        MediaObject media = track.media();
+        long length = media.contentLength();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, track.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        List<ByteRange> ranges;
+        try {
+            ranges = resolveRanges(request, track.etag(), length);
+        } catch (IllegalArgumentException ex) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setContentLength(0);
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(track.contentType());
+            response.setContentLengthLong(length);
+            writeRegion(request, response, media, new ByteRange(0, length - 1));
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.getFirst();
+            response.setContentType(track.contentType());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(length));
+            response.setContentLengthLong(range.length());
+            writeRegion(request, response, media, range);
+            return;
+        }
+
+        writeMultipart(response, media, track.contentType(), ranges);
+    }
+
+    private List<ByteRange> resolveRanges(HttpServletRequest request, String etag, long length) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return List.of();
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return List.of();
+        }
+
+        List<HttpRange> httpRanges;
+        try {
+            httpRanges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException ex) {
+            // RFC 9110 §14.2: a Range the server cannot parse is ignored, so the full content is sent. Only a
+            // well-formed range that misses the content is answered with 416 below.
+            return List.of();
+        }
+        List<ByteRange> ranges = new ArrayList<>(httpRanges.size());
+        long total = 0;
+        for (HttpRange httpRange : httpRanges) {
+            ByteRange range = new ByteRange(httpRange.getRangeStart(length), httpRange.getRangeEnd(length));
+            if (range.start() >= length || range.start() > range.end()) {
+                throw new IllegalArgumentException("Requested range is not satisfiable");
+            }
+            total += range.length();
+            ranges.add(range);
+        }
+        if (ranges.size() > 1 && total > length) {
+            throw new IllegalArgumentException("Requested ranges exceed content length");
+        }
+        return ranges;
+    }
+
+    private void writeRegion(HttpServletRequest request, HttpServletResponse response, MediaObject media, ByteRange range)
+            throws IOException {
+        if (range.length() <= 0) {
+            return;
+        }
+        Path localPath = media.localPath().orElse(null);
+        if (localPath != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, localPath.toRealPath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, range.start());
+            request.setAttribute(SENDFILE_END_ATTR, range.end() + 1);
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        media.transferTo(range.start(), range.length(), Channels.newChannel(out));
+        out.flush();
+    }
+
+    private void writeMultipart(HttpServletResponse response, MediaObject media, String contentType, List<ByteRange> ranges)
+            throws IOException {
+        long length = media.contentLength();
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] header = (CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + range.contentRange(length) + CRLF
+                    + CRLF).getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + range.length();
+        }
+        byte[] closing = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (int i = 0; i < ranges.size(); i++) {
+            ByteRange range = ranges.get(i);
+            out.write(partHeaders.get(i));
+            media.transferTo(range.start(), range.length(), channel);
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long totalLength) {
+            return "bytes " + start + "-" + end + "/" + totalLength;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.musicstreaming.mediaservice.stream;
+
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage;
+import com.musicstreaming.mediaservice.track.domain.TrackRecord;
+import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import com.musicstreaming.mediaservice.transcode.TranscodingProperties;
+import com.musicstreaming.mediaservice.transcode.domain.RenditionStatus;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRendition;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRenditionRepository;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class TrackStreamService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final int ORIGINAL = 0;
+
+    private final TrackRecordRepository trackRecordRepository;
+    private final TrackRenditionRepository trackRenditionRepository;
+    private final MediaObjectStorage mediaObjectStorage;
+    private final TranscodingProperties transcodingProperties;
+
+    public TrackStreamService(
+            TrackRecordRepository trackRecordRepository,
+            TrackRenditionRepository trackRenditionRepository,
+            MediaObjectStorage mediaObjectStorage,
+            TranscodingProperties transcodingProperties) {
+        this.trackRecordRepository = trackRecordRepository;
+        this.trackRenditionRepository = trackRenditionRepository;
+        this.mediaObjectStorage = mediaObjectStorage;
+        this.transcodingProperties = transcodingProperties;
+    }
+
+    /**
+     * Opens the rendition closest to {@code bitrateKbps} without exceeding it (the lowest one when all exceed it),
+     * or the original upload when no rendition is ready yet. A missing bitrate means the configured default; 0
+     * asks for the original.
+     */
+    @Transactional(readOnly = true)
+    public StreamableTrack open(String trackId, Integer bitrateKbps) {
+        if (bitrateKbps != null && bitrateKbps < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bitrate must not be negative");
+        }
+        TrackRecord track = trackRecordRepository.findById(trackId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Track not found"));
+
+        int requested = bitrateKbps != null ? bitrateKbps : transcodingProperties.getDefaultBitrate();
+        Optional<TrackRendition> rendition = requested == ORIGINAL
+                ? Optional.empty()
+                : selectRendition(trackRenditionRepository.findAllByTrackIdAndStatus(trackId, RenditionStatus.READY), requested);
+        if (rendition.isPresent()) {
+            TrackRendition selected = rendition.get();
+            MediaObject media = openMedia(selected.getObjectKey());
+            String etag = "\"" + trackId + "-" + selected.getBitrateKbps() + "k-" + media.contentLength() + "\"";
+            return new StreamableTrack(media, contentTypeOrDefault(selected.getContentType()), etag);
+        }
+
+        if (track.getObjectKey() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Track media is not available");
+        }
+        MediaObject media = openMedia(track.getObjectKey());
+        String etag = "\"" + track.getTrackId() + "-" + media.contentLength() + "\"";
+        return new StreamableTrack(media, contentTypeOrDefault(track.getContentType()), etag);
+    }
+
+    static Optional<TrackRendition> selectRendition(List<TrackRendition> ready, int requestedKbps) {
+        Comparator<TrackRendition> byBitrate = Comparator.comparingInt(TrackRendition::getBitrateKbps);
+        Optional<TrackRendition> atOrBelow = ready.stream()
+                .filter(rendition -> rendition.getBitrateKbps() <= requestedKbps)
+                .max(byBitrate);
+        return atOrBelow.isPresent() ? atOrBelow : ready.stream().min(byBitrate);
+    }
+
+    private MediaObject openMedia(String objectKey) {
+        try {
+            return mediaObjectStorage.open(objectKey);
+        } catch (NoSuchFileException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Track media is not available", ex);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to open track media", ex);
+        }
+    }
+
+    private static String contentTypeOrDefault(String contentType) {
+        return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
+    }
+
+    public record StreamableTrack(MediaObject media, String contentType, String etag) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.musicstreaming.mediaservice.track;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.musicstreaming.mediaservice.track.domain.TrackRecord;
+import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class TrackCatalogService {
+
+    private static final String SELECT_TRACKS = """
+            SELECT track_id, artist_id, artist_name, title, genre, file_url, created_at
+            FROM tracks
+            """;
+    private static final String ORDER_BY = " ORDER BY created_at DESC, track_id DESC";
+
+    private final TrackRecordRepository trackRecordRepository;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter lineWriter;
+
+    public TrackCatalogService(
+            TrackRecordRepository trackRecordRepository,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${media.catalog.stream-fetch-size:500}") int streamFetchSize) {
+        this.trackRecordRepository = trackRecordRepository;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(streamFetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lineWriter = objectMapper.writerFor(TrackView.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Transactional(readOnly = true)
+    public TrackPage listTracks(TrackCursor cursor, int limit) {
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<TrackRecord> records = cursor == null
+                ? trackRecordRepository.findAllByOrderByCreatedAtDescTrackIdDesc(fetchLimit)
+                : trackRecordRepository.findPageAfter(cursor.createdAt(), cursor.trackId(), fetchLimit);
+
+        List<TrackView> items = records.stream()
+                .limit(limit)
+                .map(TrackCatalogService::toView)
+                .toList();
+        TrackCursor next = records.size() > limit ? TrackCursor.after(items.get(items.size() - 1)) : null;
+        return new TrackPage(items, next);
+    }
+
+    // PostgreSQL only honours the fetch size (server-side cursor) when auto-commit is off, hence the transaction.
+    public void streamTracks(TrackCursor cursor, OutputStream output) {
+        RowCallbackHandler writeRow = rs -> writeLine(output, toView(rs));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            if (cursor == null) {
+                streamingJdbcTemplate.query(SELECT_TRACKS + ORDER_BY, writeRow);
+            } else {
+                streamingJdbcTemplate.query(
+                        SELECT_TRACKS + " WHERE (created_at, track_id) < (?, ?)" + ORDER_BY,
+                        writeRow,
+                        Timestamp.from(cursor.createdAt()),
+                        cursor.trackId());
+            }
+        });
+    }
+
+    private void writeLine(OutputStream output, TrackView view) {
+        try {
+            lineWriter.writeValue(output, view);
+            output.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static TrackView toView(TrackRecord t) {
+        return new TrackView(
+                t.getTrackId(),
+                t.getArtistId(),
+                t.getArtistName(),
+                t.getTitle(),
+                t.getGenre(),
+                t.getFileUrl(),
+                t.getCreatedAt());
+    }
+
+    private static TrackView toView(ResultSet rs) throws SQLException {
+        return new TrackView(
+                rs.getString("track_id"),
+                rs.getString("artist_id"),
+                rs.getString("artist_name"),
+                rs.getString("title"),
+                rs.getString("genre"),
+                rs.getString("file_url"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant());
+    }
+
+    public record TrackPage(List<TrackView> items, TrackCursor nextCursor) {
+    }
+}
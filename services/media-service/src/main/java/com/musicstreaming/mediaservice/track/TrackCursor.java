@@ -0,0 +1,19 @@
+package com.musicstreaming.mediaservice.track;
+
+import com.musicstreaming.common.search.KeysetCursor;
+import java.time.Instant;
+
+public record TrackCursor(Instant createdAt, String trackId) {
+
+    public static TrackCursor after(TrackView track) {
+        return new TrackCursor(track.createdAt(), track.trackId());
+    }
+
+    public static TrackCursor decode(String value) {
+        return KeysetCursor.decode(value, TrackCursor::new);
+    }
+
+    public String encode() {
+        return KeysetCursor.encode(createdAt, trackId);
+    }
+}
@@ -2,40 +2,128 @@ package com.musicstreaming.mediaservice.track;
 
 import com.musicstreaming.common.events.EventEnvelope;
 import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.mediaservice.outbox.EventOutbox;
+import com.musicstreaming.mediaservice.storage.MediaBlobRegistry;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
 import com.musicstreaming.mediaservice.track.domain.TrackRecord;
 import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import com.musicstreaming.mediaservice.transcode.RenditionQueue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Uploads are stored before any transaction starts, so a slow or large upload never holds a pooled connection; only
+ * the track, outbox and rendition rows are written in a short transaction afterwards. If that write fails the
+ * object's reference is released again.
+ */
 @Service
 public class TrackIngestionService {
 
+    private static final Logger log = LoggerFactory.getLogger(TrackIngestionService.class);
+
     private final TrackRecordRepository trackRecordRepository;
+    private final MediaBlobRegistry mediaBlobRegistry;
+    private final EventOutbox eventOutbox;
+    private final RenditionQueue renditionQueue;
+    private final TransactionTemplate transactionTemplate;
     private final String mockFileUrl;
+    private final long maxStreamSizeBytes;
+    private final MeterRegistry meterRegistry;
 
     public TrackIngestionService(
             TrackRecordRepository trackRecordRepository,
-            @Value("${media.mock.file-url}") String mockFileUrl) {
+            MediaBlobRegistry mediaBlobRegistry,
+            EventOutbox eventOutbox,
+            RenditionQueue renditionQueue,
+            PlatformTransactionManager transactionManager,
+            @Value("${media.mock.file-url}") String mockFileUrl,
+            @Value("${media.upload.max-stream-size:2GB}") DataSize maxStreamSize,
+            MeterRegistry meterRegistry) {
         this.trackRecordRepository = trackRecordRepository;
+        this.mediaBlobRegistry = mediaBlobRegistry;
+        this.eventOutbox = eventOutbox;
+        this.renditionQueue = renditionQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.mockFileUrl = mockFileUrl;
+        this.maxStreamSizeBytes = maxStreamSize.toBytes();
+        this.meterRegistry = meterRegistry;
     }
 
-    @Transactional
     public EventEnvelope<TrackUploadedEvent> ingest(
+            String uploaderSubject,
             String title,
             String artistId,
             String artistName,
             String genre,
             MultipartFile file) {
         validateFile(file);
+        StoredObject stored = storeFile("multipart", () -> mediaBlobRegistry.store(artistId.trim(), file));
+        return recordTrack(uploaderSubject, title, artistId, artistName, genre, file.getContentType(), stored);
+    }
+
+    public EventEnvelope<TrackUploadedEvent> ingestStream(
+            String uploaderSubject,
+            String title,
+            String artistId,
+            String artistName,
+            String genre,
+            String contentType,
+            String originalFilename,
+            long contentLength,
+            InputStream content) {
+        validateContentType(contentType);
+        if (contentLength == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Audio file is required");
+        }
+        if (contentLength > maxStreamSizeBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Uploaded file exceeds configured size limit");
+        }
+
+        InputStream limited = new SizeLimitedInputStream(content, maxStreamSizeBytes);
+        StoredObject stored = storeFile("stream", () -> mediaBlobRegistry.store(artistId.trim(), originalFilename, limited));
+        return recordTrack(uploaderSubject, title, artistId, artistName, genre, contentType, stored);
+    }
+
+    private EventEnvelope<TrackUploadedEvent> recordTrack(
+            String uploaderSubject,
+            String title,
+            String artistId,
+            String artistName,
+            String genre,
+            String contentType,
+            StoredObject stored) {
+        try {
+            return transactionTemplate.execute(status -> writeTrack(uploaderSubject, title, artistId, artistName, genre, contentType, stored));
+        } catch (RuntimeException ex) {
+            release(stored);
+            throw ex;
+        }
+    }
 
+    private EventEnvelope<TrackUploadedEvent> writeTrack(
+            String uploaderSubject,
+            String title,
+            String artistId,
+            String artistName,
+            String genre,
+            String contentType,
+            StoredObject stored) {
         String trackId = "trk_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
         Instant now = Instant.now();
 
@@ -46,45 +134,81 @@ public class TrackIngestionService {
                 title.trim(),
                 genre.trim(),
                 mockFileUrl,
-                now));
+                now,
+                stored.objectKey(),
+                contentType,
+                stored.sizeBytes(),
+                stored.sha256()));
+        renditionQueue.enqueue(trackId, now);
 
         TrackUploadedEvent event = new TrackUploadedEvent(
                 trackId,
                 artistId,
+                uploaderSubject,
                 title,
                 mockFileUrl,
-                "1.0.0"
+                "1.1.0"
         );
 
-        return new EventEnvelope<>(
+        EventEnvelope<TrackUploadedEvent> envelope = new EventEnvelope<>(
                 "TrackUploaded",
-                "1.0.0",
+                "1.1.0",
                 now,
                 event
         );
+        eventOutbox.append(trackId, envelope);
+        return envelope;
     }
 
-    @Transactional(readOnly = true)
-    public List<TrackView> listTracks() {
-        return trackRecordRepository.findAllByOrderByCreatedAtDesc().stream()
-                .map(t -> new TrackView(
-                        t.getTrackId(),
-                        t.getArtistId(),
-                        t.getArtistName(),
-                        t.getTitle(),
-                        t.getGenre(),
-                        t.getFileUrl(),
-                        t.getCreatedAt()))
-                .toList();
+    // Times the transfer itself (receiving and persisting the bytes), which is what dominates an upload request.
+    private StoredObject storeFile(String mode, StoreOperation operation) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            StoredObject stored = operation.store();
+            outcome = "stored";
+            DistributionSummary.builder("media.upload.bytes")
+                    .baseUnit(BaseUnits.BYTES)
+                    .tag("mode", mode)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stored.sizeBytes());
+            return stored;
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store audio file", ex);
+        } finally {
+            sample.stop(Timer.builder("media.upload")
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
     }
 
     private void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Audio file is required");
         }
-        String contentType = file.getContentType();
+        validateContentType(file.getContentType());
+    }
+
+    private void validateContentType(String contentType) {
         if (contentType == null || !contentType.startsWith("audio/")) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only audio files are supported");
         }
     }
+
+    // The registry decides whether the object is shared with another track and may be deleted.
+    private void release(StoredObject stored) {
+        try {
+            mediaBlobRegistry.release(stored.objectKey());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release {} after its track could not be recorded", stored.objectKey(), ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StoreOperation {
+        StoredObject store() throws IOException;
+    }
 }
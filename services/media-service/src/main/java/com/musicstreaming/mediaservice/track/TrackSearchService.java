@@ -0,0 +1,116 @@
+package com.musicstreaming.mediaservice.track;
+
+import static com.musicstreaming.common.search.TypeaheadQueries.allowsFuzzy;
+import static com.musicstreaming.common.search.TypeaheadQueries.likePrefix;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Typeahead search over title, artist name and genre, answered in tiers that each stop once the page is
+ * full: titles and artists that start with the query (B-tree range scans), then tracks where every word
+ * of the query prefixes a word of the track, then trigram matches for typos. All indexes are maintained
+ * by PostgreSQL, so tracks are searchable as soon as ingestion commits them.
+ */
+@Service
+public class TrackSearchService {
+
+    private static final String COLUMNS = "track_id, artist_id, artist_name, title, genre, file_url, created_at";
+
+    private static final String STARTS_WITH_SQL = """
+            SELECT %1$s FROM (
+                (SELECT %1$s, 0 AS tier, lower(title) AS sort_key FROM tracks
+                 WHERE lower(title) LIKE ?
+                 ORDER BY lower(title) USING ~<~, track_id LIMIT ?)
+                UNION ALL
+                (SELECT %1$s, 1 AS tier, lower(artist_name) AS sort_key FROM tracks
+                 WHERE lower(artist_name) LIKE ?
+                 ORDER BY lower(artist_name) USING ~<~, track_id LIMIT ?)
+            ) matches
+            ORDER BY tier, sort_key USING ~<~, track_id
+            """.formatted(COLUMNS);
+
+    // The query is tokenized with the same parser as the column, then each lexeme becomes a prefix term. Every match is
+    // ranked: the GIN index limits the rows read to the matches and LIMIT turns the sort into a top-N heap.
+    private static final String WORD_PREFIX_SQL = """
+            WITH q AS (
+                SELECT to_tsquery('simple', string_agg(quote_literal(lexeme) || ':*', ' & ')) AS query
+                FROM unnest(to_tsvector('simple', ?))
+            )
+            SELECT %1$s
+            FROM tracks t, q
+            WHERE t.search_vector @@ q.query
+            ORDER BY ts_rank(t.search_vector, q.query) DESC, t.title, t.track_id
+            LIMIT ?
+            """.formatted(COLUMNS);
+
+    // Each branch walks a GiST trigram index in distance order, so it reads only the closest titles or artists; the
+    // best tracks overall are among the closest of either.
+    private static final String FUZZY_SQL = """
+            SELECT %1$s FROM (
+                (SELECT %1$s, ? <<-> title AS distance FROM tracks
+                 WHERE ? <%% title
+                 ORDER BY ? <<-> title LIMIT ?)
+                UNION ALL
+                (SELECT %1$s, ? <<-> artist_name AS distance FROM tracks
+                 WHERE ? <%% artist_name
+                 ORDER BY ? <<-> artist_name LIMIT ?)
+            ) matches
+            ORDER BY distance, title, track_id
+            """.formatted(COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrackSearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrackView> search(String query, int limit) {
+        String normalized = query.trim();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, TrackView> matches = new LinkedHashMap<>();
+        String pattern = likePrefix(normalized);
+        collect(matches, limit, jdbcTemplate.query(STARTS_WITH_SQL, TrackSearchService::toView, pattern, limit, pattern, limit));
+        if (matches.size() < limit) {
+            collect(matches, limit, jdbcTemplate.query(
+                    WORD_PREFIX_SQL, TrackSearchService::toView, normalized, limit));
+        }
+        if (matches.size() < limit && allowsFuzzy(normalized)) {
+            collect(matches, limit, jdbcTemplate.query(
+                    FUZZY_SQL, TrackSearchService::toView,
+                    normalized, normalized, normalized, limit, normalized, normalized, normalized, limit));
+        }
+        return List.copyOf(matches.values());
+    }
+
+    private static void collect(Map<String, TrackView> matches, int limit, List<TrackView> tier) {
+        for (TrackView track : tier) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.putIfAbsent(track.trackId(), track);
+        }
+    }
+
+    private static TrackView toView(ResultSet rs, int rowNum) throws SQLException {
+        return new TrackView(
+                rs.getString("track_id"),
+                rs.getString("artist_id"),
+                rs.getString("artist_name"),
+                rs.getString("title"),
+                rs.getString("genre"),
+                rs.getString("file_url"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant());
+    }
+}
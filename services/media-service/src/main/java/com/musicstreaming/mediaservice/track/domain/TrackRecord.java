@@ -5,6 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "tracks")
@@ -32,6 +34,19 @@ public class TrackRecord {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    @Column(name = "object_key", length = 512)
+    private String objectKey;
+
+    @Column(name = "content_type", length = 120)
+    private String contentType;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "checksum_sha256", length = 64)
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private String checksumSha256;
+
     protected TrackRecord() {
     }
 
@@ -42,7 +57,11 @@ public class TrackRecord {
             String title,
             String genre,
             String fileUrl,
-            Instant createdAt) {
+            Instant createdAt,
+            String objectKey,
+            String contentType,
+            Long sizeBytes,
+            String checksumSha256) {
         this.trackId = trackId;
         this.artistId = artistId;
         this.artistName = artistName;
@@ -50,6 +69,10 @@ public class TrackRecord {
         this.genre = genre;
         this.fileUrl = fileUrl;
         this.createdAt = createdAt;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.sizeBytes = sizeBytes;
+        this.checksumSha256 = checksumSha256;
     }
 
     public String getTrackId() {
@@ -79,4 +102,20 @@ public class TrackRecord {
     public Instant getCreatedAt() {
         return createdAt;
     }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getChecksumSha256() {
+        return checksumSha256;
+    }
 }
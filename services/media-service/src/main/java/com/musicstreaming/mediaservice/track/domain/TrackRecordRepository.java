@@ -1,8 +1,21 @@
 package com.musicstreaming.mediaservice.track.domain;
 
+import java.time.Instant;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TrackRecordRepository extends JpaRepository<TrackRecord, String> {
-    List<TrackRecord> findAllByOrderByCreatedAtDesc();
+
+    List<TrackRecord> findAllByOrderByCreatedAtDescTrackIdDesc(Limit limit);
+
+    // Row-value comparison, as in TrackCatalogService#streamTracks, so Postgres seeks idx_tracks_created_at_desc.
+    @Query(value = """
+            SELECT * FROM tracks
+            WHERE (created_at, track_id) < (:createdAt, :trackId)
+            ORDER BY created_at DESC, track_id DESC
+            """, nativeQuery = true)
+    List<TrackRecord> findPageAfter(@Param("createdAt") Instant createdAt, @Param("trackId") String trackId, Limit limit);
 }
@@ -0,0 +1,13 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Produces one rendition of an uploaded track. Implementations write the encoded audio to {@code target} and
+ * throw when the source cannot be encoded; the worker retries or gives up according to {@code media.transcoding}.
+ */
+public interface AudioEncoder {
+
+    void encode(Path source, Path target, int bitrateKbps) throws IOException;
+}
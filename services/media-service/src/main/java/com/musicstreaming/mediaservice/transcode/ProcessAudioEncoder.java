@@ -0,0 +1,72 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs an external encoder (ffmpeg by default) per rendition. The command template is split on whitespace and
+ * {@code {input}}, {@code {output}} and {@code {bitrate}} are substituted per argument, so paths are never passed
+ * through a shell.
+ */
+public class ProcessAudioEncoder implements AudioEncoder {
+
+    private static final int MAX_OUTPUT_IN_ERROR = 400;
+
+    private final TranscodingProperties.Encoder settings;
+
+    public ProcessAudioEncoder(TranscodingProperties.Encoder settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public void encode(Path source, Path target, int bitrateKbps) throws IOException {
+        Path output = Files.createTempFile(target.getParent(), "encoder-", ".log");
+        try {
+            Process process = new ProcessBuilder(command(source, target, bitrateKbps))
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            boolean exited;
+            try {
+                exited = process.waitFor(settings.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while encoding", ex);
+            }
+            if (!exited) {
+                process.destroyForcibly();
+                throw new IOException("Encoder timed out after " + settings.getTimeout());
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("Encoder exited with " + process.exitValue() + ": " + tail(output));
+            }
+            if (!Files.isRegularFile(target) || Files.size(target) == 0) {
+                throw new IOException("Encoder produced no output");
+            }
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    List<String> command(Path source, Path target, int bitrateKbps) {
+        List<String> command = new ArrayList<>();
+        for (String argument : settings.getCommand().trim().split("\\s+")) {
+            command.add(argument
+                    .replace("{input}", source.toString())
+                    .replace("{output}", target.toString())
+                    .replace("{bitrate}", Integer.toString(bitrateKbps)));
+        }
+        return command;
+    }
+
+    private static String tail(Path output) throws IOException {
+        String text = new String(Files.readAllBytes(output), StandardCharsets.UTF_8).strip();
+        return text.length() <= MAX_OUTPUT_IN_ERROR ? text : text.substring(text.length() - MAX_OUTPUT_IN_ERROR);
+    }
+}
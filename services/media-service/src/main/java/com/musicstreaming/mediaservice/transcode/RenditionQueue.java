@@ -0,0 +1,35 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import com.musicstreaming.mediaservice.transcode.domain.TrackRendition;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRenditionRepository;
+import java.time.Instant;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Schedules renditions for a new track in the upload's own transaction, so a committed track always has its
+ * transcoding jobs and a rolled-back upload leaves none behind.
+ */
+@Service
+public class RenditionQueue {
+
+    private final TrackRenditionRepository trackRenditionRepository;
+    private final TranscodingProperties properties;
+
+    public RenditionQueue(TrackRenditionRepository trackRenditionRepository, TranscodingProperties properties) {
+        this.trackRenditionRepository = trackRenditionRepository;
+        this.properties = properties;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String trackId, Instant now) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        trackRenditionRepository.saveAll(properties.getBitrates().stream()
+                .distinct()
+                .map(bitrate -> new TrackRendition(trackId, bitrate, now))
+                .toList());
+    }
+}
@@ -0,0 +1,15 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TranscodingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(AudioEncoder.class)
+    public AudioEncoder audioEncoder(TranscodingProperties properties) {
+        return new ProcessAudioEncoder(properties.getEncoder());
+    }
+}
@@ -0,0 +1,119 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "media.transcoding")
+public class TranscodingProperties {
+
+    private boolean enabled = false;
+    private List<Integer> bitrates = List.of(64, 128, 320);
+    private int defaultBitrate = 128;
+    private int concurrency = 2;
+    private int maxAttempts = 3;
+    private Duration lease = Duration.ofMinutes(15);
+    private Duration retryBackoff = Duration.ofSeconds(30);
+    private final Encoder encoder = new Encoder();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Integer> getBitrates() {
+        return bitrates;
+    }
+
+    public void setBitrates(List<Integer> bitrates) {
+        this.bitrates = bitrates;
+    }
+
+    public int getDefaultBitrate() {
+        return defaultBitrate;
+    }
+
+    public void setDefaultBitrate(int defaultBitrate) {
+        this.defaultBitrate = defaultBitrate;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Encoder getEncoder() {
+        return encoder;
+    }
+
+    public static class Encoder {
+        private String command = "ffmpeg -nostdin -v error -y -i {input} -vn -map_metadata -1 -c:a libmp3lame -b:a {bitrate}k {output}";
+        private String contentType = "audio/mpeg";
+        private String extension = ".mp3";
+        private Duration timeout = Duration.ofMinutes(10);
+
+        public String getCommand() {
+            return command;
+        }
+
+        public void setCommand(String command) {
+            this.command = command;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public void setExtension(String extension) {
+            this.extension = extension;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import com.musicstreaming.mediaservice.storage.MediaBlobRegistry;
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
+import com.musicstreaming.mediaservice.track.domain.TrackRecord;
+import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import com.musicstreaming.mediaservice.transcode.domain.RenditionStatus;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRendition;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRenditionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains {@code track_renditions}: claims up to {@code concurrency} due jobs, encodes them in parallel outside any
+ * transaction, stores each rendition through {@link MediaBlobRegistry} and records it. A claim is a lease; a
+ * worker that dies mid-encode leaves a RUNNING row that becomes claimable again once the lease lapses, and the
+ * attempt number stops a late finisher from overwriting the newer claim.
+ */
+@Component
+@ConditionalOnProperty(prefix = "media.transcoding", name = "enabled", havingValue = "true")
+public class TranscodingWorker implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TranscodingWorker.class);
+
+    private final TrackRenditionRepository trackRenditionRepository;
+    private final TrackRecordRepository trackRecordRepository;
+    private final MediaObjectStorage mediaObjectStorage;
+    private final MediaBlobRegistry mediaBlobRegistry;
+    private final AudioEncoder audioEncoder;
+    private final TranscodingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public TranscodingWorker(
+            TrackRenditionRepository trackRenditionRepository,
+            TrackRecordRepository trackRecordRepository,
+            MediaObjectStorage mediaObjectStorage,
+            MediaBlobRegistry mediaBlobRegistry,
+            AudioEncoder audioEncoder,
+            TranscodingProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.trackRenditionRepository = trackRenditionRepository;
+        this.trackRecordRepository = trackRecordRepository;
+        this.mediaObjectStorage = mediaObjectStorage;
+        this.mediaBlobRegistry = mediaBlobRegistry;
+        this.audioEncoder = audioEncoder;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newFixedThreadPool(properties.getConcurrency(), threadFactory());
+    }
+
+    @Scheduled(fixedDelayString = "${media.transcoding.poll-interval:PT5S}")
+    public void drain() {
+        try {
+            List<Job> batch;
+            do {
+                batch = claimBatch(Instant.now());
+                runAll(batch);
+            } while (batch.size() == properties.getConcurrency());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("Transcoding poll failed, retrying on next poll", ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    List<Job> claimBatch(Instant now) {
+        List<Job> claimed = transactionTemplate.execute(status -> {
+            List<Job> jobs = new ArrayList<>();
+            for (TrackRendition rendition : trackRenditionRepository.lockClaimable(now, properties.getConcurrency())) {
+                // A RUNNING row is only claimable once its lease lapsed, i.e. the previous attempt never reported back.
+                if (rendition.getAttempts() >= properties.getMaxAttempts()) {
+                    rendition.fail("Gave up after " + rendition.getAttempts() + " attempts", now);
+                    continue;
+                }
+                TrackRecord track = trackRecordRepository.findById(rendition.getTrackId()).orElse(null);
+                if (track == null || track.getObjectKey() == null) {
+                    rendition.fail("Track media is not available", now);
+                    continue;
+                }
+                rendition.claim(now.plus(properties.getLease()), now);
+                jobs.add(new Job(rendition.getId(), rendition.getTrackId(), track.getArtistId(), track.getObjectKey(),
+                        rendition.getBitrateKbps(), rendition.getAttempts()));
+            }
+            return jobs;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void runAll(List<Job> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+        for (Job job : batch) {
+            tasks.add(() -> {
+                transcode(job);
+                return null;
+            });
+        }
+        executor.invokeAll(tasks);
+    }
+
+    void transcode(Job job) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            StoredObject stored = encodeAndStore(job);
+            outcome = completeOrRelease(job, stored) ? "ready" : "stale";
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Transcoding {} to {} kbps failed (attempt {})", job.trackId(), job.bitrateKbps(), job.attempt(), ex);
+            outcome = recordFailure(job, ex);
+        } finally {
+            sample.stop(Timer.builder("media.transcode")
+                    .tag("bitrate", Integer.toString(job.bitrateKbps()))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private StoredObject encodeAndStore(Job job) throws IOException {
+        Path workDir = Files.createTempDirectory("transcode-");
+        try {
+            Path encoded = workDir.resolve("rendition" + properties.getEncoder().getExtension());
+            try (MediaObject source = mediaObjectStorage.open(job.sourceKey())) {
+                audioEncoder.encode(localCopy(source, workDir), encoded, job.bitrateKbps());
+            }
+            String filename = job.trackId() + "-" + job.bitrateKbps() + "k" + properties.getEncoder().getExtension();
+            try (InputStream content = Files.newInputStream(encoded)) {
+                return mediaBlobRegistry.store(job.artistId(), filename, content);
+            }
+        } finally {
+            deleteRecursively(workDir);
+        }
+    }
+
+    // Local storage hands the encoder the stored file itself; other backends are staged into the work directory.
+    private static Path localCopy(MediaObject source, Path workDir) throws IOException {
+        if (source.localPath().isPresent()) {
+            return source.localPath().get();
+        }
+        Path copy = workDir.resolve("source");
+        try (FileChannel target = FileChannel.open(copy, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            while (position < source.contentLength()) {
+                position += source.transferTo(position, source.contentLength() - position, target);
+            }
+        }
+        return copy;
+    }
+
+    // The stored object arrives holding a reference; a stale claim gives it back so the registry, not this worker,
+    // decides whether the bytes are shared with another rendition and may be deleted.
+    private boolean completeOrRelease(Job job, StoredObject stored) {
+        try {
+            return complete(job, stored);
+        } catch (RuntimeException ex) {
+            try {
+                mediaBlobRegistry.release(stored.objectKey());
+            } catch (RuntimeException releaseFailure) {
+                ex.addSuppressed(releaseFailure);
+            }
+            throw ex;
+        }
+    }
+
+    private boolean complete(Job job, StoredObject stored) {
+        Boolean recorded = transactionTemplate.execute(status -> {
+            TrackRendition rendition = currentClaim(job);
+            if (rendition == null) {
+                mediaBlobRegistry.release(stored.objectKey());
+                return false;
+            }
+            rendition.complete(stored.objectKey(), properties.getEncoder().getContentType(), stored.sizeBytes(),
+                    stored.sha256(), Instant.now());
+            return true;
+        });
+        return Boolean.TRUE.equals(recorded);
+    }
+
+    private String recordFailure(Job job, Exception failure) {
+        try {
+            String outcome = transactionTemplate.execute(status -> {
+                TrackRendition rendition = currentClaim(job);
+                if (rendition == null) {
+                    return "stale";
+                }
+                Instant now = Instant.now();
+                String error = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName();
+                if (rendition.getAttempts() >= properties.getMaxAttempts()) {
+                    rendition.fail(error, now);
+                    return "failed";
+                }
+                rendition.retryAt(now.plus(properties.getRetryBackoff().multipliedBy(rendition.getAttempts())), error, now);
+                return "retry";
+            });
+            return outcome == null ? "failed" : outcome;
+        } catch (RuntimeException ex) {
+            // The lease still expires, so the job is picked up again either way.
+            log.warn("Failed to record transcoding failure for {} at {} kbps", job.trackId(), job.bitrateKbps(), ex);
+            return "failed";
+        }
+    }
+
+    private TrackRendition currentClaim(Job job) {
+        return trackRenditionRepository.findById(job.renditionId())
+                .filter(rendition -> rendition.getStatus() == RenditionStatus.RUNNING)
+                .filter(rendition -> rendition.getAttempts() == job.attempt())
+                .orElse(null);
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to clean up transcoding work directory {}", dir, ex);
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "transcode-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    record Job(long renditionId, String trackId, String artistId, String sourceKey, int bitrateKbps, int attempt) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.musicstreaming.mediaservice.transcode.domain;
+
+public enum RenditionStatus {
+    PENDING,
+    RUNNING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,156 @@
+package com.musicstreaming.mediaservice.transcode.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * One bitrate of a track, from the pending transcoding job through to the stored rendition. {@code availableAt}
+ * is when a pending job may next be claimed or, while running, when the worker's lease lapses.
+ */
+@Entity
+@Table(name = "track_renditions")
+public class TrackRendition {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "track_id", nullable = false, length = 40)
+    private String trackId;
+
+    @Column(name = "bitrate_kbps", nullable = false)
+    private int bitrateKbps;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RenditionStatus status;
+
+    @Column(name = "object_key", length = 512)
+    private String objectKey;
+
+    @Column(name = "content_type", length = 120)
+    private String contentType;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "checksum_sha256", length = 64)
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private String checksumSha256;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected TrackRendition() {
+    }
+
+    public TrackRendition(String trackId, int bitrateKbps, Instant createdAt) {
+        this.trackId = trackId;
+        this.bitrateKbps = bitrateKbps;
+        this.status = RenditionStatus.PENDING;
+        this.availableAt = createdAt;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTrackId() {
+        return trackId;
+    }
+
+    public int getBitrateKbps() {
+        return bitrateKbps;
+    }
+
+    public RenditionStatus getStatus() {
+        return status;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getChecksumSha256() {
+        return checksumSha256;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    public void claim(Instant leaseExpiresAt, Instant claimedAt) {
+        this.status = RenditionStatus.RUNNING;
+        this.attempts++;
+        this.availableAt = leaseExpiresAt;
+        this.updatedAt = claimedAt;
+    }
+
+    public void complete(String objectKey, String contentType, long sizeBytes, String checksumSha256, Instant completedAt) {
+        this.status = RenditionStatus.READY;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.sizeBytes = sizeBytes;
+        this.checksumSha256 = checksumSha256;
+        this.lastError = null;
+        this.updatedAt = completedAt;
+    }
+
+    public void retryAt(Instant retryAt, String error, Instant failedAt) {
+        this.status = RenditionStatus.PENDING;
+        this.availableAt = retryAt;
+        this.lastError = truncate(error);
+        this.updatedAt = failedAt;
+    }
+
+    public void fail(String error, Instant failedAt) {
+        this.status = RenditionStatus.FAILED;
+        this.lastError = truncate(error);
+        this.updatedAt = failedAt;
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,21 @@
+package com.musicstreaming.mediaservice.transcode.domain;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TrackRenditionRepository extends JpaRepository<TrackRendition, Long> {
+
+    List<TrackRendition> findAllByTrackIdAndStatus(String trackId, RenditionStatus status);
+
+    @Query(value = """
+            SELECT * FROM track_renditions
+            WHERE status IN ('PENDING', 'RUNNING') AND available_at <= :now
+            ORDER BY available_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<TrackRendition> lockClaimable(@Param("now") Instant now, @Param("limit") int limit);
+}
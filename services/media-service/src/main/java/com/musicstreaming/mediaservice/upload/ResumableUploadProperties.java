@@ -0,0 +1,48 @@
+package com.musicstreaming.mediaservice.upload;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "media.upload.resumable")
+public class ResumableUploadProperties {
+
+    private DataSize defaultChunkSize = DataSize.ofMegabytes(8);
+    private DataSize minChunkSize = DataSize.ofKilobytes(256);
+    private DataSize maxChunkSize = DataSize.ofMegabytes(64);
+    private Duration sessionTtl = Duration.ofHours(24);
+
+    public DataSize getDefaultChunkSize() {
+        return defaultChunkSize;
+    }
+
+    public void setDefaultChunkSize(DataSize defaultChunkSize) {
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    public DataSize getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(DataSize minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public DataSize getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(DataSize maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public Duration getSessionTtl() {
+        return sessionTtl;
+    }
+
+    public void setSessionTtl(Duration sessionTtl) {
+        this.sessionTtl = sessionTtl;
+    }
+}
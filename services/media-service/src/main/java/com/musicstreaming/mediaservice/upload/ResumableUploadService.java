@@ -0,0 +1,318 @@
+package com.musicstreaming.mediaservice.upload;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.mediaservice.track.SizeLimitedInputStream;
+import com.musicstreaming.mediaservice.track.TrackIngestionService;
+import com.musicstreaming.mediaservice.upload.UploadChunkStore.StagedChunk;
+import com.musicstreaming.mediaservice.upload.domain.UploadChunk;
+import com.musicstreaming.mediaservice.upload.domain.UploadChunkRepository;
+import com.musicstreaming.mediaservice.upload.domain.UploadSession;
+import com.musicstreaming.mediaservice.upload.domain.UploadSessionRepository;
+import com.musicstreaming.mediaservice.upload.domain.UploadSessionStatus;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ResumableUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumableUploadService.class);
+    private static final int MAX_CHUNK_COUNT = 10_000;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+    private final UploadChunkStore uploadChunkStore;
+    private final TrackIngestionService trackIngestionService;
+    private final ResumableUploadProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxUploadSizeBytes;
+
+    public ResumableUploadService(
+            UploadSessionRepository uploadSessionRepository,
+            UploadChunkRepository uploadChunkRepository,
+            UploadChunkStore uploadChunkStore,
+            TrackIngestionService trackIngestionService,
+            ResumableUploadProperties properties,
+            PlatformTransactionManager transactionManager,
+            @Value("${media.upload.max-stream-size:2GB}") DataSize maxUploadSize) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadChunkRepository = uploadChunkRepository;
+        this.uploadChunkStore = uploadChunkStore;
+        this.trackIngestionService = trackIngestionService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxUploadSizeBytes = maxUploadSize.toBytes();
+    }
+
+    @Transactional
+    public UploadSessionDetails create(
+            String ownerSubject,
+            String title,
+            String artistId,
+            String artistName,
+            String genre,
+            String contentType,
+            String originalFilename,
+            long totalSizeBytes,
+            Long requestedChunkSizeBytes) {
+        if (contentType == null || !contentType.startsWith("audio/")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only audio files are supported");
+        }
+        if (totalSizeBytes <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Total size must be positive");
+        }
+        if (totalSizeBytes > maxUploadSizeBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Uploaded file exceeds configured size limit");
+        }
+
+        long chunkSizeBytes = requestedChunkSizeBytes != null
+                ? requestedChunkSizeBytes
+                : properties.getDefaultChunkSize().toBytes();
+        if (chunkSizeBytes < properties.getMinChunkSize().toBytes() || chunkSizeBytes > properties.getMaxChunkSize().toBytes()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk size must be between "
+                    + properties.getMinChunkSize().toBytes() + " and " + properties.getMaxChunkSize().toBytes() + " bytes");
+        }
+        long chunkCount = (totalSizeBytes + chunkSizeBytes - 1) / chunkSizeBytes;
+        if (chunkCount > MAX_CHUNK_COUNT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Upload cannot exceed " + MAX_CHUNK_COUNT + " chunks");
+        }
+
+        UploadSession session = uploadSessionRepository.save(new UploadSession(
+                UUID.randomUUID(),
+                ownerSubject,
+                artistId.trim(),
+                artistName.trim(),
+                title.trim(),
+                genre.trim(),
+                contentType,
+                originalFilename,
+                totalSizeBytes,
+                chunkSizeBytes,
+                Math.toIntExact(chunkCount),
+                Instant.now()));
+        return toDetails(session, List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public UploadSessionDetails get(String ownerSubject, UUID uploadId) {
+        UploadSession session = findOwnedSession(ownerSubject, uploadId);
+        return toDetails(session, uploadChunkRepository.findAllBySessionIdOrderByChunkIndexAsc(uploadId));
+    }
+
+    public ChunkDetails putChunk(
+            String ownerSubject,
+            UUID uploadId,
+            int chunkIndex,
+            long contentLength,
+            String expectedSha256,
+            InputStream content) {
+        UploadSession session = findOwnedSession(ownerSubject, uploadId);
+        requireOpen(session);
+        if (chunkIndex < 0 || chunkIndex >= session.getChunkCount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk index out of range");
+        }
+        long expectedSize = session.expectedChunkSize(chunkIndex);
+        if (contentLength >= 0 && contentLength != expectedSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk " + chunkIndex + " must be " + expectedSize + " bytes");
+        }
+
+        StagedChunk staged = stageChunk(uploadId, chunkIndex, new SizeLimitedInputStream(content, expectedSize));
+        try {
+            if (staged.sizeBytes() != expectedSize) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk " + chunkIndex + " must be " + expectedSize + " bytes");
+            }
+            if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(staged.sha256())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk checksum mismatch");
+            }
+
+            // The chunk only replaces the previous copy under the session lock, so it cannot land after complete()
+            // has started reading the assembled file.
+            Instant now = Instant.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                UploadSession current = lockOwnedSession(ownerSubject, uploadId);
+                requireOpen(current);
+                commitChunk(uploadId, chunkIndex, staged);
+                uploadChunkRepository.upsert(UUID.randomUUID(), uploadId, chunkIndex, staged.sizeBytes(), staged.sha256(), now);
+                current.touch(now);
+            });
+        } finally {
+            discardStaged(staged);
+        }
+        return new ChunkDetails(chunkIndex, staged.sizeBytes(), staged.sha256());
+    }
+
+    /**
+     * Completes an upload in three steps so no transaction stays open while the assembled file is stored: the
+     * session is locked and marked COMPLETING, the track is ingested, and the session is marked COMPLETED. A failed
+     * ingest reopens the session for another attempt.
+     */
+    public EventEnvelope<TrackUploadedEvent> complete(String ownerSubject, UUID uploadId) {
+        UploadSession session = transactionTemplate.execute(status -> {
+            UploadSession locked = lockOwnedSession(ownerSubject, uploadId);
+            requireOpen(locked);
+            long received = uploadChunkRepository.countBySessionId(uploadId);
+            if (received != locked.getChunkCount()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Upload is missing " + (locked.getChunkCount() - received) + " chunks");
+            }
+            locked.startCompleting(Instant.now());
+            return locked;
+        });
+
+        EventEnvelope<TrackUploadedEvent> envelope;
+        try {
+            envelope = ingestAssembled(session);
+        } catch (RuntimeException ex) {
+            reopen(uploadId, ex);
+            throw ex;
+        }
+
+        String trackId = envelope.payload().trackId();
+        transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.lockById(uploadId)
+                .ifPresent(current -> current.complete(trackId, Instant.now())));
+        deleteStaging(uploadId);
+        return envelope;
+    }
+
+    /**
+     * Removes a session the sweeper found idle since before {@code cutoff}, re-checking under the lock in case it
+     * was resumed or completed since it was listed.
+     */
+    public void expire(UUID uploadId, Instant cutoff) {
+        Boolean expired = transactionTemplate.execute(status -> uploadSessionRepository.lockById(uploadId)
+                .filter(session -> session.getStatus() != UploadSessionStatus.COMPLETED)
+                .filter(session -> session.getUpdatedAt().isBefore(cutoff))
+                .map(session -> {
+                    uploadSessionRepository.delete(session);
+                    return true;
+                })
+                .orElse(false));
+        if (Boolean.TRUE.equals(expired)) {
+            deleteStaging(uploadId);
+        }
+    }
+
+    private EventEnvelope<TrackUploadedEvent> ingestAssembled(UploadSession session) {
+        try (InputStream assembled = uploadChunkStore.openAssembled(session.getId(), session.getChunkCount())) {
+            return trackIngestionService.ingestStream(
+                    session.getOwnerSubject(),
+                    session.getTitle(),
+                    session.getArtistId(),
+                    session.getArtistName(),
+                    session.getGenre(),
+                    session.getContentType(),
+                    session.getOriginalFilename(),
+                    session.getTotalSizeBytes(),
+                    assembled);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read upload chunks", ex);
+        } catch (UncheckedIOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read upload chunks", ex.getCause());
+        }
+    }
+
+    private void reopen(UUID uploadId, RuntimeException failure) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> uploadSessionRepository.lockById(uploadId)
+                    .filter(session -> session.getStatus() == UploadSessionStatus.COMPLETING)
+                    .ifPresent(session -> session.reopen(Instant.now())));
+        } catch (RuntimeException ex) {
+            // The sweeper reclaims sessions stuck in COMPLETING once they exceed the session TTL.
+            failure.addSuppressed(ex);
+        }
+    }
+
+    private UploadSession findOwnedSession(String ownerSubject, UUID uploadId) {
+        return uploadSessionRepository.findByIdAndOwnerSubject(uploadId, ownerSubject)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload session not found"));
+    }
+
+    private UploadSession lockOwnedSession(String ownerSubject, UUID uploadId) {
+        return uploadSessionRepository.lockByIdAndOwnerSubject(uploadId, ownerSubject)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload session not found"));
+    }
+
+    private void requireOpen(UploadSession session) {
+        if (session.getStatus() == UploadSessionStatus.COMPLETING) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload session is being completed");
+        }
+        if (session.getStatus() != UploadSessionStatus.OPEN) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload session is already completed");
+        }
+    }
+
+    private StagedChunk stageChunk(UUID uploadId, int chunkIndex, InputStream content) {
+        try {
+            return uploadChunkStore.stageChunk(uploadId, chunkIndex, content);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store upload chunk", ex);
+        }
+    }
+
+    private void commitChunk(UUID uploadId, int chunkIndex, StagedChunk staged) {
+        try {
+            uploadChunkStore.commitChunk(uploadId, chunkIndex, staged);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store upload chunk", ex);
+        }
+    }
+
+    private void discardStaged(StagedChunk staged) {
+        try {
+            uploadChunkStore.discard(staged);
+        } catch (IOException ex) {
+            log.warn("Failed to discard staged upload chunk {}", staged.path(), ex);
+        }
+    }
+
+    // Best effort: the session row is already settled, so a leftover directory must not fail the request.
+    private void deleteStaging(UUID uploadId) {
+        try {
+            uploadChunkStore.deleteSession(uploadId);
+        } catch (IOException ex) {
+            log.warn("Failed to delete staging files for upload {}", uploadId, ex);
+        }
+    }
+
+    private UploadSessionDetails toDetails(UploadSession session, List<UploadChunk> chunks) {
+        return new UploadSessionDetails(
+                session.getId(),
+                session.getStatus(),
+                session.getTotalSizeBytes(),
+                session.getChunkSizeBytes(),
+                session.getChunkCount(),
+                chunks.stream().map(UploadChunk::getChunkIndex).toList(),
+                session.getTrackId(),
+                session.getCreatedAt(),
+                session.getUpdatedAt());
+    }
+
+    public record UploadSessionDetails(
+            UUID id,
+            UploadSessionStatus status,
+            long totalSizeBytes,
+            long chunkSizeBytes,
+            int chunkCount,
+            List<Integer> receivedChunks,
+            String trackId,
+            Instant createdAt,
+            Instant updatedAt) {
+    }
+
+    public record ChunkDetails(int index, long sizeBytes, String sha256) {
+    }
+}
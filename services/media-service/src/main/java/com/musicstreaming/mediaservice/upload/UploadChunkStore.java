@@ -0,0 +1,103 @@
+package com.musicstreaming.mediaservice.upload;
+
+import com.musicstreaming.mediaservice.storage.ChecksummingCopier;
+import com.musicstreaming.mediaservice.storage.ChecksummingCopier.CopyResult;
+import com.musicstreaming.mediaservice.storage.MediaStorageProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UploadChunkStore {
+
+    private final Path stagingRoot;
+    private final int bufferSize;
+
+    public UploadChunkStore(MediaStorageProperties properties) {
+        this.stagingRoot = properties.getLocal().resolveStagingPath().resolve("uploads");
+        this.bufferSize = Math.toIntExact(properties.getLocal().getBufferSize().toBytes());
+    }
+
+    /**
+     * Writes a chunk beside its final location; {@link #commitChunk} moves it into place once the session is known
+     * to still accept chunks.
+     */
+    public StagedChunk stageChunk(UUID sessionId, int chunkIndex, InputStream content) throws IOException {
+        Path sessionDir = stagingRoot.resolve(sessionId.toString());
+        Files.createDirectories(sessionDir);
+        Path staged = sessionDir.resolve(chunkIndex + ".part." + UUID.randomUUID());
+
+        CopyResult written;
+        try (FileChannel target = FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            written = ChecksummingCopier.copy(Channels.newChannel(content), target, bufferSize);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(staged);
+            throw ex;
+        }
+        return new StagedChunk(staged, written.sizeBytes(), written.sha256());
+    }
+
+    public void commitChunk(UUID sessionId, int chunkIndex, StagedChunk staged) throws IOException {
+        Files.move(staged.path(), chunkPath(sessionId, chunkIndex), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // A no-op once the chunk was committed.
+    public void discard(StagedChunk staged) throws IOException {
+        Files.deleteIfExists(staged.path());
+    }
+
+    public InputStream openAssembled(UUID sessionId, int chunkCount) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < chunkCount;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!hasMoreElements()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return Files.newInputStream(chunkPath(sessionId, next++));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        });
+    }
+
+    public void deleteSession(UUID sessionId) throws IOException {
+        Path sessionDir = stagingRoot.resolve(sessionId.toString());
+        if (!Files.exists(sessionDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(sessionDir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private Path chunkPath(UUID sessionId, int chunkIndex) {
+        return stagingRoot.resolve(sessionId.toString()).resolve(chunkIndex + ".part");
+    }
+
+    public record StagedChunk(Path path, long sizeBytes, String sha256) {
+    }
+}
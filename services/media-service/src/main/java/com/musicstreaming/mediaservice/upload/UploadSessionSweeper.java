@@ -0,0 +1,46 @@
+package com.musicstreaming.mediaservice.upload;
+
+import com.musicstreaming.mediaservice.upload.domain.UploadSession;
+import com.musicstreaming.mediaservice.upload.domain.UploadSessionRepository;
+import com.musicstreaming.mediaservice.upload.domain.UploadSessionStatus;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UploadSessionSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionSweeper.class);
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ResumableUploadService resumableUploadService;
+    private final ResumableUploadProperties properties;
+
+    public UploadSessionSweeper(
+            UploadSessionRepository uploadSessionRepository,
+            ResumableUploadService resumableUploadService,
+            ResumableUploadProperties properties) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.resumableUploadService = resumableUploadService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${media.upload.resumable.sweep-interval:PT15M}")
+    public void expireAbandonedSessions() {
+        Instant cutoff = Instant.now().minus(properties.getSessionTtl());
+        // A COMPLETING session this old belongs to a completion that died between its two transactions.
+        List<UploadSession> expired = uploadSessionRepository.findTop100ByStatusInAndUpdatedAtBefore(
+                EnumSet.of(UploadSessionStatus.OPEN, UploadSessionStatus.COMPLETING), cutoff);
+        for (UploadSession session : expired) {
+            try {
+                resumableUploadService.expire(session.getId(), cutoff);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to expire upload session {}", session.getId(), ex);
+            }
+        }
+    }
+}
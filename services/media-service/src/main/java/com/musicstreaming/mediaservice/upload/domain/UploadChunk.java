@@ -0,0 +1,54 @@
+package com.musicstreaming.mediaservice.upload.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "upload_session_chunks")
+public class UploadChunk {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "session_id", nullable = false)
+    private UUID sessionId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "received_at", nullable = false)
+    private Instant receivedAt;
+
+    protected UploadChunk() {
+    }
+
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public Instant getReceivedAt() {
+        return receivedAt;
+    }
+}
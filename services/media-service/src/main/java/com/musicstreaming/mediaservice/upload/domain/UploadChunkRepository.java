@@ -0,0 +1,31 @@
+package com.musicstreaming.mediaservice.upload.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UploadChunkRepository extends JpaRepository<UploadChunk, UUID> {
+
+    List<UploadChunk> findAllBySessionIdOrderByChunkIndexAsc(UUID sessionId);
+
+    long countBySessionId(UUID sessionId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO upload_session_chunks (id, session_id, chunk_index, size_bytes, sha256, received_at)
+            VALUES (:id, :sessionId, :chunkIndex, :sizeBytes, :sha256, :receivedAt)
+            ON CONFLICT (session_id, chunk_index)
+            DO UPDATE SET size_bytes = EXCLUDED.size_bytes, sha256 = EXCLUDED.sha256, received_at = EXCLUDED.received_at
+            """, nativeQuery = true)
+    void upsert(
+            @Param("id") UUID id,
+            @Param("sessionId") UUID sessionId,
+            @Param("chunkIndex") int chunkIndex,
+            @Param("sizeBytes") long sizeBytes,
+            @Param("sha256") String sha256,
+            @Param("receivedAt") Instant receivedAt);
+}
@@ -0,0 +1,180 @@
+package com.musicstreaming.mediaservice.upload.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "upload_sessions")
+public class UploadSession {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "owner_subject", nullable = false, length = 320)
+    private String ownerSubject;
+
+    @Column(name = "artist_id", nullable = false, length = 80)
+    private String artistId;
+
+    @Column(name = "artist_name", nullable = false, length = 160)
+    private String artistName;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(nullable = false, length = 80)
+    private String genre;
+
+    @Column(name = "content_type", nullable = false, length = 120)
+    private String contentType;
+
+    @Column(name = "original_filename", length = 255)
+    private String originalFilename;
+
+    @Column(name = "total_size_bytes", nullable = false)
+    private long totalSizeBytes;
+
+    @Column(name = "chunk_size_bytes", nullable = false)
+    private long chunkSizeBytes;
+
+    @Column(name = "chunk_count", nullable = false)
+    private int chunkCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadSessionStatus status;
+
+    @Column(name = "track_id", length = 40)
+    private String trackId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected UploadSession() {
+    }
+
+    public UploadSession(
+            UUID id,
+            String ownerSubject,
+            String artistId,
+            String artistName,
+            String title,
+            String genre,
+            String contentType,
+            String originalFilename,
+            long totalSizeBytes,
+            long chunkSizeBytes,
+            int chunkCount,
+            Instant createdAt) {
+        this.id = id;
+        this.ownerSubject = ownerSubject;
+        this.artistId = artistId;
+        this.artistName = artistName;
+        this.title = title;
+        this.genre = genre;
+        this.contentType = contentType;
+        this.originalFilename = originalFilename;
+        this.totalSizeBytes = totalSizeBytes;
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.chunkCount = chunkCount;
+        this.status = UploadSessionStatus.OPEN;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getOwnerSubject() {
+        return ownerSubject;
+    }
+
+    public String getArtistId() {
+        return artistId;
+    }
+
+    public String getArtistName() {
+        return artistName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getGenre() {
+        return genre;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public long getChunkSizeBytes() {
+        return chunkSizeBytes;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public UploadSessionStatus getStatus() {
+        return status;
+    }
+
+    public String getTrackId() {
+        return trackId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long expectedChunkSize(int chunkIndex) {
+        if (chunkIndex < chunkCount - 1) {
+            return chunkSizeBytes;
+        }
+        return totalSizeBytes - chunkSizeBytes * (chunkCount - 1L);
+    }
+
+    public void touch(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public void startCompleting(Instant startedAt) {
+        this.status = UploadSessionStatus.COMPLETING;
+        this.updatedAt = startedAt;
+    }
+
+    public void reopen(Instant reopenedAt) {
+        this.status = UploadSessionStatus.OPEN;
+        this.updatedAt = reopenedAt;
+    }
+
+    public void complete(String trackId, Instant completedAt) {
+        this.status = UploadSessionStatus.COMPLETED;
+        this.trackId = trackId;
+        this.updatedAt = completedAt;
+    }
+}
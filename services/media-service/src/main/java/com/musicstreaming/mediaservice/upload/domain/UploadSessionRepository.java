@@ -0,0 +1,27 @@
+package com.musicstreaming.mediaservice.upload.domain;
+
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    Optional<UploadSession> findByIdAndOwnerSubject(UUID id, String ownerSubject);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UploadSession s where s.id = :id and s.ownerSubject = :ownerSubject")
+    Optional<UploadSession> lockByIdAndOwnerSubject(@Param("id") UUID id, @Param("ownerSubject") String ownerSubject);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UploadSession s where s.id = :id")
+    Optional<UploadSession> lockById(@Param("id") UUID id);
+
+    List<UploadSession> findTop100ByStatusInAndUpdatedAtBefore(Collection<UploadSessionStatus> statuses, Instant updatedBefore);
+}
@@ -0,0 +1,7 @@
+package com.musicstreaming.mediaservice.upload.domain;
+
+public enum UploadSessionStatus {
+    OPEN,
+    COMPLETING,
+    COMPLETED
+}
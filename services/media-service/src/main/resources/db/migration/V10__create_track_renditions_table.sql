@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS track_renditions (
+    id BIGSERIAL PRIMARY KEY,
+    track_id VARCHAR(40) NOT NULL REFERENCES tracks(track_id) ON DELETE CASCADE,
+    bitrate_kbps INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    object_key VARCHAR(512),
+    content_type VARCHAR(120),
+    size_bytes BIGINT,
+    checksum_sha256 CHAR(64),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    available_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uk_track_renditions_bitrate UNIQUE (track_id, bitrate_kbps)
+);
+
+-- Pending jobs and running jobs whose lease has lapsed are claimed in available_at order.
+CREATE INDEX IF NOT EXISTS idx_track_renditions_claimable ON track_renditions(available_at)
+    WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_media_blobs_unreferenced ON media_blobs (updated_at) WHERE ref_count = 0;
@@ -0,0 +1,6 @@
+-- GiST trigram indexes return rows in word-similarity distance order (<<->), so the typo fallback reads the best
+-- matches first instead of ranking an arbitrary subset of everything above the threshold.
+DROP INDEX IF EXISTS idx_tracks_title_trgm;
+DROP INDEX IF EXISTS idx_tracks_artist_name_trgm;
+CREATE INDEX IF NOT EXISTS idx_tracks_title_trgm ON tracks USING GIST (title gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tracks_artist_name_trgm ON tracks USING GIST (artist_name gist_trgm_ops);
@@ -0,0 +1,3 @@
+ALTER TABLE tracks ADD COLUMN IF NOT EXISTS object_key VARCHAR(512);
+ALTER TABLE tracks ADD COLUMN IF NOT EXISTS content_type VARCHAR(120);
+ALTER TABLE tracks ADD COLUMN IF NOT EXISTS size_bytes BIGINT;
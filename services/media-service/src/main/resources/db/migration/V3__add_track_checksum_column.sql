@@ -0,0 +1 @@
+ALTER TABLE tracks ADD COLUMN IF NOT EXISTS checksum_sha256 CHAR(64);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS media_blobs (
+    object_key VARCHAR(512) PRIMARY KEY,
+    sha256 VARCHAR(64) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    ref_count INTEGER NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT chk_media_blobs_ref_count CHECK (ref_count >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_media_blobs_sha256 ON media_blobs(sha256);
+
+INSERT INTO media_blobs (object_key, sha256, size_bytes, ref_count, created_at, updated_at)
+SELECT object_key, MIN(checksum_sha256), MIN(size_bytes), COUNT(*), MIN(created_at), MAX(created_at)
+FROM tracks
+WHERE object_key IS NOT NULL AND checksum_sha256 IS NOT NULL AND size_bytes IS NOT NULL
+GROUP BY object_key
+ON CONFLICT (object_key) DO NOTHING;
@@ -0,0 +1,29 @@
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id UUID PRIMARY KEY,
+    owner_subject VARCHAR(320) NOT NULL,
+    artist_id VARCHAR(80) NOT NULL,
+    artist_name VARCHAR(160) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    genre VARCHAR(80) NOT NULL,
+    content_type VARCHAR(120) NOT NULL,
+    original_filename VARCHAR(255),
+    total_size_bytes BIGINT NOT NULL,
+    chunk_size_bytes BIGINT NOT NULL,
+    chunk_count INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    track_id VARCHAR(40),
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_status_updated ON upload_sessions(status, updated_at);
+
+CREATE TABLE IF NOT EXISTS upload_session_chunks (
+    id UUID PRIMARY KEY,
+    session_id UUID NOT NULL REFERENCES upload_sessions(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    sha256 VARCHAR(64) NOT NULL,
+    received_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uk_upload_session_chunks_index UNIQUE (session_id, chunk_index)
+);
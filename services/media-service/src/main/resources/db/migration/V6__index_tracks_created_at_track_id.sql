@@ -0,0 +1,2 @@
+DROP INDEX IF EXISTS idx_tracks_created_at_desc;
+CREATE INDEX IF NOT EXISTS idx_tracks_created_at_desc ON tracks(created_at DESC, track_id DESC);
@@ -0,0 +1 @@
+ALTER TABLE event_outbox ADD COLUMN IF NOT EXISTS content_type VARCHAR(120) NOT NULL DEFAULT 'application/json';
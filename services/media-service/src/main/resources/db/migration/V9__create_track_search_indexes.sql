@@ -0,0 +1,17 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Whole-name prefixes ("starts with") walk a B-tree in order, so typeahead reads stop after one page.
+CREATE INDEX IF NOT EXISTS idx_tracks_title_prefix ON tracks (lower(title) text_pattern_ops, track_id);
+CREATE INDEX IF NOT EXISTS idx_tracks_artist_name_prefix ON tracks (lower(artist_name) text_pattern_ops, track_id);
+
+-- Word prefixes anywhere in title, artist or genre. The 'simple' configuration keeps names unstemmed.
+ALTER TABLE tracks ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', title), 'A')
+        || setweight(to_tsvector('simple', artist_name), 'B')
+        || setweight(to_tsvector('simple', genre), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_tracks_search_vector ON tracks USING GIN (search_vector);
+
+-- Typo-tolerant fallback.
+CREATE INDEX IF NOT EXISTS idx_tracks_title_trgm ON tracks USING GIN (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tracks_artist_name_trgm ON tracks USING GIN (artist_name gin_trgm_ops);
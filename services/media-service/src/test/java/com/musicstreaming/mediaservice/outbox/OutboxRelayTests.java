@@ -0,0 +1,107 @@
+package com.musicstreaming.mediaservice.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.common.events.codec.EventCodecRegistry;
+import com.musicstreaming.mediaservice.outbox.domain.OutboxEvent;
+import com.musicstreaming.mediaservice.outbox.domain.OutboxEventRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTests {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setBatchSize(10);
+    }
+
+    @Test
+    void publishesBatchWithHeadersAndDeletesRelayedRows() {
+        MockProducer<String, byte[]> producer = producer(true);
+        OutboxRelay relay = relay(producer);
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(event(1L, "trk_1"), event(2L, "trk_2")));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(producer.history()).extracting(ProducerRecord::key).containsExactly("trk_1", "trk_2");
+        ProducerRecord<String, byte[]> first = producer.history().get(0);
+        assertThat(first.topic()).isEqualTo("media.events");
+        assertThat(new String(first.headers().lastHeader(OutboxRelay.EVENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo("TrackUploaded");
+        assertThat(new String(first.headers().lastHeader(OutboxRelay.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo(EventCodecRegistry.CONTENT_TYPE);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void unacknowledgedSendsStayInOutbox() {
+        MockProducer<String, byte[]> producer = producer(false);
+        properties.setSendTimeout(Duration.ofMillis(20));
+        OutboxRelay relay = relay(producer);
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(event(1L, "trk_1")));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isZero();
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of());
+    }
+
+    @Test
+    void emptyOutboxPublishesNothing() {
+        MockProducer<String, byte[]> producer = producer(true);
+        OutboxRelay relay = relay(producer);
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of());
+
+        relay.drain();
+
+        assertThat(producer.history()).isEmpty();
+    }
+
+    // KafkaTemplate closes non-shared producers after each send; keep the mock open like DefaultKafkaProducerFactory does.
+    private static MockProducer<String, byte[]> producer(boolean autoComplete) {
+        return new MockProducer<>(autoComplete, new StringSerializer(), new ByteArraySerializer()) {
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+    }
+
+    private OutboxRelay relay(MockProducer<String, byte[]> producer) {
+        KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(new MockProducerFactory<>(() -> producer));
+        return new OutboxRelay(outboxEventRepository, kafkaTemplate, properties, transactionManager);
+    }
+
+    private static OutboxEvent event(long id, String key) {
+        OutboxEvent event = new OutboxEvent("media.events", key, "TrackUploaded", "1.0.0", EventCodecRegistry.CONTENT_TYPE, new byte[] {1}, Instant.now());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,98 @@
+package com.musicstreaming.mediaservice.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentAddressedStorageTests {
+
+    @TempDir
+    Path tempDir;
+
+    private ContentAddressedStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        MediaStorageProperties properties = new MediaStorageProperties();
+        properties.getLocal().setRoot(tempDir.resolve("media").toString());
+        properties.getLocal().setStagingRoot(tempDir.resolve("staging").toString());
+        properties.getLocal().setPublicBaseUrl("http://localhost:8082/local-media");
+        storage = new ContentAddressedStorage(properties);
+    }
+
+    @Test
+    void storeKeysObjectsByContentHash() throws Exception {
+        MediaObjectStorage.StoredObject stored = storage.store("artist_1", "a.mp3", new ByteArrayInputStream(new byte[] {1, 2, 3}));
+
+        assertThat(stored.objectKey()).isEqualTo(ContentAddressedStorage.objectKeyFor(stored.sha256()));
+        assertThat(stored.deduplicated()).isFalse();
+        assertThat(Files.size(tempDir.resolve("media").resolve(stored.objectKey()))).isEqualTo(3);
+    }
+
+    @Test
+    void storeSkipsWriteWhenIdenticalBlobExists() throws Exception {
+        MediaObjectStorage.StoredObject first = storage.store("artist_1", "a.mp3", new ByteArrayInputStream(new byte[] {4, 5, 6}));
+        MediaObjectStorage.StoredObject second = storage.store("artist_2", "b.wav", new ByteArrayInputStream(new byte[] {4, 5, 6}));
+
+        assertThat(second.objectKey()).isEqualTo(first.objectKey());
+        assertThat(second.publicUrl()).isEqualTo(first.publicUrl());
+        assertThat(second.deduplicated()).isTrue();
+        try (Stream<Path> staged = Files.list(tempDir.resolve("staging").resolve("objects"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    void stageWritesOutsideTheServedRoot() throws Exception {
+        MediaObjectStorage.StagedObject staged = storage.stage("artist_1", "a.mp3", new ByteArrayInputStream(new byte[] {1}));
+
+        assertThat(staged.path()).startsWith(tempDir.resolve("staging"));
+        assertThat(tempDir.resolve("media")).doesNotExist();
+    }
+
+    @Test
+    void rejectsStagingRootInsideTheServedRoot() {
+        MediaStorageProperties properties = new MediaStorageProperties();
+        properties.getLocal().setRoot(tempDir.toString());
+        properties.getLocal().setStagingRoot(tempDir.resolve("tmp").toString());
+
+        assertThatThrownBy(() -> new ContentAddressedStorage(properties)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stagingRootDefaultsToASiblingOfTheRoot() {
+        MediaStorageProperties.Local local = new MediaStorageProperties().getLocal();
+        local.setRoot(tempDir.resolve("media").toString());
+
+        assertThat(local.resolveStagingPath()).isEqualTo(tempDir.resolve("media-staging").toAbsolutePath().normalize());
+    }
+
+    @Test
+    void publishReusesObjectThatAppearedAfterStaging() throws Exception {
+        MediaObjectStorage.StagedObject staged = storage.stage("artist_1", "a.mp3", new ByteArrayInputStream(new byte[] {7, 8}));
+        MediaObjectStorage.StoredObject existing = storage.store("artist_2", "b.mp3", new ByteArrayInputStream(new byte[] {7, 8}));
+
+        MediaObjectStorage.StoredObject published = storage.publish(staged);
+
+        assertThat(published.objectKey()).isEqualTo(existing.objectKey());
+        assertThat(published.deduplicated()).isTrue();
+        assertThat(staged.path()).doesNotExist();
+    }
+
+    @Test
+    void discardRemovesStagedObjectWithoutPublishingIt() throws Exception {
+        MediaObjectStorage.StagedObject staged = storage.stage("artist_1", "a.mp3", new ByteArrayInputStream(new byte[] {9}));
+
+        storage.discard(staged);
+
+        assertThat(staged.path()).doesNotExist();
+        assertThat(tempDir.resolve("media").resolve(staged.objectKey())).doesNotExist();
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockMultipartFile;
@@ -27,5 +29,8 @@ class LocalFilesystemStorageTests {
         assertThat(Files.exists(savedPath)).isTrue();
         assertThat(stored.storagePath()).startsWith("/local-media/raw/artist_1/");
         assertThat(stored.publicUrl()).startsWith("http://localhost:8082/local-media/raw/artist_1/");
+        assertThat(stored.sizeBytes()).isEqualTo(3);
+        assertThat(stored.sha256()).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(new byte[] {10, 20, 30})));
     }
 }
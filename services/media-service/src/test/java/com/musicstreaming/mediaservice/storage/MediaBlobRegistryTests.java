@@ -0,0 +1,132 @@
+package com.musicstreaming.mediaservice.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StagedObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
+import com.musicstreaming.mediaservice.storage.domain.MediaBlobRepository;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class MediaBlobRegistryTests {
+
+    private static final String KEY = "cas/ab/cd/abcd";
+    private static final StagedObject STAGED = new StagedObject(KEY, Path.of("tmp/1.part"), 3, "abcd");
+
+    @Mock
+    private MediaBlobRepository mediaBlobRepository;
+
+    @Mock
+    private MediaObjectStorage mediaObjectStorage;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MediaBlobRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MediaBlobRegistry(mediaBlobRepository, mediaObjectStorage, transactionManager);
+    }
+
+    @Test
+    void storeCommitsReferenceBeforePublishing() throws Exception {
+        InputStream content = new ByteArrayInputStream(new byte[] {1, 2, 3});
+        StoredObject stored = new StoredObject(KEY, "/local-media/" + KEY, "http://x/" + KEY, 3, "abcd", true);
+        when(mediaObjectStorage.stage("artist-1", "a.mp3", content)).thenReturn(STAGED);
+        when(mediaObjectStorage.publish(STAGED)).thenReturn(stored);
+
+        assertThat(registry.store("artist-1", "a.mp3", content)).isEqualTo(stored);
+
+        InOrder order = inOrder(mediaObjectStorage, mediaBlobRepository, transactionManager);
+        order.verify(mediaObjectStorage).stage("artist-1", "a.mp3", content);
+        order.verify(mediaBlobRepository).retain(eq(KEY), eq("abcd"), eq(3L), any());
+        order.verify(transactionManager).commit(any());
+        order.verify(mediaObjectStorage).publish(STAGED);
+    }
+
+    @Test
+    void failedRetainDiscardsStagedObject() throws Exception {
+        InputStream content = new ByteArrayInputStream(new byte[] {1, 2, 3});
+        when(mediaObjectStorage.stage("artist-1", "a.mp3", content)).thenReturn(STAGED);
+        doThrow(new IllegalStateException("connection reset")).when(mediaBlobRepository)
+                .retain(anyString(), anyString(), any(Long.class), any());
+
+        assertThatThrownBy(() -> registry.store("artist-1", "a.mp3", content)).isInstanceOf(IllegalStateException.class);
+
+        verify(mediaObjectStorage).discard(STAGED);
+        verify(mediaObjectStorage, never()).publish(any());
+    }
+
+    @Test
+    void failedPublishDiscardsStagedObjectAndReleasesReference() throws Exception {
+        InputStream content = new ByteArrayInputStream(new byte[] {1, 2, 3});
+        when(mediaObjectStorage.stage("artist-1", "a.mp3", content)).thenReturn(STAGED);
+        when(mediaObjectStorage.publish(STAGED)).thenThrow(new IOException("disk full"));
+        when(mediaBlobRepository.release(eq(KEY), any())).thenReturn(1);
+        when(mediaBlobRepository.lockUnreferenced(KEY)).thenReturn(Optional.of(KEY));
+
+        assertThatThrownBy(() -> registry.store("artist-1", "a.mp3", content)).isInstanceOf(IOException.class);
+
+        verify(mediaObjectStorage).discard(STAGED);
+        verify(mediaObjectStorage).delete(KEY);
+        verify(mediaBlobRepository).deleteUnreferenced(KEY);
+    }
+
+    @Test
+    void releaseDeletesObjectOnlyWhileItsRowIsLockedUnreferenced() throws Exception {
+        when(mediaBlobRepository.release(eq(KEY), any())).thenReturn(1);
+        when(mediaBlobRepository.lockUnreferenced(KEY)).thenReturn(Optional.of(KEY));
+
+        registry.release(KEY);
+
+        InOrder order = inOrder(mediaBlobRepository, mediaObjectStorage);
+        order.verify(mediaBlobRepository).lockUnreferenced(KEY);
+        order.verify(mediaObjectStorage).delete(KEY);
+        order.verify(mediaBlobRepository).deleteUnreferenced(KEY);
+    }
+
+    @Test
+    void releaseKeepsObjectThatWasRetainedAgain() throws Exception {
+        when(mediaBlobRepository.release(eq(KEY), any())).thenReturn(1);
+        when(mediaBlobRepository.lockUnreferenced(KEY)).thenReturn(Optional.empty());
+
+        registry.release(KEY);
+
+        verify(mediaObjectStorage, never()).delete(anyString());
+        verify(mediaBlobRepository, never()).deleteUnreferenced(anyString());
+    }
+
+    @Test
+    void failedDeleteIsLoggedAndLeftForTheSweeper() throws Exception {
+        when(mediaBlobRepository.release(eq(KEY), any())).thenReturn(1);
+        when(mediaBlobRepository.lockUnreferenced(KEY)).thenReturn(Optional.of(KEY));
+        doThrow(new IOException("permission denied")).when(mediaObjectStorage).delete(KEY);
+
+        assertThatCode(() -> registry.release(KEY)).doesNotThrowAnyException();
+
+        verify(mediaBlobRepository, never()).deleteUnreferenced(anyString());
+        verify(transactionManager).rollback(any());
+    }
+}
@@ -0,0 +1,119 @@
+package com.musicstreaming.mediaservice.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musicstreaming.mediaservice.storage.LocalFilesystemStorage;
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.storage.MediaStorageProperties;
+import com.musicstreaming.mediaservice.stream.TrackStreamService.StreamableTrack;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ByteRangeResponseWriterTests {
+
+    private static final String ETAG = "\"trk_1-10\"";
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteRangeResponseWriter writer = new ByteRangeResponseWriter();
+    private LocalFilesystemStorage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(tempDir.resolve("raw/artist_1"));
+        Files.write(tempDir.resolve("raw/artist_1/song.mp3"), "0123456789".getBytes());
+        MediaStorageProperties properties = new MediaStorageProperties();
+        properties.getLocal().setRoot(tempDir.toString());
+        storage = new LocalFilesystemStorage(properties);
+    }
+
+    @Test
+    void writesWholeObjectWithoutRangeHeader() throws Exception {
+        MockHttpServletResponse response = write(new MockHttpServletRequest());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void writesSingleRangeAsPartialContent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void writesMultipleRangesAsMultipartByteranges() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=0-1,-2");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/10\r\n\r\n01");
+        assertThat(body).contains("Content-Range: bytes 8-9/10\r\n\r\n89");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=20-30");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void ignoresMalformedRange() throws Exception {
+        for (String range : new String[] {"bytes=abc", "bytes=5-2", "items=0-1"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("Range", range);
+
+            MockHttpServletResponse response = write(request);
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getHeader("Content-Range")).as(range).isNull();
+            assertThat(response.getContentAsString()).as(range).isEqualTo("0123456789");
+        }
+    }
+
+    @Test
+    void handsSingleRangeToContainerSendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ByteRangeResponseWriter.SENDFILE_SUPPORT_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=4-");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(request.getAttribute(ByteRangeResponseWriter.SENDFILE_START_ATTR)).isEqualTo(4L);
+        assertThat(request.getAttribute(ByteRangeResponseWriter.SENDFILE_END_ATTR)).isEqualTo(10L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (MediaObject media = storage.open("raw/artist_1/song.mp3")) {
+            writer.write(request, response, new StreamableTrack(media, "audio/mpeg", ETAG));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,135 @@
+package com.musicstreaming.mediaservice.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage;
+import com.musicstreaming.mediaservice.stream.TrackStreamService.StreamableTrack;
+import com.musicstreaming.mediaservice.track.domain.TrackRecord;
+import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import com.musicstreaming.mediaservice.transcode.TranscodingProperties;
+import com.musicstreaming.mediaservice.transcode.domain.RenditionStatus;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRendition;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRenditionRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class TrackStreamServiceTests {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    @Mock
+    private TrackRecordRepository trackRecordRepository;
+
+    @Mock
+    private TrackRenditionRepository trackRenditionRepository;
+
+    @Mock
+    private MediaObjectStorage mediaObjectStorage;
+
+    private TrackStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        TranscodingProperties properties = new TranscodingProperties();
+        properties.setDefaultBitrate(128);
+        service = new TrackStreamService(trackRecordRepository, trackRenditionRepository, mediaObjectStorage, properties);
+    }
+
+    @Test
+    void defaultsToConfiguredBitrateRendition() throws Exception {
+        givenTrack();
+        givenReady(ready(64), ready(128), ready(320));
+        MediaObject media = media("raw/artist-1/trk_1-128k.mp3", 2048);
+
+        StreamableTrack track = service.open("trk_1", null);
+
+        assertThat(track.media()).isSameAs(media);
+        assertThat(track.contentType()).isEqualTo("audio/mpeg");
+        assertThat(track.etag()).isEqualTo("\"trk_1-128k-2048\"");
+    }
+
+    @Test
+    void picksHighestRenditionAtOrBelowRequestedBitrate() throws Exception {
+        givenTrack();
+        givenReady(ready(64), ready(320));
+        MediaObject media = media("raw/artist-1/trk_1-64k.mp3", 512);
+
+        assertThat(service.open("trk_1", 256).media()).isSameAs(media);
+    }
+
+    @Test
+    void fallsBackToLowestRenditionWhenAllExceedRequest() throws Exception {
+        givenTrack();
+        givenReady(ready(128), ready(320));
+        MediaObject media = media("raw/artist-1/trk_1-128k.mp3", 1024);
+
+        assertThat(service.open("trk_1", 32).media()).isSameAs(media);
+    }
+
+    @Test
+    void servesOriginalUntilRenditionsAreReady() throws Exception {
+        givenTrack();
+        givenReady();
+        MediaObject media = media("raw/artist-1/source.wav", 4096);
+
+        StreamableTrack track = service.open("trk_1", 128);
+
+        assertThat(track.media()).isSameAs(media);
+        assertThat(track.contentType()).isEqualTo("audio/wav");
+        assertThat(track.etag()).isEqualTo("\"trk_1-4096\"");
+    }
+
+    @Test
+    void zeroBitrateRequestsOriginal() throws Exception {
+        givenTrack();
+        MediaObject media = media("raw/artist-1/source.wav", 4096);
+
+        assertThat(service.open("trk_1", 0).media()).isSameAs(media);
+        verify(trackRenditionRepository, never()).findAllByTrackIdAndStatus("trk_1", RenditionStatus.READY);
+    }
+
+    @Test
+    void rejectsNegativeBitrate() {
+        assertThatThrownBy(() -> service.open("trk_1", -1))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("bitrate must not be negative");
+    }
+
+    private void givenTrack() {
+        when(trackRecordRepository.findById("trk_1")).thenReturn(Optional.of(new TrackRecord("trk_1", "artist-1", "Artist 1",
+                "Song", "Rock", "https://example.com/mock.mp3", NOW, "raw/artist-1/source.wav", "audio/wav", 4096L,
+                "c".repeat(64))));
+    }
+
+    private void givenReady(TrackRendition... renditions) {
+        when(trackRenditionRepository.findAllByTrackIdAndStatus("trk_1", RenditionStatus.READY)).thenReturn(List.of(renditions));
+    }
+
+    private MediaObject media(String objectKey, long length) throws Exception {
+        MediaObject media = mock(MediaObject.class);
+        when(media.contentLength()).thenReturn(length);
+        when(mediaObjectStorage.open(objectKey)).thenReturn(media);
+        return media;
+    }
+
+    private static TrackRendition ready(int bitrateKbps) {
+        TrackRendition rendition = new TrackRendition("trk_1", bitrateKbps, NOW);
+        rendition.claim(NOW, NOW);
+        rendition.complete("raw/artist-1/trk_1-" + bitrateKbps + "k.mp3", "audio/mpeg", 1024, "d".repeat(64), NOW);
+        return rendition;
+    }
+}
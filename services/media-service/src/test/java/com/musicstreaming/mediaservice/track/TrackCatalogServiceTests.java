@@ -0,0 +1,83 @@
+package com.musicstreaming.mediaservice.track;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicstreaming.mediaservice.track.domain.TrackRecord;
+import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class TrackCatalogServiceTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00.123456Z");
+
+    @Mock
+    private TrackRecordRepository trackRecordRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TrackCatalogService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrackCatalogService(trackRecordRepository, dataSource, transactionManager, new ObjectMapper(), 100);
+    }
+
+    @Test
+    void firstPageReturnsNextCursorWhenMoreRowsExist() {
+        when(trackRecordRepository.findAllByOrderByCreatedAtDescTrackIdDesc(Limit.of(3)))
+                .thenReturn(List.of(track("trk_3", NOW), track("trk_2", NOW), track("trk_1", NOW.minusSeconds(1))));
+
+        TrackCatalogService.TrackPage page = service.listTracks(null, 2);
+
+        assertThat(page.items()).extracting(TrackView::trackId).containsExactly("trk_3", "trk_2");
+        assertThat(page.nextCursor()).isEqualTo(new TrackCursor(NOW, "trk_2"));
+    }
+
+    @Test
+    void lastPageHasNoNextCursor() {
+        TrackCursor cursor = new TrackCursor(NOW, "trk_2");
+        when(trackRecordRepository.findPageAfter(NOW, "trk_2", Limit.of(3)))
+                .thenReturn(List.of(track("trk_1", NOW.minusSeconds(1))));
+
+        TrackCatalogService.TrackPage page = service.listTracks(cursor, 2);
+
+        assertThat(page.items()).extracting(TrackView::trackId).containsExactly("trk_1");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void cursorRoundTripsThroughOpaqueEncoding() {
+        TrackCursor cursor = new TrackCursor(NOW, "trk_abc");
+
+        assertThat(TrackCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> TrackCursor.decode("not-a-cursor"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private static TrackRecord track(String trackId, Instant createdAt) {
+        return new TrackRecord(trackId, "artist-1", "Artist", "Song", "Rock", "url", createdAt, null, null, null, null);
+    }
+}
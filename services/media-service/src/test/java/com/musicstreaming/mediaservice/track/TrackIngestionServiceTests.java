@@ -3,54 +3,151 @@ package com.musicstreaming.mediaservice.track;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.musicstreaming.common.events.EventEnvelope;
 import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.mediaservice.outbox.EventOutbox;
+import com.musicstreaming.mediaservice.storage.MediaBlobRegistry;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage;
 import com.musicstreaming.mediaservice.track.domain.TrackRecord;
 import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import com.musicstreaming.mediaservice.transcode.RenditionQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
 class TrackIngestionServiceTests {
 
+    private static final String UPLOADER = "6d1f0c2e-8b3a-4e5d-9f7c-1a2b3c4d5e6f";
+
     @Mock
     private TrackRecordRepository trackRecordRepository;
 
+    @Mock
+    private MediaBlobRegistry mediaBlobRegistry;
+
+    @Mock
+    private EventOutbox eventOutbox;
+
+    @Mock
+    private RenditionQueue renditionQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private TrackIngestionService service;
 
     @BeforeEach
     void setUp() {
-        service = new TrackIngestionService(trackRecordRepository, "https://example.com/mock.mp3");
+        service = new TrackIngestionService(
+                trackRecordRepository,
+                mediaBlobRegistry,
+                eventOutbox,
+                renditionQueue,
+                transactionManager,
+                "https://example.com/mock.mp3",
+                DataSize.ofBytes(8),
+                meterRegistry);
     }
 
     @Test
-    void ingestStoresMetadataAndBuildsEventEnvelope() {
+    void ingestStoresMetadataAndBuildsEventEnvelope() throws Exception {
         MockMultipartFile file = new MockMultipartFile("file", "song.mp3", "audio/mpeg", new byte[] {1, 2, 3});
+        when(mediaBlobRegistry.store(eq("artist-1"), any(MockMultipartFile.class))).thenReturn(new MediaObjectStorage.StoredObject(
+                "raw/artist-1/abc.mp3",
+                "/local-media/raw/artist-1/abc.mp3",
+                "http://localhost/local-media/raw/artist-1/abc.mp3",
+                3,
+                "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81",
+                false));
         when(trackRecordRepository.save(any(TrackRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        EventEnvelope<TrackUploadedEvent> envelope = service.ingest("My Song", "artist-1", "Artist 1", "Rock", file);
+        EventEnvelope<TrackUploadedEvent> envelope = service.ingest(UPLOADER, "My Song", "artist-1", "Artist 1", "Rock", file);
 
         assertThat(envelope.eventType()).isEqualTo("TrackUploaded");
+        assertThat(envelope.eventVersion()).isEqualTo("1.1.0");
         assertThat(envelope.payload().artistId()).isEqualTo("artist-1");
+        assertThat(envelope.payload().uploaderUserId()).isEqualTo(UPLOADER);
         assertThat(envelope.payload().title()).isEqualTo("My Song");
         assertThat(envelope.payload().storagePath()).isEqualTo("https://example.com/mock.mp3");
-        verify(trackRecordRepository).save(any(TrackRecord.class));
+        verify(trackRecordRepository).save(argThat(track -> "raw/artist-1/abc.mp3".equals(track.getObjectKey())
+                && Long.valueOf(3).equals(track.getSizeBytes())));
+        verify(renditionQueue).enqueue(envelope.payload().trackId(), envelope.occurredAt());
+        verify(eventOutbox).append(envelope.payload().trackId(), envelope);
+        assertThat(meterRegistry.get("media.upload").tags("mode", "multipart", "outcome", "stored").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("media.upload.bytes").tag("mode", "multipart").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void failedTrackWriteReleasesStoredObject() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "song.mp3", "audio/mpeg", new byte[] {1, 2, 3});
+        when(mediaBlobRegistry.store(eq("artist-1"), any(MockMultipartFile.class))).thenReturn(stored());
+        when(trackRecordRepository.save(any(TrackRecord.class))).thenThrow(new IllegalStateException("connection reset"));
+
+        assertThatThrownBy(() -> service.ingest(UPLOADER, "My Song", "artist-1", "Artist 1", "Rock", file))
+                .isInstanceOf(IllegalStateException.class);
+        verify(mediaBlobRegistry).release("raw/artist-1/abc.mp3");
+        verify(transactionManager).rollback(any());
     }
 
     @Test
     void ingestRejectsNonAudioFile() {
         MockMultipartFile file = new MockMultipartFile("file", "readme.txt", "text/plain", new byte[] {1});
 
-        assertThatThrownBy(() -> service.ingest("Bad", "artist-1", "Artist 1", "Rock", file))
+        assertThatThrownBy(() -> service.ingest(UPLOADER, "Bad", "artist-1", "Artist 1", "Rock", file))
                 .isInstanceOf(ResponseStatusException.class)
                 .hasMessageContaining("Only audio files are supported");
     }
+
+    @Test
+    void ingestStreamRejectsDeclaredLengthAboveLimit() throws Exception {
+        InputStream body = new ByteArrayInputStream(new byte[16]);
+
+        assertThatThrownBy(() -> service.ingestStream(UPLOADER, "Big", "artist-1", "Artist 1", "Rock", "audio/wav", "big.wav", 16, body))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("exceeds configured size limit");
+        verify(mediaBlobRegistry, never()).store(anyString(), any(), any(InputStream.class));
+    }
+
+    @Test
+    void ingestStreamAbortsWhenChunkedBodyExceedsLimit() throws Exception {
+        when(mediaBlobRegistry.store(eq("artist-1"), eq("big.wav"), any(InputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(2, InputStream.class).readAllBytes();
+            return null;
+        });
+        InputStream body = new ByteArrayInputStream(new byte[16]);
+
+        assertThatThrownBy(() -> service.ingestStream(UPLOADER, "Big", "artist-1", "Artist 1", "Rock", "audio/wav", "big.wav", -1, body))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("exceeds configured size limit");
+        verify(trackRecordRepository, never()).save(any(TrackRecord.class));
+    }
+
+    private static MediaObjectStorage.StoredObject stored() {
+        return new MediaObjectStorage.StoredObject(
+                "raw/artist-1/abc.mp3",
+                "/local-media/raw/artist-1/abc.mp3",
+                "http://localhost/local-media/raw/artist-1/abc.mp3",
+                3,
+                "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81",
+                false);
+    }
 }
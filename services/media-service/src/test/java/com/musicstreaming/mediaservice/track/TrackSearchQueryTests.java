@@ -0,0 +1,82 @@
+package com.musicstreaming.mediaservice.track;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs the search tiers against PostgreSQL with the service's migrations applied. Each query has a few hundred
+ * weaker matches inserted ahead of the best one, so the best one only comes first if the whole match set is ranked.
+ */
+class TrackSearchQueryTests {
+
+    private static final int WEAKER_MATCHES = 300;
+
+    private static EmbeddedPostgres postgres;
+    private static TrackSearchService service;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < WEAKER_MATCHES; i++) {
+            rows.add(row("trk_filler_" + i, "Filler", "Moonlight Serenade " + i, "Drivetime Midnightcore"));
+        }
+        rows.add(row("trk_drive", "Night Cruiser", "Midnight Drive", "Synthwave"));
+        rows.add(row("trk_sonata", "Ludwig van Beethoven", "Moonlight Sonata", "Classical"));
+        rows.add(row("trk_trio", "Moonlight Sonata Trio", "Live at the Hall", "Jazz"));
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tracks (track_id, artist_id, artist_name, title, genre, file_url, created_at)
+                VALUES (?, 'artist', ?, ?, ?, 'http://file', ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE tracks");
+
+        service = new TrackSearchService(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void startsWithMatchesTitlesAndArtistsLiterally() {
+        assertThat(service.search("Moonlight Sonata", 2)).extracting(TrackView::trackId)
+                .containsExactly("trk_sonata", "trk_trio");
+    }
+
+    @Test
+    void wordPrefixTierRanksTitleMatchesAboveGenreMatches() {
+        List<TrackView> result = service.search("drive midn", 3);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.getFirst().trackId()).isEqualTo("trk_drive");
+    }
+
+    @Test
+    void fuzzyTierReturnsTheClosestTitlesAndArtistsFirst() {
+        List<TrackView> result = service.search("moonlight sonatta", 3);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.subList(0, 2)).extracting(TrackView::trackId).containsExactlyInAnyOrder("trk_sonata", "trk_trio");
+    }
+
+    private static Object[] row(String trackId, String artistName, String title, String genre) {
+        return new Object[] {trackId, artistName, title, genre, Timestamp.from(Instant.parse("2026-01-01T00:00:00Z"))};
+    }
+}
@@ -0,0 +1,73 @@
+package com.musicstreaming.mediaservice.track;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TrackSearchServiceTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TrackSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrackSearchService(jdbcTemplate);
+    }
+
+    @Test
+    void stopsAfterStartsWithMatchesFillThePage() {
+        when(jdbcTemplate.query(contains("LIKE"), any(RowMapper.class), eq("blue mo%"), eq(1), eq("blue mo%"), eq(1)))
+                .thenReturn(List.of(track("trk_1", "Blue Monday")));
+
+        List<TrackView> result = service.search(" Blue Mo ", 1);
+
+        assertThat(result).extracting(TrackView::trackId).containsExactly("trk_1");
+        verify(jdbcTemplate, never()).query(contains("to_tsquery"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void fillsPageFromLaterTiersWithoutDuplicates() {
+        when(jdbcTemplate.query(contains("LIKE"), any(RowMapper.class), eq("blu monday%"), eq(3), eq("blu monday%"), eq(3)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(contains("to_tsquery"), any(RowMapper.class),
+                eq("blu monday"), eq(3)))
+                .thenReturn(List.of(track("trk_1", "Blu Monday Mix")));
+        when(jdbcTemplate.query(contains("<<->"), any(RowMapper.class), eq("blu monday"), eq("blu monday"), eq("blu monday"),
+                eq(3), eq("blu monday"), eq("blu monday"), eq("blu monday"), eq(3)))
+                .thenReturn(List.of(track("trk_1", "Blu Monday Mix"), track("trk_2", "Blue Monday")));
+
+        List<TrackView> result = service.search("blu monday", 3);
+
+        assertThat(result).extracting(TrackView::trackId).containsExactly("trk_1", "trk_2");
+    }
+
+    @Test
+    void blankQueryReturnsNothing() {
+        assertThat(service.search("   ", 10)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static TrackView track(String trackId, String title) {
+        return new TrackView(trackId, "artist", "Artist", title, "Pop", "http://file", NOW);
+    }
+}
@@ -0,0 +1,219 @@
+package com.musicstreaming.mediaservice.transcode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.mediaservice.storage.MediaBlobRegistry;
+import com.musicstreaming.mediaservice.storage.MediaObject;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage;
+import com.musicstreaming.mediaservice.storage.MediaObjectStorage.StoredObject;
+import com.musicstreaming.mediaservice.track.domain.TrackRecord;
+import com.musicstreaming.mediaservice.track.domain.TrackRecordRepository;
+import com.musicstreaming.mediaservice.transcode.TranscodingWorker.Job;
+import com.musicstreaming.mediaservice.transcode.domain.RenditionStatus;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRendition;
+import com.musicstreaming.mediaservice.transcode.domain.TrackRenditionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TranscodingWorkerTests {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+    private static final String SOURCE_KEY = "raw/artist-1/source.wav";
+
+    @Mock
+    private TrackRenditionRepository trackRenditionRepository;
+
+    @Mock
+    private TrackRecordRepository trackRecordRepository;
+
+    @Mock
+    private MediaObjectStorage mediaObjectStorage;
+
+    @Mock
+    private MediaBlobRegistry mediaBlobRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TranscodingProperties properties = new TranscodingProperties();
+    private final AtomicReference<IOException> encoderFailure = new AtomicReference<>();
+    private TranscodingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setConcurrency(2);
+        properties.setMaxAttempts(3);
+        properties.setLease(Duration.ofMinutes(5));
+        properties.setRetryBackoff(Duration.ofSeconds(30));
+        AudioEncoder encoder = (source, target, bitrateKbps) -> {
+            if (encoderFailure.get() != null) {
+                throw encoderFailure.get();
+            }
+            Files.writeString(target, "encoded " + Files.readString(source) + " at " + bitrateKbps);
+        };
+        worker = new TranscodingWorker(trackRenditionRepository, trackRecordRepository, mediaObjectStorage,
+                mediaBlobRegistry, encoder, properties, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.destroy();
+    }
+
+    @Test
+    void claimLeasesDueRenditionsAndResolvesTheirSource() {
+        TrackRendition rendition = rendition(1L, 128);
+        when(trackRenditionRepository.lockClaimable(NOW, 2)).thenReturn(List.of(rendition));
+        when(trackRecordRepository.findById("trk_1")).thenReturn(Optional.of(track()));
+
+        List<Job> jobs = worker.claimBatch(NOW);
+
+        assertThat(jobs).containsExactly(new Job(1L, "trk_1", "artist-1", SOURCE_KEY, 128, 1));
+        assertThat(rendition.getStatus()).isEqualTo(RenditionStatus.RUNNING);
+        assertThat(rendition.getAvailableAt()).isEqualTo(NOW.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void claimGivesUpOnRenditionsWhoseLeasesKeptLapsing() {
+        TrackRendition rendition = rendition(1L, 128);
+        for (int attempt = 0; attempt < 3; attempt++) {
+            rendition.claim(NOW, NOW);
+        }
+        when(trackRenditionRepository.lockClaimable(NOW, 2)).thenReturn(List.of(rendition));
+
+        assertThat(worker.claimBatch(NOW)).isEmpty();
+        assertThat(rendition.getStatus()).isEqualTo(RenditionStatus.FAILED);
+    }
+
+    @Test
+    void transcodeStoresEncodedRenditionAndMarksItReady() throws Exception {
+        TrackRendition rendition = claimed(1L, 64);
+        openSource();
+        StoredObject stored = new StoredObject("raw/artist-1/trk_1-64k.mp3", "/p", "http://x", 20, "a".repeat(64), false);
+        AtomicReference<String> storedContent = new AtomicReference<>();
+        when(mediaBlobRegistry.store(eq("artist-1"), eq("trk_1-64k.mp3"), any(InputStream.class))).thenAnswer(invocation -> {
+            storedContent.set(new String(invocation.<InputStream>getArgument(2).readAllBytes()));
+            return stored;
+        });
+
+        worker.transcode(new Job(1L, "trk_1", "artist-1", SOURCE_KEY, 64, 1));
+
+        assertThat(storedContent.get()).isEqualTo("encoded pcm at 64");
+        verify(mediaBlobRegistry, never()).release(any());
+        assertThat(rendition.getStatus()).isEqualTo(RenditionStatus.READY);
+        assertThat(rendition.getObjectKey()).isEqualTo("raw/artist-1/trk_1-64k.mp3");
+        assertThat(rendition.getContentType()).isEqualTo("audio/mpeg");
+        assertThat(meterRegistry.get("media.transcode").tags("bitrate", "64", "outcome", "ready").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void encoderFailureSchedulesRetryWithBackoff() throws Exception {
+        TrackRendition rendition = claimed(1L, 320);
+        openSource();
+        encoderFailure.set(new IOException("Encoder exited with 1"));
+
+        worker.transcode(new Job(1L, "trk_1", "artist-1", SOURCE_KEY, 320, 1));
+
+        assertThat(rendition.getStatus()).isEqualTo(RenditionStatus.PENDING);
+        assertThat(rendition.getLastError()).isEqualTo("Encoder exited with 1");
+        assertThat(rendition.getAvailableAt()).isAfter(Instant.now().plusSeconds(25));
+        verify(mediaBlobRegistry, never()).store(any(), any(), any(InputStream.class));
+    }
+
+    @Test
+    void encoderFailureOnLastAttemptMarksRenditionFailed() throws Exception {
+        TrackRendition rendition = claimed(1L, 320);
+        rendition.claim(NOW, NOW);
+        rendition.claim(NOW, NOW);
+        openSource();
+        encoderFailure.set(new IOException("Encoder timed out after PT10M"));
+
+        worker.transcode(new Job(1L, "trk_1", "artist-1", SOURCE_KEY, 320, 3));
+
+        assertThat(rendition.getStatus()).isEqualTo(RenditionStatus.FAILED);
+        assertThat(meterRegistry.get("media.transcode").tags("bitrate", "320", "outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void staleClaimReleasesStoredRenditionInsteadOfRecordingIt() throws Exception {
+        TrackRendition rendition = claimed(1L, 128);
+        rendition.claim(NOW, NOW);
+        openSource();
+        StoredObject stored = new StoredObject("raw/artist-1/trk_1-128k.mp3", "/p", "http://x", 20, "b".repeat(64), false);
+        when(mediaBlobRegistry.store(any(), any(), any(InputStream.class))).thenReturn(stored);
+
+        worker.transcode(new Job(1L, "trk_1", "artist-1", SOURCE_KEY, 128, 1));
+
+        verify(mediaBlobRegistry).release("raw/artist-1/trk_1-128k.mp3");
+        assertThat(rendition.getStatus()).isEqualTo(RenditionStatus.RUNNING);
+        assertThat(meterRegistry.get("media.transcode").tags("bitrate", "128", "outcome", "stale").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedCompletionReleasesStoredRendition() throws Exception {
+        claimed(1L, 64);
+        openSource();
+        StoredObject stored = new StoredObject("raw/artist-1/trk_1-64k.mp3", "/p", "http://x", 20, "a".repeat(64), false);
+        when(mediaBlobRegistry.store(any(), any(), any(InputStream.class))).thenReturn(stored);
+        doThrow(new IllegalStateException("connection reset")).when(transactionManager).commit(any());
+
+        worker.transcode(new Job(1L, "trk_1", "artist-1", SOURCE_KEY, 64, 1));
+
+        verify(mediaBlobRegistry).release("raw/artist-1/trk_1-64k.mp3");
+        assertThat(meterRegistry.get("media.transcode").tags("bitrate", "64", "outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    private void openSource() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source.wav"), "pcm");
+        MediaObject media = mock(MediaObject.class);
+        when(media.localPath()).thenReturn(Optional.of(source));
+        when(mediaObjectStorage.open(SOURCE_KEY)).thenReturn(media);
+    }
+
+    private TrackRendition claimed(long id, int bitrateKbps) {
+        TrackRendition rendition = rendition(id, bitrateKbps);
+        rendition.claim(NOW.plus(properties.getLease()), NOW);
+        when(trackRenditionRepository.findById(id)).thenReturn(Optional.of(rendition));
+        return rendition;
+    }
+
+    private static TrackRendition rendition(long id, int bitrateKbps) {
+        TrackRendition rendition = new TrackRendition("trk_1", bitrateKbps, NOW);
+        ReflectionTestUtils.setField(rendition, "id", id);
+        return rendition;
+    }
+
+    private static TrackRecord track() {
+        return new TrackRecord("trk_1", "artist-1", "Artist 1", "Song", "Rock", "https://example.com/mock.mp3", NOW,
+                SOURCE_KEY, "audio/wav", 3L, "c".repeat(64));
+    }
+}
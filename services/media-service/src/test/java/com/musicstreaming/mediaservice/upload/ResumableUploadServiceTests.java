@@ -0,0 +1,194 @@
+package com.musicstreaming.mediaservice.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.mediaservice.storage.MediaStorageProperties;
+import com.musicstreaming.mediaservice.track.TrackIngestionService;
+import com.musicstreaming.mediaservice.upload.domain.UploadChunkRepository;
+import com.musicstreaming.mediaservice.upload.domain.UploadSession;
+import com.musicstreaming.mediaservice.upload.domain.UploadSessionRepository;
+import com.musicstreaming.mediaservice.upload.domain.UploadSessionStatus;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class ResumableUploadServiceTests {
+
+    private static final String OWNER = "user-1";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+    @Mock
+    private UploadChunkRepository uploadChunkRepository;
+    @Mock
+    private TrackIngestionService trackIngestionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ResumableUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        MediaStorageProperties storageProperties = new MediaStorageProperties();
+        storageProperties.getLocal().setRoot(tempDir.resolve("media").toString());
+        storageProperties.getLocal().setStagingRoot(tempDir.resolve("staging").toString());
+        ResumableUploadProperties properties = new ResumableUploadProperties();
+        properties.setMinChunkSize(DataSize.ofBytes(2));
+        service = new ResumableUploadService(
+                uploadSessionRepository,
+                uploadChunkRepository,
+                new UploadChunkStore(storageProperties),
+                trackIngestionService,
+                properties,
+                transactionManager,
+                DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    void createSplitsUploadIntoChunks() {
+        when(uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ResumableUploadService.UploadSessionDetails details = service.create(
+                OWNER, "Song", "artist-1", "Artist", "Rock", "audio/flac", "song.flac", 10, 4L);
+
+        assertThat(details.chunkCount()).isEqualTo(3);
+        assertThat(details.status()).isEqualTo(UploadSessionStatus.OPEN);
+        assertThat(details.receivedChunks()).isEmpty();
+    }
+
+    @Test
+    void putChunkRejectsUnexpectedChunkSize() {
+        UploadSession session = session();
+        when(uploadSessionRepository.findByIdAndOwnerSubject(session.getId(), OWNER)).thenReturn(Optional.of(session));
+
+        assertThatThrownBy(() -> service.putChunk(OWNER, session.getId(), 2, -1, null, new ByteArrayInputStream(new byte[] {1})))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Chunk 2 must be 2 bytes");
+        verify(uploadChunkRepository, never()).upsert(any(), any(), eq(2), anyLong(), anyString(), any());
+    }
+
+    @Test
+    void completeRejectsMissingChunks() {
+        UploadSession session = session();
+        when(uploadSessionRepository.lockByIdAndOwnerSubject(session.getId(), OWNER)).thenReturn(Optional.of(session));
+        when(uploadChunkRepository.countBySessionId(session.getId())).thenReturn(2L);
+
+        assertThatThrownBy(() -> service.complete(OWNER, session.getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("missing 1 chunks");
+    }
+
+    @Test
+    void completeAssemblesChunksInOrder() throws Exception {
+        UploadSession session = session();
+        when(uploadSessionRepository.findByIdAndOwnerSubject(session.getId(), OWNER)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.lockByIdAndOwnerSubject(session.getId(), OWNER)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.lockById(session.getId())).thenReturn(Optional.of(session));
+        when(uploadChunkRepository.countBySessionId(session.getId())).thenReturn(3L);
+        service.putChunk(OWNER, session.getId(), 2, 2, null, new ByteArrayInputStream(new byte[] {9, 10}));
+        service.putChunk(OWNER, session.getId(), 0, 4, null, new ByteArrayInputStream(new byte[] {1, 2, 3, 4}));
+        service.putChunk(OWNER, session.getId(), 1, 4, null, new ByteArrayInputStream(new byte[] {5, 6, 7, 8}));
+
+        byte[][] assembled = new byte[1][];
+        when(trackIngestionService.ingestStream(
+                eq(OWNER), eq("Song"), eq("artist-1"), eq("Artist"), eq("Rock"), eq("audio/flac"), eq("song.flac"), eq(10L), any(InputStream.class)))
+                .thenAnswer(invocation -> {
+                    assembled[0] = invocation.getArgument(8, InputStream.class).readAllBytes();
+                    return new EventEnvelope<>("TrackUploaded", "1.1.0", Instant.now(),
+                            new TrackUploadedEvent("trk_1", "artist-1", OWNER, "Song", "url", "1.1.0"));
+                });
+
+        service.complete(OWNER, session.getId());
+
+        assertThat(assembled[0]).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(session.getStatus()).isEqualTo(UploadSessionStatus.COMPLETED);
+        assertThat(session.getTrackId()).isEqualTo("trk_1");
+        assertThat(tempDir.resolve("staging").resolve("uploads").resolve(session.getId().toString())).doesNotExist();
+    }
+
+    @Test
+    void completeReopensSessionWhenIngestFails() {
+        UploadSession session = session();
+        when(uploadSessionRepository.findByIdAndOwnerSubject(session.getId(), OWNER)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.lockByIdAndOwnerSubject(session.getId(), OWNER)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.lockById(session.getId())).thenReturn(Optional.of(session));
+        when(uploadChunkRepository.countBySessionId(session.getId())).thenReturn(3L);
+        service.putChunk(OWNER, session.getId(), 0, 4, null, new ByteArrayInputStream(new byte[] {1, 2, 3, 4}));
+        service.putChunk(OWNER, session.getId(), 1, 4, null, new ByteArrayInputStream(new byte[] {5, 6, 7, 8}));
+        service.putChunk(OWNER, session.getId(), 2, 2, null, new ByteArrayInputStream(new byte[] {9, 10}));
+        when(trackIngestionService.ingestStream(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(InputStream.class)))
+                .thenThrow(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store audio file"));
+
+        assertThatThrownBy(() -> service.complete(OWNER, session.getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Failed to store audio file");
+        assertThat(session.getStatus()).isEqualTo(UploadSessionStatus.OPEN);
+        assertThat(tempDir.resolve("staging").resolve("uploads").resolve(session.getId().toString()).resolve("0.part")).exists();
+        assertThat(tempDir.resolve("media").resolve("uploads")).doesNotExist();
+    }
+
+    @Test
+    void putChunkIsRejectedOnceCompletionStarted() throws Exception {
+        UploadSession listed = session();
+        UploadSession locked = session(listed.getId());
+        locked.startCompleting(Instant.now());
+        when(uploadSessionRepository.findByIdAndOwnerSubject(listed.getId(), OWNER)).thenReturn(Optional.of(listed));
+        when(uploadSessionRepository.lockByIdAndOwnerSubject(listed.getId(), OWNER)).thenReturn(Optional.of(locked));
+
+        assertThatThrownBy(() -> service.putChunk(OWNER, listed.getId(), 2, 2, null, new ByteArrayInputStream(new byte[] {9, 10})))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("being completed");
+        verify(uploadChunkRepository, never()).upsert(any(), any(), eq(2), anyLong(), anyString(), any());
+        try (Stream<Path> files = Files.list(tempDir.resolve("staging").resolve("uploads").resolve(listed.getId().toString()))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void expireLeavesSessionResumedAfterItWasListed() {
+        UploadSession session = session();
+        when(uploadSessionRepository.lockById(session.getId())).thenReturn(Optional.of(session));
+
+        service.expire(session.getId(), session.getUpdatedAt().minusSeconds(60));
+
+        verify(uploadSessionRepository, never()).delete(any(UploadSession.class));
+    }
+
+    private UploadSession session() {
+        return session(UUID.randomUUID());
+    }
+
+    private UploadSession session(UUID id) {
+        return new UploadSession(
+                id, OWNER, "artist-1", "Artist", "Song", "Rock", "audio/flac", "song.flac", 10, 4, 3, Instant.now());
+    }
+}
@@ -1,19 +1,44 @@
 package com.musicstreaming.userservice.api;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.musicstreaming.userservice.domain.UserAccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Locale;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Maps a JWT to the caller's user id. Current tokens carry the id as subject and resolve without I/O; legacy
+ * tokens carry an email, which is looked up once and then served from a bounded cache until it expires.
+ * Clients holding a legacy token can swap it for a current one at {@code POST /api/v1/users/me/token}.
+ */
 @Component
 public class AuthenticatedUserResolver {
 
     private final UserAccountRepository userAccountRepository;
+    private final Cache<String, UUID> userIdsByEmail;
+    private final Counter legacyResolutions;
 
-    public AuthenticatedUserResolver(UserAccountRepository userAccountRepository) {
+    public AuthenticatedUserResolver(
+            UserAccountRepository userAccountRepository,
+            SubjectCacheProperties properties,
+            MeterRegistry meterRegistry) {
         this.userAccountRepository = userAccountRepository;
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "auth.subject");
+        this.legacyResolutions = Counter.builder("auth.subject.legacy")
+                .description("Requests authenticated with an email-subject token")
+                .register(meterRegistry);
     }
 
     public UUID resolveUserId(Jwt jwt) {
@@ -24,19 +49,25 @@ public class AuthenticatedUserResolver {
             } catch (IllegalArgumentException ignored) {
                 // Legacy tokens may use email as subject.
             }
-
-            return userAccountRepository.findByEmailIgnoreCase(subject.trim())
-                    .map(account -> account.getId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token subject"));
+            return resolveEmail(subject, "Invalid token subject");
         }
 
         String emailClaim = jwt.getClaimAsString("email");
         if (emailClaim != null && !emailClaim.isBlank()) {
-            return userAccountRepository.findByEmailIgnoreCase(emailClaim.trim())
-                    .map(account -> account.getId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token email claim"));
+            return resolveEmail(emailClaim, "Invalid token email claim");
         }
 
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token subject is missing");
     }
+
+    // Unknown emails are not cached, so a user registering after a failed lookup resolves on the next request.
+    private UUID resolveEmail(String email, String failureReason) {
+        legacyResolutions.increment();
+        UUID userId = userIdsByEmail.get(email.trim().toLowerCase(Locale.ROOT), normalized ->
+                userAccountRepository.findByEmailIgnoreCase(normalized).map(account -> account.getId()).orElse(null));
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, failureReason);
+        }
+        return userId;
+    }
 }
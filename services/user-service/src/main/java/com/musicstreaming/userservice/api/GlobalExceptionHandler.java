@@ -4,8 +4,11 @@ import com.musicstreaming.common.observability.TraceSupport;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -19,7 +22,7 @@ public class GlobalExceptionHandler {
         List<String> details = ex.getBindingResult().getFieldErrors().stream()
                 .map(e -> e.getField() + " " + e.getDefaultMessage())
                 .toList();
-        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.newTraceId()));
+        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
@@ -27,7 +30,7 @@ public class GlobalExceptionHandler {
         List<String> details = ex.getConstraintViolations().stream()
                 .map(v -> v.getPropertyPath() + " " + v.getMessage())
                 .toList();
-        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.newTraceId()));
+        return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", "Validation failed", details, TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -37,13 +40,13 @@ public class GlobalExceptionHandler {
                 : HttpStatus.CONFLICT;
         String code = status == HttpStatus.UNAUTHORIZED ? "AUTHENTICATION_FAILED" : "CONFLICT";
         return ResponseEntity.status(status)
-                .body(new ErrorResponse(code, ex.getMessage(), List.of(), TraceSupport.newTraceId()));
+                .body(new ErrorResponse(code, ex.getMessage(), List.of(), TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrity(DataIntegrityViolationException ex) {
         return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(new ErrorResponse("CONFLICT", "Data integrity violation", List.of(), TraceSupport.newTraceId()));
+                .body(new ErrorResponse("CONFLICT", "Data integrity violation", List.of(), TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(ResponseStatusException.class)
@@ -51,12 +54,23 @@ public class GlobalExceptionHandler {
         String message = ex.getReason() != null ? ex.getReason() : "Request failed";
         String code = ex.getStatusCode() instanceof HttpStatus status ? status.name() : "REQUEST_FAILED";
         return ResponseEntity.status(ex.getStatusCode())
-                .body(new ErrorResponse(code, message, List.of(), TraceSupport.newTraceId()));
+                .body(new ErrorResponse(code, message, List.of(), TraceSupport.currentTraceId()));
+    }
+
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(Exception ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(
+                        "SERVICE_UNAVAILABLE",
+                        "Database is busy, retry shortly",
+                        List.of(),
+                        TraceSupport.currentTraceId()));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ErrorResponse("INTERNAL_ERROR", "Unexpected error", List.of(ex.getClass().getSimpleName()), TraceSupport.newTraceId()));
+                .body(new ErrorResponse("INTERNAL_ERROR", "Unexpected error", List.of(ex.getClass().getSimpleName()), TraceSupport.currentTraceId()));
     }
 }
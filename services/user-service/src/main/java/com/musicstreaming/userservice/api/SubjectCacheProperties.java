@@ -0,0 +1,30 @@
+package com.musicstreaming.userservice.api;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.subject-cache")
+public class SubjectCacheProperties {
+
+    private long maxEntries = 10_000;
+    // Bounds how long a deleted or re-registered email keeps resolving to its old user id.
+    private Duration ttl = Duration.ofMinutes(10);
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
@@ -0,0 +1,57 @@
+package com.musicstreaming.userservice.api;
+
+import com.musicstreaming.userservice.api.AuthController.LoginResponse;
+import com.musicstreaming.userservice.api.model.TokenType;
+import com.musicstreaming.userservice.config.JwtTokenService;
+import com.musicstreaming.userservice.service.UserAuthService;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/users/me/token")
+public class TokenController {
+
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+    private final UserAuthService userAuthService;
+    private final JwtTokenService jwtTokenService;
+
+    public TokenController(
+            AuthenticatedUserResolver authenticatedUserResolver,
+            UserAuthService userAuthService,
+            JwtTokenService jwtTokenService) {
+        this.authenticatedUserResolver = authenticatedUserResolver;
+        this.userAuthService = userAuthService;
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    // Swaps a legacy email-subject token for one with the user id as subject and the same expiry, so legacy tokens
+    // can be retired without this becoming a way to keep any token alive indefinitely.
+    @PostMapping
+    public ResponseEntity<LoginResponse> reissue(@AuthenticationPrincipal Jwt jwt) {
+        if (hasUserIdSubject(jwt)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Token already uses the user id as subject");
+        }
+        UserAuthService.AuthenticatedUser user = userAuthService.getAuthenticatedUser(authenticatedUserResolver.resolveUserId(jwt));
+        String token = jwtTokenService.reissueToken(user, jwt.getExpiresAt());
+        return ResponseEntity.ok(new LoginResponse(token, TokenType.BEARER.value()));
+    }
+
+    private static boolean hasUserIdSubject(Jwt jwt) {
+        if (jwt.getSubject() == null) {
+            return false;
+        }
+        try {
+            UUID.fromString(jwt.getSubject());
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+}
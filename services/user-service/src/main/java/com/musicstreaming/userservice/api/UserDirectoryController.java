@@ -1,21 +1,37 @@
 package com.musicstreaming.userservice.api;
 
+import com.musicstreaming.userservice.service.DirectoryCursor;
 import com.musicstreaming.userservice.service.UserDirectoryService;
 import com.musicstreaming.userservice.service.UserDirectoryService.DiscoverableUser;
+import com.musicstreaming.userservice.service.UserDirectoryService.DiscoveryPage;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/v1/users")
+@Validated
 public class UserDirectoryController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    private static final int MAX_SUGGESTIONS = 100;
+    private static final int MAX_ACTIVE_WITHIN_DAYS = 365;
+
     private final UserDirectoryService userDirectoryService;
     private final AuthenticatedUserResolver authenticatedUserResolver;
 
@@ -27,9 +43,47 @@ public class UserDirectoryController {
     }
 
     @GetMapping("/discover")
-    public ResponseEntity<List<DiscoverableUserResponse>> discover(@AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<List<DiscoverableUserResponse>> discover(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(value = "limit", defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "excludeFollowed", defaultValue = "false") boolean excludeFollowed,
+            @RequestParam(value = "activeWithinDays", required = false) @Min(1) @Max(MAX_ACTIVE_WITHIN_DAYS) Integer activeWithinDays) {
+        UUID currentUserId = authenticatedUserResolver.resolveUserId(jwt);
+        DiscoveryPage page = userDirectoryService.discoverUsers(
+                currentUserId,
+                cursor == null || cursor.isBlank() ? null : DirectoryCursor.decode(cursor),
+                activeWithinDays == null ? null : Duration.ofDays(activeWithinDays),
+                excludeFollowed,
+                limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.items().stream().map(this::toResponse).toList());
+    }
+
+    @GetMapping("/discover/suggested")
+    public ResponseEntity<List<SuggestedUserResponse>> suggested(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(MAX_SUGGESTIONS) int limit) {
         UUID currentUserId = authenticatedUserResolver.resolveUserId(jwt);
-        List<DiscoverableUserResponse> response = userDirectoryService.listDiscoverableUsers(currentUserId).stream()
+        List<SuggestedUserResponse> response = userDirectoryService.suggestUsers(currentUserId, limit).stream()
+                .map(suggestion -> new SuggestedUserResponse(
+                        toResponse(suggestion.user()),
+                        suggestion.reason().name(),
+                        suggestion.score()))
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<DiscoverableUserResponse>> search(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam("q") @NotBlank(message = "must not be blank") @Size(max = 100) String query,
+            @RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(MAX_SEARCH_RESULTS) int limit) {
+        UUID currentUserId = authenticatedUserResolver.resolveUserId(jwt);
+        List<DiscoverableUserResponse> response = userDirectoryService.searchUsers(currentUserId, query, limit).stream()
                 .map(this::toResponse)
                 .toList();
         return ResponseEntity.ok(response);
@@ -40,14 +94,19 @@ public class UserDirectoryController {
                 user.userId().toString(),
                 user.displayName(),
                 user.email(),
-                user.createdAt());
+                user.createdAt(),
+                user.lastActiveAt());
     }
 
     public record DiscoverableUserResponse(
             String userId,
             String displayName,
             String email,
-            Instant createdAt
+            Instant createdAt,
+            Instant lastActiveAt
     ) {
     }
+
+    public record SuggestedUserResponse(DiscoverableUserResponse user, String reason, long score) {
+    }
 }
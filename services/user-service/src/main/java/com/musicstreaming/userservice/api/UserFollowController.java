@@ -1,26 +1,38 @@
 package com.musicstreaming.userservice.api;
 
 import com.musicstreaming.userservice.api.model.FollowStatus;
+import com.musicstreaming.userservice.service.FollowCursor;
 import com.musicstreaming.userservice.service.UserFollowService;
+import com.musicstreaming.userservice.service.UserFollowService.FollowPage;
 import com.musicstreaming.userservice.service.UserFollowService.FollowResult;
-import com.musicstreaming.userservice.service.UserFollowService.FollowedUser;
+import com.musicstreaming.userservice.service.UserFollowService.FollowStats;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
-@RequestMapping("/api/v1/users/me/follows")
+@RequestMapping("/api/v1/users")
+@Validated
 public class UserFollowController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final UserFollowService userFollowService;
     private final AuthenticatedUserResolver authenticatedUserResolver;
 
@@ -29,7 +41,7 @@ public class UserFollowController {
         this.authenticatedUserResolver = authenticatedUserResolver;
     }
 
-    @PostMapping("/{targetUserId}")
+    @PostMapping("/me/follows/{targetUserId}")
     public ResponseEntity<FollowResponse> followUser(
             @AuthenticationPrincipal Jwt jwt,
             @PathVariable("targetUserId") UUID targetUserId) {
@@ -41,7 +53,7 @@ public class UserFollowController {
         return ResponseEntity.status(status).body(response);
     }
 
-    @DeleteMapping("/{targetUserId}")
+    @DeleteMapping("/me/follows/{targetUserId}")
     public ResponseEntity<Void> unfollowUser(
             @AuthenticationPrincipal Jwt jwt,
             @PathVariable("targetUserId") UUID targetUserId) {
@@ -50,22 +62,90 @@ public class UserFollowController {
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping
-    public ResponseEntity<List<FollowedUserResponse>> listFollowedUsers(@AuthenticationPrincipal Jwt jwt) {
+    @GetMapping("/me/follows")
+    public ResponseEntity<List<FollowedUserResponse>> listFollowedUsers(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(value = "limit", defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        FollowPage page = userFollowService.listFollowing(userIdFromJwt(jwt), decodeCursor(cursor), limit);
+        return toResponse(page, edge -> new FollowedUserResponse(edge.userId().toString(), edge.followedAt()));
+    }
+
+    @GetMapping("/me/follows/mutual")
+    public ResponseEntity<List<FollowedUserResponse>> listMutualFollows(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(value = "limit", defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        FollowPage page = userFollowService.listMutual(userIdFromJwt(jwt), decodeCursor(cursor), limit);
+        return toResponse(page, edge -> new FollowedUserResponse(edge.userId().toString(), edge.followedAt()));
+    }
+
+    @GetMapping("/me/follows/lookup")
+    public ResponseEntity<List<FollowRelationResponse>> lookupRelations(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam("userIds") List<UUID> userIds) {
         UUID userId = userIdFromJwt(jwt);
-        List<FollowedUserResponse> response = userFollowService.listFollowedUsers(userId).stream()
-                .map(f -> new FollowedUserResponse(f.targetUserId().toString(), f.followedAt()))
+        List<FollowRelationResponse> response = userFollowService.lookupRelations(userId, userIds).stream()
+                .map(relation -> new FollowRelationResponse(
+                        relation.userId().toString(),
+                        relation.following(),
+                        relation.followedBy(),
+                        relation.mutual()))
                 .toList();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/me/followers")
+    public ResponseEntity<List<FollowerResponse>> listFollowers(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(value = "limit", defaultValue = "50") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        FollowPage page = userFollowService.listFollowers(userIdFromJwt(jwt), decodeCursor(cursor), limit);
+        return toResponse(page, edge -> new FollowerResponse(edge.userId().toString(), edge.followedAt()));
+    }
+
+    @GetMapping("/me/follow-stats")
+    public ResponseEntity<FollowStatsResponse> getOwnStats(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(toStatsResponse(userFollowService.getStats(userIdFromJwt(jwt))));
+    }
+
+    @GetMapping("/{userId}/follow-stats")
+    public ResponseEntity<FollowStatsResponse> getStats(@PathVariable("userId") UUID userId) {
+        return ResponseEntity.ok(toStatsResponse(userFollowService.getStats(userId)));
+    }
+
     private UUID userIdFromJwt(Jwt jwt) {
         return authenticatedUserResolver.resolveUserId(jwt);
     }
 
+    private static FollowCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : FollowCursor.decode(cursor);
+    }
+
+    private static <T> ResponseEntity<List<T>> toResponse(FollowPage page, Function<UserFollowService.FollowEdge, T> mapper) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.items().stream().map(mapper).toList());
+    }
+
+    private static FollowStatsResponse toStatsResponse(FollowStats stats) {
+        return new FollowStatsResponse(stats.userId().toString(), stats.followerCount(), stats.followingCount());
+    }
+
     public record FollowResponse(String targetUserId, String status) {
     }
 
-    public record FollowedUserResponse(String targetUserId, java.time.Instant followedAt) {
+    public record FollowedUserResponse(String targetUserId, Instant followedAt) {
+    }
+
+    public record FollowerResponse(String followerUserId, Instant followedAt) {
+    }
+
+    public record FollowStatsResponse(String userId, long followerCount, long followingCount) {
+    }
+
+    public record FollowRelationResponse(String userId, boolean following, boolean followedBy, boolean mutual) {
     }
 }
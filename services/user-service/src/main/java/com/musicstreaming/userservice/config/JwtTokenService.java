@@ -30,10 +30,25 @@ public class JwtTokenService {
 
     public String issueToken(AuthenticatedUser user) {
         Instant now = Instant.now();
+        return encode(user, now, now.plus(ttlMinutes, ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Issues a replacement for an existing token that expires no later than it did, so swapping a token never
+     * extends how long a stolen one stays usable.
+     */
+    public String reissueToken(AuthenticatedUser user, Instant originalExpiresAt) {
+        Instant now = Instant.now();
+        Instant maxExpiresAt = now.plus(ttlMinutes, ChronoUnit.MINUTES);
+        Instant expiresAt = originalExpiresAt != null && originalExpiresAt.isBefore(maxExpiresAt) ? originalExpiresAt : maxExpiresAt;
+        return encode(user, now, expiresAt);
+    }
+
+    private String encode(AuthenticatedUser user, Instant now, Instant expiresAt) {
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer(issuer)
                 .issuedAt(now)
-                .expiresAt(now.plus(ttlMinutes, ChronoUnit.MINUTES))
+                .expiresAt(expiresAt)
                 .subject(user.id().toString())
                 .claim("email", user.email())
                 .claim("displayName", user.displayName())
@@ -13,6 +13,9 @@ import java.util.UUID;
 @Table(name = "users")
 public class UserAccount {
 
+    // Stored for accounts that only sign in through an OAuth provider. It is not a bcrypt hash, so no password matches it.
+    public static final String NO_PASSWORD_HASH = "!no-password";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -29,6 +32,9 @@ public class UserAccount {
     @Column(nullable = false)
     private Instant createdAt;
 
+    @Column(name = "last_active_at", nullable = false)
+    private Instant lastActiveAt;
+
     protected UserAccount() {
     }
 
@@ -37,6 +43,7 @@ public class UserAccount {
         this.passwordHash = passwordHash;
         this.displayName = displayName;
         this.createdAt = createdAt;
+        this.lastActiveAt = createdAt;
     }
 
     public UUID getId() {
@@ -55,7 +62,15 @@ public class UserAccount {
         return displayName;
     }
 
+    public boolean hasPassword() {
+        return !NO_PASSWORD_HASH.equals(passwordHash);
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
+
+    public Instant getLastActiveAt() {
+        return lastActiveAt;
+    }
 }
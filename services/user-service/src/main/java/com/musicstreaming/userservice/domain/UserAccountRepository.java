@@ -1,13 +1,63 @@
 package com.musicstreaming.userservice.domain;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, UUID> {
     Optional<UserAccount> findByEmailIgnoreCase(String email);
 
     boolean existsByEmailIgnoreCase(String email);
 
-    java.util.List<UserAccount> findAllByIdNotOrderByCreatedAtDesc(UUID id);
+    @Transactional
+    @Modifying
+    @Query("update UserAccount u set u.lastActiveAt = :activeAt where u.id = :userId and u.lastActiveAt < :activeAt")
+    int markActive(@Param("userId") UUID userId, @Param("activeAt") Instant activeAt);
+
+    @Query(value = """
+            SELECT u.id, u.email, u.password_hash, u.display_name, u.created_at, u.last_active_at
+            FROM users u
+            WHERE lower(u.display_name) LIKE :pattern AND u.id <> :excludedUserId
+            ORDER BY lower(u.display_name) USING ~<~, u.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    java.util.List<UserAccount> searchByDisplayNameStart(
+            @Param("pattern") String pattern,
+            @Param("excludedUserId") UUID excludedUserId,
+            @Param("limit") int limit);
+
+    // Tokenizes the query like the generated search_vector column and matches every word as a prefix. Every match is
+    // ranked: the GIN index limits the rows read to the matches and LIMIT turns the sort into a top-N heap.
+    @Query(value = """
+            SELECT u.id, u.email, u.password_hash, u.display_name, u.created_at, u.last_active_at
+            FROM users u, (
+                SELECT to_tsquery('simple', string_agg(quote_literal(lexeme) || ':*', ' & ')) AS query
+                FROM unnest(to_tsvector('simple', :query))
+            ) q
+            WHERE u.search_vector @@ q.query AND u.id <> :excludedUserId
+            ORDER BY ts_rank(u.search_vector, q.query) DESC, u.display_name, u.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    java.util.List<UserAccount> searchByDisplayNameWords(
+            @Param("query") String query,
+            @Param("excludedUserId") UUID excludedUserId,
+            @Param("limit") int limit);
+
+    // Walks the GiST trigram index in word-similarity distance order, so only the closest names are read.
+    @Query(value = """
+            SELECT u.id, u.email, u.password_hash, u.display_name, u.created_at, u.last_active_at
+            FROM users u
+            WHERE :query <% u.display_name AND u.id <> :excludedUserId
+            ORDER BY :query <<-> u.display_name
+            LIMIT :limit
+            """, nativeQuery = true)
+    java.util.List<UserAccount> searchByDisplayNameSimilarity(
+            @Param("query") String query,
+            @Param("excludedUserId") UUID excludedUserId,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,217 @@
+package com.musicstreaming.userservice.domain;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read side of user discovery: keyset pages over {@code users} ordered by sign-up time, and the
+ * "suggested users" lists that {@link #replaceSuggestions} precomputes into {@code user_suggestions}.
+ */
+@Repository
+public class UserDiscoveryRepository {
+
+    private static final String DIRECTORY_COLUMNS = "u.id, u.display_name, u.email, u.created_at, u.last_active_at";
+
+    private static final String NOT_FOLLOWED_CLAUSE = """
+            AND NOT EXISTS (
+                SELECT 1 FROM user_follows f WHERE f.follower_user_id = ? AND f.target_user_id = u.id)
+            """;
+
+    private static final String ACTIVE_USER_IDS_SQL = """
+            SELECT id FROM users
+            WHERE last_active_at >= ? AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_SUGGESTIONS_SQL = "DELETE FROM user_suggestions WHERE user_id = ANY(?)";
+
+    // Friends-of-friends: everyone followed by the people a user follows, scored by how many of them follow it.
+    private static final String INSERT_SUGGESTIONS_SQL = """
+            INSERT INTO user_suggestions (user_id, suggested_user_id, score, refreshed_at)
+            SELECT user_id, suggested_user_id, score, ?
+            FROM (
+                SELECT f1.follower_user_id AS user_id,
+                       f2.target_user_id AS suggested_user_id,
+                       COUNT(*) AS score,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY f1.follower_user_id ORDER BY COUNT(*) DESC, f2.target_user_id) AS rank
+                FROM user_follows f1
+                JOIN user_follows f2 ON f2.follower_user_id = f1.target_user_id
+                WHERE f1.follower_user_id = ANY(?)
+                  AND f2.target_user_id <> f1.follower_user_id
+                  AND NOT EXISTS (
+                      SELECT 1 FROM user_follows x
+                      WHERE x.follower_user_id = f1.follower_user_id AND x.target_user_id = f2.target_user_id)
+                GROUP BY f1.follower_user_id, f2.target_user_id
+            ) ranked
+            WHERE rank <= ?
+            """;
+
+    // Arbitrary application-wide key for pg_try_advisory_lock; only the suggestions refresh takes it.
+    private static final long SUGGESTION_REFRESH_LOCK = 0x7573657273756767L;
+
+    private static final String DELETE_STALE_SUGGESTIONS_SQL = "DELETE FROM user_suggestions WHERE refreshed_at < ?";
+
+    // Users followed since the last refresh are dropped here rather than waiting for the next run.
+    private static final String SUGGESTIONS_SQL = """
+            SELECT %s, s.score
+            FROM user_suggestions s
+            JOIN users u ON u.id = s.suggested_user_id
+            WHERE s.user_id = ?
+              %s
+            ORDER BY s.score DESC, s.suggested_user_id
+            LIMIT ?
+            """.formatted(DIRECTORY_COLUMNS, NOT_FOLLOWED_CLAUSE);
+
+    private static final String POPULAR_SQL = """
+            SELECT %s, st.follower_count AS score
+            FROM user_follow_stats st
+            JOIN users u ON u.id = st.user_id
+            WHERE st.follower_count > 0 AND st.user_id <> ?
+              %s
+            ORDER BY st.follower_count DESC, st.user_id
+            LIMIT ?
+            """.formatted(DIRECTORY_COLUMNS, NOT_FOLLOWED_CLAUSE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDiscoveryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Newest users first, walking {@code idx_users_created_at_id}. Both filters are optional: {@code activeSince}
+     * keeps users seen since that instant, {@code excludeFollowed} drops users the viewer already follows.
+     */
+    public List<DirectoryEntry> findDirectoryPage(
+            UUID viewerId,
+            Instant beforeCreatedAt,
+            UUID beforeUserId,
+            Instant activeSince,
+            boolean excludeFollowed,
+            int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(DIRECTORY_COLUMNS).append(" FROM users u WHERE u.id <> ?\n");
+        List<Object> args = new ArrayList<>();
+        args.add(viewerId);
+        if (beforeCreatedAt != null) {
+            sql.append("AND (u.created_at, u.id) < (?, ?)\n");
+            args.add(toTimestamp(beforeCreatedAt));
+            args.add(beforeUserId);
+        }
+        if (activeSince != null) {
+            sql.append("AND u.last_active_at >= ?\n");
+            args.add(toTimestamp(activeSince));
+        }
+        if (excludeFollowed) {
+            sql.append(NOT_FOLLOWED_CLAUSE);
+            args.add(viewerId);
+        }
+        sql.append("ORDER BY u.created_at DESC, u.id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), UserDiscoveryRepository::mapEntry, args.toArray());
+    }
+
+    public List<ScoredEntry> findSuggestions(UUID userId, int limit) {
+        return jdbcTemplate.query(SUGGESTIONS_SQL, UserDiscoveryRepository::mapScored, userId, userId, limit);
+    }
+
+    public List<ScoredEntry> findPopular(UUID viewerId, int limit) {
+        return jdbcTemplate.query(POPULAR_SQL, UserDiscoveryRepository::mapScored, viewerId, viewerId, limit);
+    }
+
+    public List<UUID> findActiveUserIds(Instant activeSince, UUID afterUserId, int limit) {
+        return jdbcTemplate.queryForList(
+                ACTIVE_USER_IDS_SQL, UUID.class, toTimestamp(activeSince), afterUserId, limit);
+    }
+
+    /**
+     * Recomputes the suggestion lists of {@code userIds}; callers run it inside a transaction so readers never
+     * see a user with their old rows deleted and the new ones missing.
+     */
+    public int replaceSuggestions(List<UUID> userIds, int perUser, Instant refreshedAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Array userArray = connection.createArrayOf("uuid", userIds.toArray());
+            try (PreparedStatement delete = connection.prepareStatement(DELETE_SUGGESTIONS_SQL);
+                    PreparedStatement insert = connection.prepareStatement(INSERT_SUGGESTIONS_SQL)) {
+                delete.setArray(1, userArray);
+                delete.executeUpdate();
+                insert.setObject(1, toTimestamp(refreshedAt));
+                insert.setArray(2, userArray);
+                insert.setInt(3, perUser);
+                return insert.executeUpdate();
+            } finally {
+                userArray.free();
+            }
+        });
+    }
+
+    /**
+     * Runs {@code pass} only if no other instance is refreshing suggestions, and returns whether it ran. The lock is
+     * a session-level advisory lock on a connection held for the whole pass, so it is released even if this
+     * instance dies mid-pass; the pass itself commits on its own connections.
+     */
+    public boolean withSuggestionRefreshLock(Runnable pass) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                lock.setLong(1, SUGGESTION_REFRESH_LOCK);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                pass.run();
+                return true;
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                    unlock.setLong(1, SUGGESTION_REFRESH_LOCK);
+                    unlock.execute();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    public int deleteSuggestionsRefreshedBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_STALE_SUGGESTIONS_SQL, toTimestamp(cutoff));
+    }
+
+    private static DirectoryEntry mapEntry(ResultSet rs, int rowNum) throws SQLException {
+        return new DirectoryEntry(
+                rs.getObject("id", UUID.class),
+                rs.getString("display_name"),
+                rs.getString("email"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("last_active_at", OffsetDateTime.class).toInstant());
+    }
+
+    private static ScoredEntry mapScored(ResultSet rs, int rowNum) throws SQLException {
+        return new ScoredEntry(mapEntry(rs, rowNum), rs.getLong("score"));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    public record DirectoryEntry(UUID id, String displayName, String email, Instant createdAt, Instant lastActiveAt) {
+    }
+
+    public record ScoredEntry(DirectoryEntry user, long score) {
+    }
+}
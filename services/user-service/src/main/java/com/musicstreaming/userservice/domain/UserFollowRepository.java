@@ -1,13 +1,86 @@
 package com.musicstreaming.userservice.domain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserFollowRepository extends JpaRepository<UserFollow, UUID> {
-    boolean existsByFollowerUserIdAndTargetUserId(UUID followerUserId, UUID targetUserId);
+    // Concurrent follows of the same pair resolve in the database instead of racing an exists check.
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_follows (id, follower_user_id, target_user_id, created_at)
+            VALUES (:id, :followerUserId, :targetUserId, :createdAt)
+            ON CONFLICT (follower_user_id, target_user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") UUID id,
+            @Param("followerUserId") UUID followerUserId,
+            @Param("targetUserId") UUID targetUserId,
+            @Param("createdAt") Instant createdAt);
 
-    void deleteByFollowerUserIdAndTargetUserId(UUID followerUserId, UUID targetUserId);
+    @Modifying
+    @Query("delete from UserFollow f where f.followerUserId = :followerUserId and f.targetUserId = :targetUserId")
+    int deleteFollow(@Param("followerUserId") UUID followerUserId, @Param("targetUserId") UUID targetUserId);
 
-    List<UserFollow> findAllByFollowerUserIdOrderByCreatedAtDesc(UUID followerUserId);
+    List<UserFollow> findAllByFollowerUserIdOrderByCreatedAtDescIdDesc(UUID followerUserId, Limit limit);
+
+    // The *After queries compare row values so Postgres can seek the (user, created_at, id) indexes directly.
+    @Query(value = """
+            SELECT f.* FROM user_follows f
+            WHERE f.follower_user_id = :userId
+              AND (f.created_at, f.id) < (:createdAt, :id)
+            ORDER BY f.created_at DESC, f.id DESC
+            """, nativeQuery = true)
+    List<UserFollow> findFollowingAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    List<UserFollow> findAllByTargetUserIdOrderByCreatedAtDescIdDesc(UUID targetUserId, Limit limit);
+
+    @Query(value = """
+            SELECT f.* FROM user_follows f
+            WHERE f.target_user_id = :userId
+              AND (f.created_at, f.id) < (:createdAt, :id)
+            ORDER BY f.created_at DESC, f.id DESC
+            """, nativeQuery = true)
+    List<UserFollow> findFollowersAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Query("""
+            select f from UserFollow f
+            where f.followerUserId = :userId
+              and exists (select 1 from UserFollow r where r.followerUserId = f.targetUserId and r.targetUserId = :userId)
+            order by f.createdAt desc, f.id desc
+            """)
+    List<UserFollow> findMutual(@Param("userId") UUID userId, Limit limit);
+
+    @Query(value = """
+            SELECT f.* FROM user_follows f
+            WHERE f.follower_user_id = :userId
+              AND EXISTS (SELECT 1 FROM user_follows r WHERE r.follower_user_id = f.target_user_id AND r.target_user_id = :userId)
+              AND (f.created_at, f.id) < (:createdAt, :id)
+            ORDER BY f.created_at DESC, f.id DESC
+            """, nativeQuery = true)
+    List<UserFollow> findMutualAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Query("select f.targetUserId from UserFollow f where f.followerUserId = :userId and f.targetUserId in :userIds")
+    List<UUID> findFollowedAmong(@Param("userId") UUID userId, @Param("userIds") Collection<UUID> userIds);
+
+    @Query("select f.followerUserId from UserFollow f where f.targetUserId = :userId and f.followerUserId in :userIds")
+    List<UUID> findFollowersAmong(@Param("userId") UUID userId, @Param("userIds") Collection<UUID> userIds);
 }
@@ -0,0 +1,28 @@
+package com.musicstreaming.userservice.domain;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserFollowStatsRepository extends JpaRepository<UserFollowStats, UUID> {
+
+    // Rows are locked in VALUES order; callers pass the two users in a fixed order so opposite follows cannot deadlock.
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_follow_stats (user_id, follower_count, following_count)
+            VALUES (:firstUserId, :firstFollowerDelta, :firstFollowingDelta),
+                   (:secondUserId, :secondFollowerDelta, :secondFollowingDelta)
+            ON CONFLICT (user_id) DO UPDATE SET
+                follower_count = user_follow_stats.follower_count + EXCLUDED.follower_count,
+                following_count = user_follow_stats.following_count + EXCLUDED.following_count
+            """, nativeQuery = true)
+    int adjustCounts(
+            @Param("firstUserId") UUID firstUserId,
+            @Param("firstFollowerDelta") long firstFollowerDelta,
+            @Param("firstFollowingDelta") long firstFollowingDelta,
+            @Param("secondUserId") UUID secondUserId,
+            @Param("secondFollowerDelta") long secondFollowerDelta,
+            @Param("secondFollowingDelta") long secondFollowingDelta);
+}
@@ -0,0 +1,57 @@
+package com.musicstreaming.userservice.feed.api;
+
+import com.musicstreaming.userservice.api.AuthenticatedUserResolver;
+import com.musicstreaming.userservice.feed.service.FeedCursor;
+import com.musicstreaming.userservice.feed.service.FeedService;
+import com.musicstreaming.userservice.feed.service.FeedService.FeedPage;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/users/me/feed")
+@Validated
+public class FeedController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final FeedService feedService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    public FeedController(FeedService feedService, AuthenticatedUserResolver authenticatedUserResolver) {
+        this.feedService = feedService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<FeedItemResponse>> getFeed(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        UUID userId = authenticatedUserResolver.resolveUserId(jwt);
+        FeedCursor after = cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+        FeedPage page = feedService.getFeed(userId, after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.items().stream()
+                .map(item -> new FeedItemResponse(item.trackId(), item.authorUserId().toString(), item.title(), item.createdAt()))
+                .toList());
+    }
+
+    public record FeedItemResponse(String trackId, String artistUserId, String title, Instant uploadedAt) {
+    }
+}
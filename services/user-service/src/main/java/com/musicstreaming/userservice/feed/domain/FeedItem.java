@@ -0,0 +1,7 @@
+package com.musicstreaming.userservice.feed.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record FeedItem(String trackId, UUID authorUserId, String title, Instant createdAt) {
+}
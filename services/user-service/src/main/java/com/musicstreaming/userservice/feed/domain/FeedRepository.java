@@ -0,0 +1,174 @@
+package com.musicstreaming.userservice.feed.domain;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Storage for the activity feed. Every post is recorded once in {@code feed_posts}; posts from regular
+ * authors are also copied into each follower's timeline, a fixed-size ring in {@code feed_entries} where
+ * the n-th delivery to a user overwrites slot {@code n % capacity}.
+ */
+@Repository
+public class FeedRepository {
+
+    private static final String INSERT_POST_SQL = """
+            INSERT INTO feed_posts (track_id, author_user_id, title, created_at, fanned_out)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (track_id) DO NOTHING
+            """;
+
+    private static final String FIRST_FOLLOWERS_SQL = """
+            SELECT follower_user_id FROM user_follows
+            WHERE target_user_id = ?
+            ORDER BY follower_user_id
+            LIMIT ?
+            """;
+
+    private static final String NEXT_FOLLOWERS_SQL = """
+            SELECT follower_user_id FROM user_follows
+            WHERE target_user_id = ? AND follower_user_id > ?
+            ORDER BY follower_user_id
+            LIMIT ?
+            """;
+
+    // Claims the next sequence number for every recipient and writes the post into the slot it maps to.
+    private static final String PUSH_SQL = """
+            WITH heads AS (
+                INSERT INTO feed_heads (user_id, next_seq)
+                SELECT recipient, 1 FROM unnest(?) AS recipient
+                ON CONFLICT (user_id) DO UPDATE SET next_seq = feed_heads.next_seq + 1
+                RETURNING user_id, next_seq - 1 AS seq
+            )
+            INSERT INTO feed_entries (user_id, slot, seq, track_id, author_user_id, title, created_at)
+            SELECT user_id, CAST(seq % ? AS INTEGER), seq, ?, ?, ?, ? FROM heads
+            ON CONFLICT (user_id, slot) DO UPDATE SET
+                seq = EXCLUDED.seq,
+                track_id = EXCLUDED.track_id,
+                author_user_id = EXCLUDED.author_user_id,
+                title = EXCLUDED.title,
+                created_at = EXCLUDED.created_at
+            """;
+
+    // Entries from authors the user has since unfollowed stay in the ring until overwritten, so they are filtered here.
+    private static final String TIMELINE_SQL = """
+            SELECT e.track_id, e.author_user_id, e.title, e.created_at
+            FROM feed_entries e
+            WHERE e.user_id = ?
+              %s
+              AND EXISTS (
+                  SELECT 1 FROM user_follows f
+                  WHERE f.follower_user_id = e.user_id AND f.target_user_id = e.author_user_id)
+            ORDER BY e.created_at DESC, e.track_id DESC
+            LIMIT ?
+            """;
+
+    // Each followed author contributes at most one page from the partial index, so regular authors cost a single probe.
+    private static final String PULLED_SQL = """
+            SELECT p.track_id, p.author_user_id, p.title, p.created_at
+            FROM user_follows f
+            CROSS JOIN LATERAL (
+                SELECT fp.track_id, fp.author_user_id, fp.title, fp.created_at
+                FROM feed_posts fp
+                WHERE fp.author_user_id = f.target_user_id
+                  AND NOT fp.fanned_out
+                  %s
+                ORDER BY fp.created_at DESC, fp.track_id DESC
+                LIMIT ?
+            ) p
+            WHERE f.follower_user_id = ?
+            ORDER BY p.created_at DESC, p.track_id DESC
+            LIMIT ?
+            """;
+
+    private static final String TIMELINE_FIRST_SQL = TIMELINE_SQL.formatted("");
+    private static final String TIMELINE_AFTER_SQL = TIMELINE_SQL.formatted("AND (e.created_at, e.track_id) < (?, ?)");
+    private static final String PULLED_FIRST_SQL = PULLED_SQL.formatted("");
+    private static final String PULLED_AFTER_SQL = PULLED_SQL.formatted("AND (fp.created_at, fp.track_id) < (?, ?)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeedRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean insertPostIfAbsent(FeedItem post, boolean fannedOut) {
+        return jdbcTemplate.update(
+                INSERT_POST_SQL,
+                post.trackId(),
+                post.authorUserId(),
+                post.title(),
+                toTimestamp(post.createdAt()),
+                fannedOut) > 0;
+    }
+
+    public List<UUID> findFollowerChunk(UUID authorUserId, UUID afterFollowerId, int limit) {
+        if (afterFollowerId == null) {
+            return jdbcTemplate.queryForList(FIRST_FOLLOWERS_SQL, UUID.class, authorUserId, limit);
+        }
+        return jdbcTemplate.queryForList(NEXT_FOLLOWERS_SQL, UUID.class, authorUserId, afterFollowerId, limit);
+    }
+
+    /**
+     * Appends the post to each recipient's ring in one statement. Recipients should be sorted so concurrent
+     * fan-outs lock their {@code feed_heads} rows in the same order.
+     */
+    public int pushToTimelines(List<UUID> recipients, FeedItem post, int ringCapacity) {
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(PUSH_SQL)) {
+                Array recipientArray = connection.createArrayOf("uuid", recipients.toArray());
+                try {
+                    statement.setArray(1, recipientArray);
+                    statement.setInt(2, ringCapacity);
+                    statement.setString(3, post.trackId());
+                    statement.setObject(4, post.authorUserId());
+                    statement.setString(5, post.title());
+                    statement.setObject(6, toTimestamp(post.createdAt()));
+                    return statement.executeUpdate();
+                } finally {
+                    recipientArray.free();
+                }
+            }
+        });
+    }
+
+    public List<FeedItem> findTimeline(UUID userId, Instant beforeCreatedAt, String beforeTrackId, int limit) {
+        if (beforeCreatedAt == null) {
+            return jdbcTemplate.query(TIMELINE_FIRST_SQL, FeedRepository::mapItem, userId, limit);
+        }
+        return jdbcTemplate.query(
+                TIMELINE_AFTER_SQL, FeedRepository::mapItem, userId, toTimestamp(beforeCreatedAt), beforeTrackId, limit);
+    }
+
+    public List<FeedItem> findPulledPosts(UUID userId, Instant beforeCreatedAt, String beforeTrackId, int limit) {
+        if (beforeCreatedAt == null) {
+            return jdbcTemplate.query(PULLED_FIRST_SQL, FeedRepository::mapItem, limit, userId, limit);
+        }
+        return jdbcTemplate.query(
+                PULLED_AFTER_SQL, FeedRepository::mapItem, toTimestamp(beforeCreatedAt), beforeTrackId, limit, userId, limit);
+    }
+
+    private static FeedItem mapItem(ResultSet rs, int rowNum) throws SQLException {
+        return new FeedItem(
+                rs.getString("track_id"),
+                rs.getObject("author_user_id", UUID.class),
+                rs.getString("title"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant());
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
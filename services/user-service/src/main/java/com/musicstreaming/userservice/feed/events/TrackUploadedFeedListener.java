@@ -0,0 +1,94 @@
+package com.musicstreaming.userservice.feed.events;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.common.events.codec.EventCodecRegistry;
+import com.musicstreaming.common.observability.tracing.EventTracing;
+import com.musicstreaming.userservice.feed.domain.FeedItem;
+import com.musicstreaming.userservice.feed.service.FeedService;
+import com.musicstreaming.userservice.feed.service.FeedService.FanoutResult;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds track uploads from the media event stream into {@link FeedService}, authored by the account that
+ * uploaded the track; events from before the uploader was recorded are not fanned out. Delivery is at-least-once;
+ * redelivered uploads are dropped by the post log, and records that cannot be decoded are skipped
+ * instead of blocking the partition.
+ */
+@Component
+public class TrackUploadedFeedListener {
+
+    static final String TRACK_UPLOADED = "TrackUploaded";
+    static final String EVENT_TYPE_HEADER = "eventType";
+    static final String CONTENT_TYPE_HEADER = "contentType";
+
+    private static final Logger log = LoggerFactory.getLogger(TrackUploadedFeedListener.class);
+
+    private final FeedService feedService;
+    private final EventCodecRegistry eventCodecRegistry;
+    private final EventTracing eventTracing;
+
+    public TrackUploadedFeedListener(FeedService feedService, EventCodecRegistry eventCodecRegistry, EventTracing eventTracing) {
+        this.feedService = feedService;
+        this.eventCodecRegistry = eventCodecRegistry;
+        this.eventTracing = eventTracing;
+    }
+
+    @KafkaListener(
+            id = "feed-fanout",
+            topics = "${feed.events-topic:media.events}",
+            groupId = "${feed.consumer-group:user-service-feed}",
+            autoStartup = "${feed.consumer-enabled:true}")
+    public void onEvent(ConsumerRecord<String, byte[]> record) {
+        if (!TRACK_UPLOADED.equals(header(record, EVENT_TYPE_HEADER))) {
+            return;
+        }
+        if (!EventCodecRegistry.CONTENT_TYPE.equals(header(record, CONTENT_TYPE_HEADER))) {
+            log.warn("Skipping {} at {}-{}@{}: unsupported content type", TRACK_UPLOADED, record.topic(), record.partition(), record.offset());
+            return;
+        }
+
+        EventEnvelope<TrackUploadedEvent> envelope;
+        try {
+            envelope = eventCodecRegistry.decode(record.value(), TrackUploadedEvent.class);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Skipping undecodable event at {}-{}@{}", record.topic(), record.partition(), record.offset(), ex);
+            return;
+        }
+
+        eventTracing.observeConsumer("feed.fanout", envelope.traceHeaders(), () -> fanOut(envelope));
+    }
+
+    private void fanOut(EventEnvelope<TrackUploadedEvent> envelope) {
+        TrackUploadedEvent event = envelope.payload();
+        // The artist id is whatever the uploader typed in; only the authenticated uploader may author a feed post.
+        UUID authorUserId = parseUserId(event.uploaderUserId());
+        if (authorUserId == null) {
+            log.debug("Track {} has no uploader user account; nothing to fan out", event.trackId());
+            return;
+        }
+
+        FanoutResult result = feedService.publish(new FeedItem(event.trackId(), authorUserId, event.title(), envelope.occurredAt()));
+        log.debug("Track {} published to feeds: {} ({} timelines)", result.trackId(), result.mode(), result.delivered());
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static UUID parseUserId(String userId) {
+        try {
+            return userId == null ? null : UUID.fromString(userId.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
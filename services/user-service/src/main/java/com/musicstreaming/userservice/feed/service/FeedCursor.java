@@ -0,0 +1,20 @@
+package com.musicstreaming.userservice.feed.service;
+
+import com.musicstreaming.common.search.KeysetCursor;
+import com.musicstreaming.userservice.feed.domain.FeedItem;
+import java.time.Instant;
+
+public record FeedCursor(Instant createdAt, String trackId) {
+
+    static FeedCursor after(FeedItem item) {
+        return new FeedCursor(item.createdAt(), item.trackId());
+    }
+
+    public static FeedCursor decode(String value) {
+        return KeysetCursor.decode(value, FeedCursor::new);
+    }
+
+    public String encode() {
+        return KeysetCursor.encode(createdAt, trackId);
+    }
+}
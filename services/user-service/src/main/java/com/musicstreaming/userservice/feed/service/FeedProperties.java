@@ -0,0 +1,39 @@
+package com.musicstreaming.userservice.feed.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "feed")
+public class FeedProperties {
+
+    // Slots per user timeline. Changing it on a populated database leaves stale slots until they are overwritten.
+    private int ringCapacity = 500;
+    // Authors with at least this many followers are not fanned out; their posts are merged in at read time.
+    private long fanoutThreshold = 10_000;
+    private int fanoutChunkSize = 1_000;
+
+    public int getRingCapacity() {
+        return ringCapacity;
+    }
+
+    public void setRingCapacity(int ringCapacity) {
+        this.ringCapacity = ringCapacity;
+    }
+
+    public long getFanoutThreshold() {
+        return fanoutThreshold;
+    }
+
+    public void setFanoutThreshold(long fanoutThreshold) {
+        this.fanoutThreshold = fanoutThreshold;
+    }
+
+    public int getFanoutChunkSize() {
+        return fanoutChunkSize;
+    }
+
+    public void setFanoutChunkSize(int fanoutChunkSize) {
+        this.fanoutChunkSize = fanoutChunkSize;
+    }
+}
@@ -0,0 +1,107 @@
+package com.musicstreaming.userservice.feed.service;
+
+import com.musicstreaming.userservice.domain.UserFollowStats;
+import com.musicstreaming.userservice.domain.UserFollowStatsRepository;
+import com.musicstreaming.userservice.feed.domain.FeedItem;
+import com.musicstreaming.userservice.feed.domain.FeedRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Hybrid fan-out feed. Uploads from regular authors are pushed into every follower's timeline ring when
+ * they happen; uploads from authors at or above {@link FeedProperties#getFanoutThreshold()} are only
+ * recorded and pulled in when a follower reads the feed, so one popular upload never turns into
+ * millions of writes.
+ */
+@Service
+public class FeedService {
+
+    static final Comparator<FeedItem> NEWEST_FIRST = Comparator.comparing(FeedItem::createdAt)
+            .thenComparing(FeedItem::trackId)
+            .reversed();
+
+    private final FeedRepository feedRepository;
+    private final UserFollowStatsRepository statsRepository;
+    private final FeedProperties properties;
+
+    public FeedService(FeedRepository feedRepository, UserFollowStatsRepository statsRepository, FeedProperties properties) {
+        this.feedRepository = feedRepository;
+        this.statsRepository = statsRepository;
+        this.properties = properties;
+    }
+
+    @Transactional
+    public FanoutResult publish(FeedItem post) {
+        long followerCount = statsRepository.findById(post.authorUserId())
+                .map(UserFollowStats::getFollowerCount)
+                .orElse(0L);
+        boolean push = followerCount < properties.getFanoutThreshold();
+        if (!feedRepository.insertPostIfAbsent(post, push)) {
+            return new FanoutResult(post.trackId(), FanoutMode.DUPLICATE, 0);
+        }
+        if (!push) {
+            return new FanoutResult(post.trackId(), FanoutMode.PULL, 0);
+        }
+
+        int delivered = 0;
+        int chunkSize = properties.getFanoutChunkSize();
+        UUID lastFollowerId = null;
+        List<UUID> followers;
+        do {
+            followers = feedRepository.findFollowerChunk(post.authorUserId(), lastFollowerId, chunkSize);
+            if (followers.isEmpty()) {
+                break;
+            }
+            delivered += feedRepository.pushToTimelines(followers, post, properties.getRingCapacity());
+            lastFollowerId = followers.get(followers.size() - 1);
+        } while (followers.size() == chunkSize);
+        return new FanoutResult(post.trackId(), FanoutMode.PUSH, delivered);
+    }
+
+    @Transactional(readOnly = true)
+    public FeedPage getFeed(UUID userId, FeedCursor after, int limit) {
+        Instant beforeCreatedAt = after == null ? null : after.createdAt();
+        String beforeTrackId = after == null ? null : after.trackId();
+        List<FeedItem> pushed = feedRepository.findTimeline(userId, beforeCreatedAt, beforeTrackId, limit + 1);
+        List<FeedItem> pulled = feedRepository.findPulledPosts(userId, beforeCreatedAt, beforeTrackId, limit + 1);
+
+        List<FeedItem> merged = merge(pushed, pulled, limit + 1);
+        if (merged.size() <= limit) {
+            return new FeedPage(merged, null);
+        }
+        List<FeedItem> items = merged.subList(0, limit);
+        return new FeedPage(items, FeedCursor.after(items.get(limit - 1)));
+    }
+
+    // Both inputs are already newest-first, so a single pass keeps reads proportional to the page size.
+    static List<FeedItem> merge(List<FeedItem> first, List<FeedItem> second, int limit) {
+        List<FeedItem> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j == second.size() || (i < first.size() && NEWEST_FIRST.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    public enum FanoutMode {
+        PUSH,
+        PULL,
+        DUPLICATE
+    }
+
+    public record FanoutResult(String trackId, FanoutMode mode, int delivered) {
+    }
+
+    public record FeedPage(List<FeedItem> items, FeedCursor nextCursor) {
+    }
+}
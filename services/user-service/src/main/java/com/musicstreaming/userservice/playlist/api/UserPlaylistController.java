@@ -4,34 +4,51 @@ import com.musicstreaming.userservice.api.AuthenticatedUserResolver;
 import com.musicstreaming.userservice.playlist.service.PlaylistService;
 import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistDetails;
 import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackInput;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackOperation;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackOperationType;
+import com.musicstreaming.userservice.playlist.service.PlaylistTransferService;
+import com.musicstreaming.userservice.playlist.service.PlaylistTransferService.PlaylistImportResult;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/users/me/playlists")
 public class UserPlaylistController {
 
     private final PlaylistService playlistService;
+    private final PlaylistTransferService playlistTransferService;
     private final AuthenticatedUserResolver authenticatedUserResolver;
 
-    public UserPlaylistController(PlaylistService playlistService, AuthenticatedUserResolver authenticatedUserResolver) {
+    public UserPlaylistController(
+            PlaylistService playlistService,
+            PlaylistTransferService playlistTransferService,
+            AuthenticatedUserResolver authenticatedUserResolver) {
         this.playlistService = playlistService;
+        this.playlistTransferService = playlistTransferService;
         this.authenticatedUserResolver = authenticatedUserResolver;
     }
 
@@ -53,6 +70,29 @@ public class UserPlaylistController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PlaylistImportResponse> importPlaylists(
+            @AuthenticationPrincipal Jwt jwt,
+            InputStream body) throws IOException {
+        UUID userId = userIdFromJwt(jwt);
+        PlaylistImportResult result = playlistTransferService.importPlaylists(userId, body);
+        return ResponseEntity.ok(new PlaylistImportResponse(
+                result.imported(),
+                result.failed(),
+                result.aborted(),
+                result.errors().stream()
+                        .map(error -> new PlaylistImportErrorResponse(error.line(), error.message()))
+                        .toList()));
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPlaylists(@AuthenticationPrincipal Jwt jwt) {
+        UUID userId = userIdFromJwt(jwt);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> playlistTransferService.exportPlaylists(userId, output));
+    }
+
     @GetMapping("/{playlistId}")
     public ResponseEntity<PlaylistResponse> get(
             @AuthenticationPrincipal Jwt jwt,
@@ -72,6 +112,19 @@ public class UserPlaylistController {
         return ResponseEntity.ok(toResponse(updated));
     }
 
+    @PatchMapping("/{playlistId}/tracks")
+    public ResponseEntity<PlaylistResponse> applyTrackOperations(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable("playlistId") UUID playlistId,
+            @Valid @RequestBody PlaylistTrackOperationsRequest request) {
+        UUID userId = userIdFromJwt(jwt);
+        List<PlaylistTrackOperation> operations = request.operations().stream()
+                .map(this::toOperation)
+                .toList();
+        PlaylistDetails updated = playlistService.applyTrackOperations(userId, playlistId, operations);
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
     @DeleteMapping("/{playlistId}")
     public ResponseEntity<Void> delete(
             @AuthenticationPrincipal Jwt jwt,
@@ -102,6 +155,16 @@ public class UserPlaylistController {
                         .toList());
     }
 
+    private PlaylistTrackOperation toOperation(PlaylistTrackOperationRequest request) {
+        PlaylistTrackOperationType type;
+        try {
+            type = PlaylistTrackOperationType.fromWireValue(request.op());
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported playlist track operation", ex);
+        }
+        return new PlaylistTrackOperation(type, request.trackId(), request.position(), toTrackInputs(request.tracks()));
+    }
+
     private List<PlaylistTrackInput> toTrackInputs(List<PlaylistTrackRequest> tracks) {
         if (tracks == null) {
             return null;
@@ -123,6 +186,25 @@ public class UserPlaylistController {
     ) {
     }
 
+    public record PlaylistTrackOperationsRequest(
+            @NotEmpty(message = "must not be empty")
+            @Size(max = 100, message = "must be at most 100 operations")
+            List<@Valid @NotNull(message = "must not be null") PlaylistTrackOperationRequest> operations
+    ) {
+    }
+
+    public record PlaylistTrackOperationRequest(
+            @NotBlank(message = "must not be blank")
+            String op,
+            @Size(max = 64, message = "must be at most 64 characters")
+            String trackId,
+            Integer position,
+            @Valid
+            @Size(max = 500, message = "must be at most 500 tracks")
+            List<PlaylistTrackRequest> tracks
+    ) {
+    }
+
     public record PlaylistTrackRequest(
             @NotBlank(message = "must not be blank")
             @Size(max = 64, message = "must be at most 64 characters")
@@ -139,6 +221,20 @@ public class UserPlaylistController {
     ) {
     }
 
+    public record PlaylistImportResponse(
+            int imported,
+            int failed,
+            boolean aborted,
+            List<PlaylistImportErrorResponse> errors
+    ) {
+    }
+
+    public record PlaylistImportErrorResponse(
+            long line,
+            String message
+    ) {
+    }
+
     public record PlaylistResponse(
             String id,
             String name,
@@ -0,0 +1,59 @@
+package com.musicstreaming.userservice.playlist.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "playlist.cache", name = "type", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryPlaylistCacheStore implements PlaylistCacheStore {
+
+    private static final int GENERATION_STRIPES = 256;
+
+    private final Cache<String, Entry> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public InMemoryPlaylistCacheStore(PlaylistCacheProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfter(Expiry.<String, Entry>creating((key, entry) -> entry.ttl()))
+                .build();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    @Override
+    public Long generation(String key) {
+        return generations.get(stripe(key));
+    }
+
+    // The check and the write share the entry's lock; invalidate() bumps the stripe before it removes entries.
+    @Override
+    public void putIfGeneration(String key, long generation, byte[] value, Duration ttl) {
+        entries.asMap().compute(key, (k, current) -> generations.get(stripe(k)) == generation ? new Entry(value, ttl) : current);
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        for (String key : keys) {
+            generations.incrementAndGet(stripe(key));
+        }
+        entries.invalidateAll(keys);
+    }
+
+    private static int stripe(String key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Entry(byte[] value, Duration ttl) {
+    }
+}
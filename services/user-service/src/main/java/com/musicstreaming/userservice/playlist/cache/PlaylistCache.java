@@ -0,0 +1,111 @@
+package com.musicstreaming.userservice.playlist.cache;
+
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistDetails;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache for playlists. Staleness is guarded across instances by the store's generations: a load only
+ * writes if no eviction happened since it started. Single-flight loading is per instance; concurrent misses on
+ * different instances each query Postgres once.
+ */
+@Component
+public class PlaylistCache {
+
+    private final PlaylistCacheStore store;
+    private final PlaylistCacheProperties properties;
+    private final ConcurrentMap<String, CompletableFuture<List<PlaylistDetails>>> inFlight = new ConcurrentHashMap<>();
+
+    public PlaylistCache(PlaylistCacheStore store, PlaylistCacheProperties properties) {
+        this.store = store;
+        this.properties = properties;
+    }
+
+    public PlaylistDetails get(UUID userId, UUID playlistId, Supplier<PlaylistDetails> loader) {
+        return readThrough(playlistKey(userId, playlistId), () -> List.of(loader.get())).getFirst();
+    }
+
+    public List<PlaylistDetails> list(UUID userId, Supplier<List<PlaylistDetails>> loader) {
+        return readThrough(listKey(userId), loader);
+    }
+
+    public void evict(UUID userId, UUID playlistId) {
+        List<String> keys = List.of(playlistKey(userId, playlistId), listKey(userId));
+        invalidate(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(keys);
+                }
+            });
+        }
+    }
+
+    // Concurrent misses for the same key share one load. A load that overlaps an eviction is
+    // returned to its callers but not stored, so it cannot overwrite the invalidation.
+    private List<PlaylistDetails> readThrough(String key, Supplier<List<PlaylistDetails>> loader) {
+        byte[] cached = store.get(key);
+        if (cached != null) {
+            List<PlaylistDetails> decoded = PlaylistCacheCodec.decode(cached);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+
+        CompletableFuture<List<PlaylistDetails>> load = new CompletableFuture<>();
+        CompletableFuture<List<PlaylistDetails>> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        Long generation = store.generation(key);
+        try {
+            List<PlaylistDetails> value = loader.get();
+            if (generation != null) {
+                store.putIfGeneration(key, generation, PlaylistCacheCodec.encode(value), properties.getTtl());
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private void invalidate(List<String> keys) {
+        for (String key : keys) {
+            inFlight.remove(key);
+        }
+        store.invalidate(keys);
+    }
+
+    private static List<PlaylistDetails> join(CompletableFuture<List<PlaylistDetails>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static String playlistKey(UUID userId, UUID playlistId) {
+        return "playlist:v1:" + userId + ":" + playlistId;
+    }
+
+    private static String listKey(UUID userId) {
+        return "playlists:v1:" + userId;
+    }
+}
@@ -0,0 +1,104 @@
+package com.musicstreaming.userservice.playlist.cache;
+
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistDetails;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackDetails;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class PlaylistCacheCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private PlaylistCacheCodec() {
+    }
+
+    static byte[] encode(List<PlaylistDetails> playlists) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(playlists.size());
+            for (PlaylistDetails playlist : playlists) {
+                writePlaylist(playlist, out);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Returns null for payloads written by another format version so the caller reloads them.
+    static List<PlaylistDetails> decode(byte[] value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            if (in.readUnsignedByte() != FORMAT_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            List<PlaylistDetails> playlists = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                playlists.add(readPlaylist(in));
+            }
+            return List.copyOf(playlists);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static void writePlaylist(PlaylistDetails playlist, DataOutputStream out) throws IOException {
+        out.writeLong(playlist.id().getMostSignificantBits());
+        out.writeLong(playlist.id().getLeastSignificantBits());
+        out.writeUTF(playlist.name());
+        writeNullable(playlist.description(), out);
+        writeInstant(playlist.createdAt(), out);
+        writeInstant(playlist.updatedAt(), out);
+        out.writeInt(playlist.tracks().size());
+        for (PlaylistTrackDetails track : playlist.tracks()) {
+            out.writeUTF(track.trackId());
+            out.writeUTF(track.title());
+            out.writeUTF(track.artistName());
+            out.writeUTF(track.genre());
+            out.writeInt(track.position());
+        }
+    }
+
+    private static PlaylistDetails readPlaylist(DataInputStream in) throws IOException {
+        UUID id = new UUID(in.readLong(), in.readLong());
+        String name = in.readUTF();
+        String description = readNullable(in);
+        Instant createdAt = readInstant(in);
+        Instant updatedAt = readInstant(in);
+        int trackCount = in.readInt();
+        List<PlaylistTrackDetails> tracks = new ArrayList<>(trackCount);
+        for (int i = 0; i < trackCount; i++) {
+            tracks.add(new PlaylistTrackDetails(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readInt()));
+        }
+        return new PlaylistDetails(id, name, description, createdAt, updatedAt, List.copyOf(tracks));
+    }
+
+    private static void writeNullable(String value, DataOutputStream out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeInstant(Instant value, DataOutputStream out) throws IOException {
+        out.writeLong(value.getEpochSecond());
+        out.writeInt(value.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
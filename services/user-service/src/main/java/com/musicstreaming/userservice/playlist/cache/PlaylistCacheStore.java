@@ -0,0 +1,21 @@
+package com.musicstreaming.userservice.playlist.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Every key carries a generation that {@link #invalidate} bumps. A loader reads the generation before it queries
+ * Postgres and writes through {@link #putIfGeneration}, so a value loaded before an eviction, on any instance, is
+ * dropped instead of overwriting it.
+ */
+public interface PlaylistCacheStore {
+
+    byte[] get(String key);
+
+    /** Returns the key's current generation, or {@code null} when it cannot be read and nothing should be stored. */
+    Long generation(String key);
+
+    void putIfGeneration(String key, long generation, byte[] value, Duration ttl);
+
+    void invalidate(Collection<String> keys);
+}
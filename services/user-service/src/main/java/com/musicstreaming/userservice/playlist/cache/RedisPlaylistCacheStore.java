@@ -0,0 +1,111 @@
+package com.musicstreaming.userservice.playlist.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+// Redis is an optimisation only: failures are logged and reads fall through to Postgres.
+// Generations live next to the values, so a write is checked against evictions made by any instance.
+@Component
+@ConditionalOnProperty(prefix = "playlist.cache", name = "type", havingValue = "redis")
+public class RedisPlaylistCacheStore implements PlaylistCacheStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisPlaylistCacheStore.class);
+
+    // KEYS[1] value, KEYS[2] generation; ARGV[1] expected generation, ARGV[2] value, ARGV[3] ttl in ms.
+    private static final RedisScript<Long> PUT_IF_GENERATION = RedisScript.of("""
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS are value/generation pairs; ARGV[1] is how long a generation outlives its last bump, in ms.
+    private static final RedisScript<Long> INVALIDATE = RedisScript.of("""
+            for i = 1, #KEYS, 2 do
+              redis.call('INCR', KEYS[i + 1])
+              redis.call('PEXPIRE', KEYS[i + 1], ARGV[1])
+              redis.call('DEL', KEYS[i])
+            end
+            return #KEYS / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Duration generationTtl;
+
+    public RedisPlaylistCacheStore(RedisConnectionFactory connectionFactory, PlaylistCacheProperties properties) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(RedisSerializer.string());
+        this.redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        this.redisTemplate.afterPropertiesSet();
+        // A load that started before the generation expired would see it reset to 0, so keep it well past the
+        // longest load; the entry TTL bounds how long a stale value could survive anyway.
+        this.generationTtl = properties.getTtl().multipliedBy(2);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException ex) {
+            log.warn("Playlist cache read failed for {}", key, ex);
+            return null;
+        }
+    }
+
+    @Override
+    public Long generation(String key) {
+        try {
+            byte[] generation = redisTemplate.opsForValue().get(generationKey(key));
+            return generation == null ? 0L : Long.parseLong(new String(generation, StandardCharsets.US_ASCII));
+        } catch (DataAccessException ex) {
+            log.warn("Playlist cache generation read failed for {}", key, ex);
+            return null;
+        }
+    }
+
+    @Override
+    public void putIfGeneration(String key, long generation, byte[] value, Duration ttl) {
+        try {
+            redisTemplate.execute(PUT_IF_GENERATION, List.of(key, generationKey(key)),
+                    ascii(Long.toString(generation)), value, ascii(Long.toString(ttl.toMillis())));
+        } catch (DataAccessException ex) {
+            log.warn("Playlist cache write failed for {}", key, ex);
+        }
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            scriptKeys.add(key);
+            scriptKeys.add(generationKey(key));
+        }
+        try {
+            redisTemplate.execute(INVALIDATE, scriptKeys, ascii(Long.toString(generationTtl.toMillis())));
+        } catch (DataAccessException ex) {
+            log.warn("Playlist cache eviction failed for {}", keys, ex);
+        }
+    }
+
+    private static String generationKey(String key) {
+        return key + ":gen";
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -72,4 +72,8 @@ public class Playlist {
         this.description = description;
         this.updatedAt = updatedAt;
     }
+
+    public void touch(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
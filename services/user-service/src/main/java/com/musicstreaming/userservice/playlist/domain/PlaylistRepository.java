@@ -1,12 +1,25 @@
 package com.musicstreaming.userservice.playlist.domain;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PlaylistRepository extends JpaRepository<Playlist, UUID> {
     List<Playlist> findAllByUserIdOrderByUpdatedAtDesc(UUID userId);
 
     Optional<Playlist> findByIdAndUserId(UUID id, UUID userId);
+
+    List<Playlist> findAllByUserIdOrderByIdAsc(UUID userId, Limit limit);
+
+    List<Playlist> findAllByUserIdAndIdGreaterThanOrderByIdAsc(UUID userId, UUID id, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Playlist p where p.id = :id and p.userId = :userId")
+    Optional<Playlist> lockByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 }
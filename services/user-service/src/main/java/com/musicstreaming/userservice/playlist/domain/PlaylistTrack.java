@@ -2,8 +2,6 @@ package com.musicstreaming.userservice.playlist.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
@@ -14,7 +12,7 @@ import java.util.UUID;
 public class PlaylistTrack {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "playlist_id", nullable = false)
@@ -33,7 +31,7 @@ public class PlaylistTrack {
     private String genre;
 
     @Column(nullable = false)
-    private int position;
+    private long position;
 
     @Column(name = "added_at", nullable = false)
     private Instant addedAt;
@@ -41,7 +39,7 @@ public class PlaylistTrack {
     protected PlaylistTrack() {
     }
 
-    public PlaylistTrack(UUID playlistId, String trackId, String title, String artistName, String genre, int position, Instant addedAt) {
+    public PlaylistTrack(UUID playlistId, String trackId, String title, String artistName, String genre, long position, Instant addedAt) {
         this.playlistId = playlistId;
         this.trackId = trackId;
         this.title = title;
@@ -51,6 +49,15 @@ public class PlaylistTrack {
         this.addedAt = addedAt;
     }
 
+    public UUID getId() {
+        return id;
+    }
+
+    // Rows written by PlaylistTrackBatchWriter bypass Hibernate, so their id is minted there instead of on flush.
+    void assignId(UUID id) {
+        this.id = id;
+    }
+
     public UUID getPlaylistId() {
         return playlistId;
     }
@@ -71,7 +78,15 @@ public class PlaylistTrack {
         return genre;
     }
 
-    public int getPosition() {
+    public long getPosition() {
         return position;
     }
+
+    public Instant getAddedAt() {
+        return addedAt;
+    }
+
+    public void moveTo(long position) {
+        this.position = position;
+    }
 }
@@ -0,0 +1,51 @@
+package com.musicstreaming.userservice.playlist.domain;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk insert path for playlist tracks. Rows go out as JDBC batches (which the driver rewrites into
+ * multi-row INSERTs when {@code reWriteBatchedInserts} is set) instead of one round-trip per entity.
+ */
+@Repository
+public class PlaylistTrackBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO playlist_tracks (id, playlist_id, track_id, title, artist_name, genre, position, added_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public PlaylistTrackBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${playlist.tracks.insert-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void insertAll(List<PlaylistTrack> tracks) {
+        if (tracks.isEmpty()) {
+            return;
+        }
+        for (PlaylistTrack track : tracks) {
+            if (track.getId() == null) {
+                track.assignId(TimeOrderedUuidGenerator.next());
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, tracks, batchSize, (statement, track) -> {
+            statement.setObject(1, track.getId());
+            statement.setObject(2, track.getPlaylistId());
+            statement.setString(3, track.getTrackId());
+            statement.setString(4, track.getTitle());
+            statement.setString(5, track.getArtistName());
+            statement.setString(6, track.getGenre());
+            statement.setLong(7, track.getPosition());
+            statement.setObject(8, track.getAddedAt().atOffset(ZoneOffset.UTC));
+        });
+    }
+}
@@ -4,11 +4,16 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PlaylistTrackRepository extends JpaRepository<PlaylistTrack, UUID> {
     List<PlaylistTrack> findAllByPlaylistIdOrderByPositionAsc(UUID playlistId);
 
     List<PlaylistTrack> findAllByPlaylistIdInOrderByPlaylistIdAscPositionAsc(Collection<UUID> playlistIds);
 
-    void deleteByPlaylistId(UUID playlistId);
+    @Modifying
+    @Query("delete from PlaylistTrack t where t.playlistId = :playlistId")
+    void deleteByPlaylistId(@Param("playlistId") UUID playlistId);
 }
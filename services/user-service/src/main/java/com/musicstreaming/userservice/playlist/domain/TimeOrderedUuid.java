@@ -0,0 +1,18 @@
+package com.musicstreaming.userservice.playlist.domain;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates UUIDv7 identifiers, whose leading 48 bits are a millisecond timestamp, so new rows land at the
+ * right-hand edge of the primary key index instead of at random pages.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,37 @@
+package com.musicstreaming.userservice.playlist.domain;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // Millisecond timestamp in the high bits and a 12-bit counter in the low bits, so ids stay monotonic
+    // within one JVM even when many are minted in the same millisecond.
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    public static UUID next() {
+        long tick = LAST_TICK.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis() << 12));
+        long millis = tick >>> 12;
+        long sequence = tick & 0xFFF;
+        long mostSignificant = (millis << 16) | 0x7000L | sequence;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
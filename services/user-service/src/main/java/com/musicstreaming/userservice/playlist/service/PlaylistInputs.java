@@ -0,0 +1,72 @@
+package com.musicstreaming.userservice.playlist.service;
+
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackInput;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Normalization and validation shared by the single-playlist endpoints and bulk import. Limits mirror
+ * the column sizes of {@code playlists} and {@code playlist_tracks}.
+ */
+final class PlaylistInputs {
+
+    private PlaylistInputs() {
+    }
+
+    static String normalizeName(String name) {
+        return requireLength(normalizeRequired(name, "Playlist name is required"), 120, "Playlist name");
+    }
+
+    static String normalizeDescription(String description) {
+        if (description == null) {
+            return null;
+        }
+        String trimmed = description.trim();
+        return trimmed.isEmpty() ? null : requireLength(trimmed, 600, "Playlist description");
+    }
+
+    static List<PlaylistTrackInput> normalizeTracks(List<PlaylistTrackInput> tracks, int limit) {
+        if (tracks == null || tracks.isEmpty()) {
+            return List.of();
+        }
+        if (tracks.size() > limit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot write more than " + limit + " tracks at once");
+        }
+
+        List<PlaylistTrackInput> normalized = new ArrayList<>(tracks.size());
+        Set<String> seenTrackIds = new HashSet<>();
+        for (PlaylistTrackInput track : tracks) {
+            if (track == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Track is required");
+            }
+            String trackId = requireLength(normalizeRequired(track.trackId(), "Track id is required"), 64, "Track id");
+            if (!seenTrackIds.add(trackId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Playlist contains duplicate track ids");
+            }
+            normalized.add(new PlaylistTrackInput(
+                    trackId,
+                    requireLength(normalizeRequired(track.title(), "Track title is required"), 200, "Track title"),
+                    requireLength(normalizeRequired(track.artistName(), "Artist name is required"), 200, "Artist name"),
+                    requireLength(normalizeRequired(track.genre(), "Genre is required"), 80, "Genre")));
+        }
+        return normalized;
+    }
+
+    static String normalizeRequired(String value, String message) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+        }
+        return value.trim();
+    }
+
+    private static String requireLength(String value, int max, String field) {
+        if (value.length() > max) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " must be at most " + max + " characters");
+        }
+        return value;
+    }
+}
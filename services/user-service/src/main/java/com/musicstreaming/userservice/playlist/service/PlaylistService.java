@@ -1,79 +1,151 @@
 package com.musicstreaming.userservice.playlist.service;
 
+import com.musicstreaming.userservice.playlist.cache.PlaylistCache;
 import com.musicstreaming.userservice.playlist.domain.Playlist;
 import com.musicstreaming.userservice.playlist.domain.PlaylistRepository;
 import com.musicstreaming.userservice.playlist.domain.PlaylistTrack;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrackBatchWriter;
 import com.musicstreaming.userservice.playlist.domain.PlaylistTrackRepository;
+import io.micrometer.core.annotation.Timed;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class PlaylistService {
 
+    static final int MAX_PLAYLIST_TRACKS = 10_000;
+    static final int MAX_TRACKS_PER_WRITE = 500;
+
     private final PlaylistRepository playlistRepository;
     private final PlaylistTrackRepository playlistTrackRepository;
+    private final PlaylistTrackBatchWriter playlistTrackBatchWriter;
+    private final PlaylistCache playlistCache;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public PlaylistService(PlaylistRepository playlistRepository, PlaylistTrackRepository playlistTrackRepository) {
+    public PlaylistService(
+            PlaylistRepository playlistRepository,
+            PlaylistTrackRepository playlistTrackRepository,
+            PlaylistTrackBatchWriter playlistTrackBatchWriter,
+            PlaylistCache playlistCache,
+            PlatformTransactionManager transactionManager) {
         this.playlistRepository = playlistRepository;
         this.playlistTrackRepository = playlistTrackRepository;
+        this.playlistTrackBatchWriter = playlistTrackBatchWriter;
+        this.playlistCache = playlistCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Transactional
+    @Timed(value = "playlist.write", histogram = true)
     public PlaylistDetails create(UUID userId, String name, String description, List<PlaylistTrackInput> tracks) {
         Instant now = Instant.now();
-        Playlist saved = playlistRepository.save(new Playlist(userId, name.trim(), normalizeDescription(description), now, now));
+        // Flushed up front: track rows go in over plain JDBC and reference this row.
+        Playlist saved = playlistRepository.saveAndFlush(new Playlist(
+                userId,
+                PlaylistInputs.normalizeName(name),
+                PlaylistInputs.normalizeDescription(description),
+                now,
+                now));
         List<PlaylistTrackDetails> trackItems = replaceTracks(saved.getId(), tracks);
+        playlistCache.evict(userId, saved.getId());
         return toDetails(saved, trackItems);
     }
 
-    @Transactional(readOnly = true)
+    // Reads go through the cache without a surrounding transaction so that hits never borrow a connection.
+    @Timed(value = "playlist.read", histogram = true)
     public List<PlaylistDetails> list(UUID userId) {
-        List<Playlist> playlists = playlistRepository.findAllByUserIdOrderByUpdatedAtDesc(userId);
-        if (playlists.isEmpty()) {
-            return List.of();
-        }
-
-        List<UUID> playlistIds = playlists.stream().map(Playlist::getId).toList();
-        Map<UUID, List<PlaylistTrackDetails>> trackMap = buildTrackMap(playlistTrackRepository.findAllByPlaylistIdInOrderByPlaylistIdAscPositionAsc(playlistIds));
-
-        return playlists.stream()
-                .map(playlist -> toDetails(playlist, trackMap.getOrDefault(playlist.getId(), List.of())))
-                .toList();
+        return playlistCache.list(userId, () -> readOnlyTransaction.execute(status -> loadPlaylists(userId)));
     }
 
-    @Transactional(readOnly = true)
+    @Timed(value = "playlist.read", histogram = true)
     public PlaylistDetails get(UUID userId, UUID playlistId) {
-        Playlist playlist = findOwnedPlaylist(userId, playlistId);
-        List<PlaylistTrackDetails> tracks = playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId).stream()
-                .map(this::toTrackDetails)
-                .toList();
-        return toDetails(playlist, tracks);
+        return playlistCache.get(userId, playlistId, () -> readOnlyTransaction.execute(status -> loadPlaylist(userId, playlistId)));
     }
 
     @Transactional
+    @Timed(value = "playlist.write", histogram = true)
     public PlaylistDetails update(UUID userId, UUID playlistId, String name, String description, List<PlaylistTrackInput> tracks) {
         Playlist playlist = findOwnedPlaylist(userId, playlistId);
-        playlist.update(name.trim(), normalizeDescription(description), Instant.now());
-        List<PlaylistTrackDetails> existingTracks = playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId).stream()
-                .map(this::toTrackDetails)
-                .toList();
-        List<PlaylistTrackDetails> resolvedTracks = tracks == null ? existingTracks : replaceTracks(playlistId, tracks);
+        playlist.update(PlaylistInputs.normalizeName(name), PlaylistInputs.normalizeDescription(description), Instant.now());
+        List<PlaylistTrackDetails> resolvedTracks = tracks == null
+                ? toTrackDetails(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId))
+                : replaceTracks(playlistId, tracks);
+        playlistCache.evict(userId, playlistId);
         return toDetails(playlist, resolvedTracks);
     }
 
+    // Applies edits against sparse position keys so only inserted, moved and removed rows are written.
+    @Transactional
+    @Timed(value = "playlist.write", histogram = true)
+    public PlaylistDetails applyTrackOperations(UUID userId, UUID playlistId, List<PlaylistTrackOperation> operations) {
+        Playlist playlist = playlistRepository.lockByIdAndUserId(playlistId, userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Playlist not found"));
+        PlaylistTrackSequence sequence = new PlaylistTrackSequence(
+                playlistId,
+                playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId));
+
+        Instant now = Instant.now();
+        for (PlaylistTrackOperation operation : operations) {
+            switch (operation.type()) {
+                case APPEND -> sequence.insert(sequence.size(), PlaylistInputs.normalizeTracks(operation.tracks(), MAX_TRACKS_PER_WRITE), now);
+                case INSERT -> sequence.insert(toIndex(operation.position(), sequence.size() + 1), PlaylistInputs.normalizeTracks(operation.tracks(), MAX_TRACKS_PER_WRITE), now);
+                case MOVE -> sequence.move(
+                        PlaylistInputs.normalizeRequired(operation.trackId(), "Track id is required"),
+                        toIndex(operation.position(), sequence.size()));
+                case REMOVE -> sequence.remove(PlaylistInputs.normalizeRequired(operation.trackId(), "Track id is required"));
+            }
+        }
+        if (sequence.size() > MAX_PLAYLIST_TRACKS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Playlist cannot exceed " + MAX_PLAYLIST_TRACKS + " tracks");
+        }
+
+        // Deletes run first so a track removed and re-added in one request does not trip the unique constraint.
+        if (!sequence.removed().isEmpty()) {
+            playlistTrackRepository.deleteAllInBatch(sequence.removed());
+        }
+        playlistTrackBatchWriter.insertAll(sequence.added());
+        playlist.touch(now);
+        playlistCache.evict(userId, playlistId);
+        return toDetails(playlist, toTrackDetails(sequence.tracks()));
+    }
+
     @Transactional
+    @Timed(value = "playlist.write", histogram = true)
     public void delete(UUID userId, UUID playlistId) {
         Playlist playlist = findOwnedPlaylist(userId, playlistId);
         playlistRepository.delete(playlist);
+        playlistCache.evict(userId, playlistId);
+    }
+
+    private List<PlaylistDetails> loadPlaylists(UUID userId) {
+        List<Playlist> playlists = playlistRepository.findAllByUserIdOrderByUpdatedAtDesc(userId);
+        if (playlists.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> playlistIds = playlists.stream().map(Playlist::getId).toList();
+        Map<UUID, List<PlaylistTrackDetails>> trackMap = buildTrackMap(playlistTrackRepository.findAllByPlaylistIdInOrderByPlaylistIdAscPositionAsc(playlistIds));
+
+        return playlists.stream()
+                .map(playlist -> toDetails(playlist, trackMap.getOrDefault(playlist.getId(), List.of())))
+                .toList();
+    }
+
+    private PlaylistDetails loadPlaylist(UUID userId, UUID playlistId) {
+        Playlist playlist = findOwnedPlaylist(userId, playlistId);
+        return toDetails(playlist, toTrackDetails(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId)));
     }
 
     private Playlist findOwnedPlaylist(UUID userId, UUID playlistId) {
@@ -81,7 +153,7 @@ public class PlaylistService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Playlist not found"));
     }
 
-    private PlaylistDetails toDetails(Playlist playlist, List<PlaylistTrackDetails> tracks) {
+    static PlaylistDetails toDetails(Playlist playlist, List<PlaylistTrackDetails> tracks) {
         return new PlaylistDetails(
                 playlist.getId(),
                 playlist.getName(),
@@ -91,16 +163,8 @@ public class PlaylistService {
                 tracks);
     }
 
-    private String normalizeDescription(String description) {
-        if (description == null) {
-            return null;
-        }
-        String trimmed = description.trim();
-        return trimmed.isEmpty() ? null : trimmed;
-    }
-
     private List<PlaylistTrackDetails> replaceTracks(UUID playlistId, List<PlaylistTrackInput> tracks) {
-        List<PlaylistTrackInput> normalized = normalizeTracks(tracks);
+        List<PlaylistTrackInput> normalized = PlaylistInputs.normalizeTracks(tracks, MAX_TRACKS_PER_WRITE);
         playlistTrackRepository.deleteByPlaylistId(playlistId);
         if (normalized.isEmpty()) {
             return List.of();
@@ -116,61 +180,44 @@ public class PlaylistService {
                     input.title(),
                     input.artistName(),
                     input.genre(),
-                    i + 1,
+                    PlaylistTrackSequence.positionFor(i),
                     now));
         }
 
-        return playlistTrackRepository.saveAll(entities).stream()
-                .map(this::toTrackDetails)
-                .toList();
-    }
-
-    private List<PlaylistTrackInput> normalizeTracks(List<PlaylistTrackInput> tracks) {
-        if (tracks == null || tracks.isEmpty()) {
-            return List.of();
-        }
-        if (tracks.size() > 500) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Playlist cannot exceed 500 tracks");
-        }
-
-        List<PlaylistTrackInput> normalized = new ArrayList<>(tracks.size());
-        LinkedHashSet<String> seenTrackIds = new LinkedHashSet<>();
-        for (PlaylistTrackInput track : tracks) {
-            String trackId = normalizeRequired(track.trackId(), "Track id is required");
-            if (!seenTrackIds.add(trackId)) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Playlist contains duplicate track ids");
-            }
-            normalized.add(new PlaylistTrackInput(
-                    trackId,
-                    normalizeRequired(track.title(), "Track title is required"),
-                    normalizeRequired(track.artistName(), "Artist name is required"),
-                    normalizeRequired(track.genre(), "Genre is required")));
-        }
-        return normalized;
+        playlistTrackBatchWriter.insertAll(entities);
+        return toTrackDetails(entities);
     }
 
-    private String normalizeRequired(String value, String message) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    // Positions in the API are 1-based ordinals; anything past the end clamps to the end.
+    private int toIndex(Integer position, int slots) {
+        if (position == null || position < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Position must be at least 1");
         }
-        return value.trim();
+        return Math.min(position, slots) - 1;
     }
 
-    private Map<UUID, List<PlaylistTrackDetails>> buildTrackMap(List<PlaylistTrack> tracks) {
-        Map<UUID, List<PlaylistTrackDetails>> result = new LinkedHashMap<>();
+    static Map<UUID, List<PlaylistTrackDetails>> buildTrackMap(List<PlaylistTrack> tracks) {
+        Map<UUID, List<PlaylistTrack>> grouped = new LinkedHashMap<>();
         for (PlaylistTrack track : tracks) {
-            result.computeIfAbsent(track.getPlaylistId(), ignored -> new ArrayList<>()).add(toTrackDetails(track));
+            grouped.computeIfAbsent(track.getPlaylistId(), ignored -> new ArrayList<>()).add(track);
         }
+        Map<UUID, List<PlaylistTrackDetails>> result = new LinkedHashMap<>();
+        grouped.forEach((playlistId, playlistTracks) -> result.put(playlistId, toTrackDetails(playlistTracks)));
         return result;
     }
 
-    private PlaylistTrackDetails toTrackDetails(PlaylistTrack track) {
-        return new PlaylistTrackDetails(
-                track.getTrackId(),
-                track.getTitle(),
-                track.getArtistName(),
-                track.getGenre(),
-                track.getPosition());
+    static List<PlaylistTrackDetails> toTrackDetails(List<PlaylistTrack> orderedTracks) {
+        List<PlaylistTrackDetails> details = new ArrayList<>(orderedTracks.size());
+        for (int i = 0; i < orderedTracks.size(); i++) {
+            PlaylistTrack track = orderedTracks.get(i);
+            details.add(new PlaylistTrackDetails(
+                    track.getTrackId(),
+                    track.getTitle(),
+                    track.getArtistName(),
+                    track.getGenre(),
+                    i + 1));
+        }
+        return details;
     }
 
     public record PlaylistDetails(
@@ -187,4 +234,35 @@ public class PlaylistService {
 
     public record PlaylistTrackInput(String trackId, String title, String artistName, String genre) {
     }
+
+    public record PlaylistTrackOperation(
+            PlaylistTrackOperationType type,
+            String trackId,
+            Integer position,
+            List<PlaylistTrackInput> tracks) {
+    }
+
+    public enum PlaylistTrackOperationType {
+        APPEND("append"),
+        INSERT("insert"),
+        MOVE("move"),
+        REMOVE("remove");
+
+        private final String wireValue;
+
+        PlaylistTrackOperationType(String wireValue) {
+            this.wireValue = wireValue;
+        }
+
+        public String wireValue() {
+            return wireValue;
+        }
+
+        public static PlaylistTrackOperationType fromWireValue(String value) {
+            return Arrays.stream(values())
+                    .filter(type -> type.wireValue.equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported playlist track operation"));
+        }
+    }
 }
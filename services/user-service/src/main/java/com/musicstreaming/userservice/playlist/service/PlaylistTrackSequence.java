@@ -0,0 +1,136 @@
+package com.musicstreaming.userservice.playlist.service;
+
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrack;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Ordered, in-memory view of a playlist's tracks keyed by sparse positions. Edits allocate a key between
+ * the neighbouring rows so only the touched rows change; the whole playlist is renumbered only when two
+ * neighbours run out of room between them.
+ */
+final class PlaylistTrackSequence {
+
+    static final long POSITION_GAP = 1024;
+
+    private final UUID playlistId;
+    private final List<PlaylistTrack> tracks;
+    private final Map<String, PlaylistTrack> byTrackId = new HashMap<>();
+    private final List<PlaylistTrack> added = new ArrayList<>();
+    private final List<PlaylistTrack> removed = new ArrayList<>();
+
+    PlaylistTrackSequence(UUID playlistId, List<PlaylistTrack> orderedTracks) {
+        this.playlistId = playlistId;
+        this.tracks = new ArrayList<>(orderedTracks);
+        for (PlaylistTrack track : orderedTracks) {
+            byTrackId.put(track.getTrackId(), track);
+        }
+    }
+
+    static long positionFor(int index) {
+        return (index + 1) * POSITION_GAP;
+    }
+
+    int size() {
+        return tracks.size();
+    }
+
+    void insert(int index, List<PlaylistService.PlaylistTrackInput> inputs, Instant addedAt) {
+        if (inputs.isEmpty()) {
+            return;
+        }
+        for (PlaylistService.PlaylistTrackInput input : inputs) {
+            if (byTrackId.containsKey(input.trackId())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Playlist already contains track " + input.trackId());
+            }
+        }
+
+        long[] keys = allocate(index, inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            PlaylistService.PlaylistTrackInput input = inputs.get(i);
+            PlaylistTrack track = new PlaylistTrack(
+                    playlistId,
+                    input.trackId(),
+                    input.title(),
+                    input.artistName(),
+                    input.genre(),
+                    keys[i],
+                    addedAt);
+            tracks.add(index + i, track);
+            byTrackId.put(track.getTrackId(), track);
+            added.add(track);
+        }
+    }
+
+    void move(String trackId, int index) {
+        PlaylistTrack track = require(trackId);
+        int from = tracks.indexOf(track);
+        if (from == index) {
+            return;
+        }
+        tracks.remove(from);
+        track.moveTo(allocate(index, 1)[0]);
+        tracks.add(index, track);
+    }
+
+    void remove(String trackId) {
+        PlaylistTrack track = require(trackId);
+        tracks.remove(track);
+        byTrackId.remove(trackId);
+        if (!added.remove(track)) {
+            removed.add(track);
+        }
+    }
+
+    List<PlaylistTrack> tracks() {
+        return tracks;
+    }
+
+    List<PlaylistTrack> added() {
+        return added;
+    }
+
+    List<PlaylistTrack> removed() {
+        return removed;
+    }
+
+    private PlaylistTrack require(String trackId) {
+        PlaylistTrack track = byTrackId.get(trackId);
+        if (track == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Track " + trackId + " is not in playlist");
+        }
+        return track;
+    }
+
+    // Returns count ascending keys strictly between the rows around index, renumbering once if they do not fit.
+    private long[] allocate(int index, int count) {
+        long[] keys = between(index, count);
+        if (keys == null) {
+            for (int i = 0; i < tracks.size(); i++) {
+                tracks.get(i).moveTo(positionFor(i < index ? i : i + count));
+            }
+            keys = between(index, count);
+        }
+        return keys;
+    }
+
+    private long[] between(int index, int count) {
+        long lower = index == 0 ? 0 : tracks.get(index - 1).getPosition();
+        long upper = index == tracks.size() ? lower + (count + 1) * POSITION_GAP : tracks.get(index).getPosition();
+        long step = (upper - lower) / (count + 1);
+        if (step < 1) {
+            return null;
+        }
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = lower + step * (i + 1);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,46 @@
+package com.musicstreaming.userservice.playlist.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "playlist.transfer")
+public class PlaylistTransferProperties {
+
+    private int importBatchPlaylists = 50;
+    private int importBatchTracks = 5_000;
+    private int maxImportPlaylists = 1_000;
+    private int exportPageSize = 20;
+
+    public int getImportBatchPlaylists() {
+        return importBatchPlaylists;
+    }
+
+    public void setImportBatchPlaylists(int importBatchPlaylists) {
+        this.importBatchPlaylists = importBatchPlaylists;
+    }
+
+    public int getImportBatchTracks() {
+        return importBatchTracks;
+    }
+
+    public void setImportBatchTracks(int importBatchTracks) {
+        this.importBatchTracks = importBatchTracks;
+    }
+
+    public int getMaxImportPlaylists() {
+        return maxImportPlaylists;
+    }
+
+    public void setMaxImportPlaylists(int maxImportPlaylists) {
+        this.maxImportPlaylists = maxImportPlaylists;
+    }
+
+    public int getExportPageSize() {
+        return exportPageSize;
+    }
+
+    public void setExportPageSize(int exportPageSize) {
+        this.exportPageSize = exportPageSize;
+    }
+}
@@ -0,0 +1,253 @@
+package com.musicstreaming.userservice.playlist.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.musicstreaming.userservice.playlist.cache.PlaylistCache;
+import com.musicstreaming.userservice.playlist.domain.Playlist;
+import com.musicstreaming.userservice.playlist.domain.PlaylistRepository;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrack;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrackBatchWriter;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrackRepository;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistDetails;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackDetails;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackInput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * NDJSON import and export of a user's playlists, one playlist per line. Imports are parsed one line at a
+ * time and committed in batches, so a large payload never sits in memory and a bad line only costs itself;
+ * batches committed before a failure stay committed.
+ */
+@Service
+public class PlaylistTransferService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistTrackRepository playlistTrackRepository;
+    private final PlaylistTrackBatchWriter playlistTrackBatchWriter;
+    private final PlaylistCache playlistCache;
+    private final PlaylistTransferProperties properties;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectReader lineReader;
+    private final ObjectWriter lineWriter;
+
+    public PlaylistTransferService(
+            PlaylistRepository playlistRepository,
+            PlaylistTrackRepository playlistTrackRepository,
+            PlaylistTrackBatchWriter playlistTrackBatchWriter,
+            PlaylistCache playlistCache,
+            PlaylistTransferProperties properties,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.playlistRepository = playlistRepository;
+        this.playlistTrackRepository = playlistTrackRepository;
+        this.playlistTrackBatchWriter = playlistTrackBatchWriter;
+        this.playlistCache = playlistCache;
+        this.properties = properties;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lineReader = objectMapper.readerFor(PlaylistImportLine.class);
+        this.lineWriter = objectMapper.writerFor(PlaylistDetails.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public PlaylistImportResult importPlaylists(UUID userId, InputStream input) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<PendingPlaylist> batch = new ArrayList<>();
+        int batchTracks = 0;
+
+        try (MappingIterator<PlaylistImportLine> lines = lineReader.readValues(input)) {
+            while (true) {
+                long lineNumber;
+                PlaylistImportLine line;
+                try {
+                    if (!lines.hasNextValue()) {
+                        break;
+                    }
+                    lineNumber = lines.getParser().currentTokenLocation().getLineNr();
+                    line = lines.nextValue();
+                } catch (JsonMappingException ex) {
+                    // Well-formed JSON of the wrong shape: the iterator resyncs to the next line.
+                    progress.fail(lineOf(ex.getLocation()), ex.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException ex) {
+                    progress.abort(lineOf(ex.getLocation()), "Malformed JSON: " + ex.getOriginalMessage());
+                    break;
+                }
+
+                if (progress.seen() >= properties.getMaxImportPlaylists()) {
+                    progress.abort(lineNumber, "Import is limited to " + properties.getMaxImportPlaylists() + " playlists");
+                    break;
+                }
+
+                PendingPlaylist pending;
+                try {
+                    pending = normalize(line);
+                } catch (ResponseStatusException ex) {
+                    progress.fail(lineNumber, ex.getReason());
+                    continue;
+                }
+                progress.accept();
+                batch.add(pending);
+                batchTracks += pending.tracks().size();
+
+                if (batch.size() >= properties.getImportBatchPlaylists() || batchTracks >= properties.getImportBatchTracks()) {
+                    progress.imported(persist(userId, batch));
+                    batch.clear();
+                    batchTracks = 0;
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            progress.imported(persist(userId, batch));
+        }
+        return progress.result();
+    }
+
+    // Pages by playlist id so each page is a short read-only transaction and nothing is held while writing.
+    public void exportPlaylists(UUID userId, OutputStream output) throws IOException {
+        int pageSize = properties.getExportPageSize();
+        UUID after = null;
+        while (true) {
+            UUID cursor = after;
+            List<PlaylistDetails> page = readOnlyTransaction.execute(status -> loadExportPage(userId, cursor, pageSize));
+            for (PlaylistDetails playlist : page) {
+                lineWriter.writeValue(output, playlist);
+                output.write('\n');
+            }
+            output.flush();
+            if (page.size() < pageSize) {
+                return;
+            }
+            after = page.getLast().id();
+        }
+    }
+
+    private PendingPlaylist normalize(PlaylistImportLine line) {
+        if (line == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Playlist is required");
+        }
+        return new PendingPlaylist(
+                PlaylistInputs.normalizeName(line.name()),
+                PlaylistInputs.normalizeDescription(line.description()),
+                PlaylistInputs.normalizeTracks(line.tracks(), PlaylistService.MAX_PLAYLIST_TRACKS));
+    }
+
+    private int persist(UUID userId, List<PendingPlaylist> batch) {
+        return writeTransaction.execute(status -> {
+            Instant now = Instant.now();
+            List<Playlist> saved = playlistRepository.saveAllAndFlush(batch.stream()
+                    .map(pending -> new Playlist(userId, pending.name(), pending.description(), now, now))
+                    .toList());
+
+            List<PlaylistTrack> tracks = new ArrayList<>();
+            for (int i = 0; i < saved.size(); i++) {
+                UUID playlistId = saved.get(i).getId();
+                List<PlaylistTrackInput> inputs = batch.get(i).tracks();
+                for (int j = 0; j < inputs.size(); j++) {
+                    PlaylistTrackInput input = inputs.get(j);
+                    tracks.add(new PlaylistTrack(
+                            playlistId,
+                            input.trackId(),
+                            input.title(),
+                            input.artistName(),
+                            input.genre(),
+                            PlaylistTrackSequence.positionFor(j),
+                            now));
+                }
+            }
+            playlistTrackBatchWriter.insertAll(tracks);
+            saved.forEach(playlist -> playlistCache.evict(userId, playlist.getId()));
+            return saved.size();
+        });
+    }
+
+    private List<PlaylistDetails> loadExportPage(UUID userId, UUID after, int pageSize) {
+        List<Playlist> playlists = after == null
+                ? playlistRepository.findAllByUserIdOrderByIdAsc(userId, Limit.of(pageSize))
+                : playlistRepository.findAllByUserIdAndIdGreaterThanOrderByIdAsc(userId, after, Limit.of(pageSize));
+        if (playlists.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<PlaylistTrackDetails>> trackMap = PlaylistService.buildTrackMap(
+                playlistTrackRepository.findAllByPlaylistIdInOrderByPlaylistIdAscPositionAsc(playlists.stream().map(Playlist::getId).toList()));
+        return playlists.stream()
+                .map(playlist -> PlaylistService.toDetails(playlist, trackMap.getOrDefault(playlist.getId(), List.of())))
+                .toList();
+    }
+
+    private static long lineOf(JsonLocation location) {
+        return location == null ? -1 : location.getLineNr();
+    }
+
+    private static final class ImportProgress {
+
+        private int accepted;
+        private int imported;
+        private int failed;
+        private boolean aborted;
+        private final List<PlaylistImportError> errors = new ArrayList<>();
+
+        int seen() {
+            return accepted + failed;
+        }
+
+        void accept() {
+            accepted++;
+        }
+
+        void imported(int count) {
+            imported += count;
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PlaylistImportError(line, message));
+            }
+        }
+
+        void abort(long line, String message) {
+            aborted = true;
+            errors.add(new PlaylistImportError(line, message));
+        }
+
+        PlaylistImportResult result() {
+            return new PlaylistImportResult(imported, failed, aborted, List.copyOf(errors));
+        }
+    }
+
+    private record PendingPlaylist(String name, String description, List<PlaylistTrackInput> tracks) {
+    }
+
+    public record PlaylistImportLine(String name, String description, List<PlaylistTrackInput> tracks) {
+    }
+
+    public record PlaylistImportResult(int imported, int failed, boolean aborted, List<PlaylistImportError> errors) {
+    }
+
+    public record PlaylistImportError(long line, String message) {
+    }
+}
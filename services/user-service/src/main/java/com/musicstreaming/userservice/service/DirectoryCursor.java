@@ -0,0 +1,16 @@
+package com.musicstreaming.userservice.service;
+
+import com.musicstreaming.common.search.KeysetCursor;
+import java.time.Instant;
+import java.util.UUID;
+
+public record DirectoryCursor(Instant createdAt, UUID userId) {
+
+    public static DirectoryCursor decode(String value) {
+        return KeysetCursor.decode(value, (createdAt, id) -> new DirectoryCursor(createdAt, UUID.fromString(id)));
+    }
+
+    public String encode() {
+        return KeysetCursor.encode(createdAt, userId);
+    }
+}
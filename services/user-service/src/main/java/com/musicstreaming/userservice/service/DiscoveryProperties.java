@@ -0,0 +1,39 @@
+package com.musicstreaming.userservice.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "discovery")
+public class DiscoveryProperties {
+
+    private int suggestionsPerUser = 50;
+    private int refreshBatchSize = 500;
+    // Only users seen within this window get their suggestions recomputed; everyone else's lists are dropped.
+    private Duration activeWindow = Duration.ofDays(30);
+
+    public int getSuggestionsPerUser() {
+        return suggestionsPerUser;
+    }
+
+    public void setSuggestionsPerUser(int suggestionsPerUser) {
+        this.suggestionsPerUser = suggestionsPerUser;
+    }
+
+    public int getRefreshBatchSize() {
+        return refreshBatchSize;
+    }
+
+    public void setRefreshBatchSize(int refreshBatchSize) {
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    public Duration getActiveWindow() {
+        return activeWindow;
+    }
+
+    public void setActiveWindow(Duration activeWindow) {
+        this.activeWindow = activeWindow;
+    }
+}
@@ -0,0 +1,21 @@
+package com.musicstreaming.userservice.service;
+
+import com.musicstreaming.common.search.KeysetCursor;
+import com.musicstreaming.userservice.domain.UserFollow;
+import java.time.Instant;
+import java.util.UUID;
+
+public record FollowCursor(Instant createdAt, UUID followId) {
+
+    static FollowCursor after(UserFollow follow) {
+        return new FollowCursor(follow.getCreatedAt(), follow.getId());
+    }
+
+    public static FollowCursor decode(String value) {
+        return KeysetCursor.decode(value, (createdAt, id) -> new FollowCursor(createdAt, UUID.fromString(id)));
+    }
+
+    public String encode() {
+        return KeysetCursor.encode(createdAt, followId);
+    }
+}
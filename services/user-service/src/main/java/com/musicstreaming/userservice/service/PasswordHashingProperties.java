@@ -0,0 +1,40 @@
+package com.musicstreaming.userservice.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    // bcrypt is CPU-bound, so more threads than cores only adds context switching.
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    // Requests beyond poolSize + queueCapacity are rejected with 503 instead of holding a request thread.
+    private int queueCapacity = 32;
+    private Duration timeout = Duration.ofSeconds(2);
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -5,18 +5,19 @@ import com.musicstreaming.userservice.domain.UserAccountRepository;
 import java.time.Instant;
 import java.util.Locale;
 import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class UserAuthService {
 
     private final UserAccountRepository repository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public UserAuthService(UserAccountRepository repository, PasswordEncoder passwordEncoder) {
+    public UserAuthService(UserAccountRepository repository, PasswordHasher passwordHasher) {
         this.repository = repository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
     public RegisteredUser register(String email, String rawPassword, String displayName) {
@@ -25,7 +26,7 @@ public class UserAuthService {
             throw new IllegalArgumentException("Email already registered");
         }
 
-        String passwordHash = passwordEncoder.encode(rawPassword);
+        String passwordHash = passwordHasher.encode(rawPassword);
         UserAccount saved = repository.save(new UserAccount(normalizedEmail, passwordHash, displayName.trim(), Instant.now()));
         return new RegisteredUser(saved.getId(), saved.getEmail(), saved.getDisplayName());
     }
@@ -34,13 +35,20 @@ public class UserAuthService {
         UserAccount user = repository.findByEmailIgnoreCase(email.trim().toLowerCase(Locale.ROOT))
                 .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(rawPassword, user.getPasswordHash())) {
+        if (!user.hasPassword() || !passwordHasher.matches(rawPassword, user.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid credentials");
         }
 
+        repository.markActive(user.getId(), Instant.now());
         return new AuthenticatedUser(user.getId(), user.getEmail(), user.getDisplayName());
     }
 
+    public AuthenticatedUser getAuthenticatedUser(UUID userId) {
+        return repository.findById(userId)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getDisplayName()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unknown user"));
+    }
+
     public record RegisteredUser(UUID id, String email, String displayName) {
     }
 
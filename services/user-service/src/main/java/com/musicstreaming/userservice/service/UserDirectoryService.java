@@ -1,9 +1,21 @@
 package com.musicstreaming.userservice.service;
 
+import static com.musicstreaming.common.search.TypeaheadQueries.allowsFuzzy;
+import static com.musicstreaming.common.search.TypeaheadQueries.likePrefix;
+
 import com.musicstreaming.userservice.domain.UserAccount;
 import com.musicstreaming.userservice.domain.UserAccountRepository;
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository;
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository.DirectoryEntry;
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository.ScoredEntry;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,31 +24,134 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserDirectoryService {
 
     private final UserAccountRepository userAccountRepository;
+    private final UserDiscoveryRepository discoveryRepository;
 
-    public UserDirectoryService(UserAccountRepository userAccountRepository) {
+    public UserDirectoryService(UserAccountRepository userAccountRepository, UserDiscoveryRepository discoveryRepository) {
         this.userAccountRepository = userAccountRepository;
+        this.discoveryRepository = discoveryRepository;
+    }
+
+    /**
+     * One page of other users, newest sign-ups first. {@code activeWithin} keeps only users seen in that window;
+     * {@code excludeFollowed} drops users the caller already follows.
+     */
+    @Transactional(readOnly = true)
+    public DiscoveryPage discoverUsers(
+            UUID currentUserId,
+            DirectoryCursor cursor,
+            Duration activeWithin,
+            boolean excludeFollowed,
+            int limit) {
+        Instant activeSince = activeWithin == null ? null : Instant.now().minus(activeWithin);
+        List<DirectoryEntry> rows = discoveryRepository.findDirectoryPage(
+                currentUserId,
+                cursor == null ? null : cursor.createdAt(),
+                cursor == null ? null : cursor.userId(),
+                activeSince,
+                excludeFollowed,
+                limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<DirectoryEntry> page = hasMore ? rows.subList(0, limit) : rows;
+        DirectoryCursor nextCursor = hasMore
+                ? new DirectoryCursor(page.getLast().createdAt(), page.getLast().id())
+                : null;
+        return new DiscoveryPage(page.stream().map(UserDirectoryService::toDiscoverableUser).toList(), nextCursor);
+    }
+
+    /**
+     * Precomputed friends-of-friends suggestions, topped up with the most-followed users the caller does not
+     * follow yet when the list is short (new accounts, or before the first background refresh).
+     */
+    @Transactional(readOnly = true)
+    public List<SuggestedUser> suggestUsers(UUID currentUserId, int limit) {
+        List<SuggestedUser> suggestions = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+        for (ScoredEntry entry : discoveryRepository.findSuggestions(currentUserId, limit)) {
+            seen.add(entry.user().id());
+            suggestions.add(toSuggestedUser(entry, SuggestionReason.FOLLOWED_BY_PEOPLE_YOU_FOLLOW));
+        }
+        if (suggestions.size() < limit) {
+            for (ScoredEntry entry : discoveryRepository.findPopular(currentUserId, limit)) {
+                if (suggestions.size() >= limit) {
+                    break;
+                }
+                if (seen.add(entry.user().id())) {
+                    suggestions.add(toSuggestedUser(entry, SuggestionReason.POPULAR));
+                }
+            }
+        }
+        return suggestions;
     }
 
+    /**
+     * Typeahead search on display names, in tiers that stop once the page is full: names starting with the
+     * query, then names where every query word prefixes a word, then trigram matches for typos.
+     */
     @Transactional(readOnly = true)
-    public List<DiscoverableUser> listDiscoverableUsers(UUID currentUserId) {
-        return userAccountRepository.findAllByIdNotOrderByCreatedAtDesc(currentUserId).stream()
-                .map(this::toDiscoverableUser)
+    public List<DiscoverableUser> searchUsers(UUID currentUserId, String query, int limit) {
+        String normalized = query.trim();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, UserAccount> matches = new LinkedHashMap<>();
+        collect(matches, limit, userAccountRepository.searchByDisplayNameStart(likePrefix(normalized), currentUserId, limit));
+        if (matches.size() < limit) {
+            collect(matches, limit, userAccountRepository.searchByDisplayNameWords(
+                    normalized, currentUserId, limit));
+        }
+        if (matches.size() < limit && allowsFuzzy(normalized)) {
+            collect(matches, limit, userAccountRepository.searchByDisplayNameSimilarity(
+                    normalized, currentUserId, limit));
+        }
+        return matches.values().stream()
+                .map(UserDirectoryService::toDiscoverableUser)
                 .toList();
     }
 
-    private DiscoverableUser toDiscoverableUser(UserAccount account) {
+    private static void collect(Map<UUID, UserAccount> matches, int limit, List<UserAccount> tier) {
+        for (UserAccount account : tier) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.putIfAbsent(account.getId(), account);
+        }
+    }
+
+    private static DiscoverableUser toDiscoverableUser(UserAccount account) {
         return new DiscoverableUser(
                 account.getId(),
                 account.getDisplayName(),
                 account.getEmail(),
-                account.getCreatedAt());
+                account.getCreatedAt(),
+                account.getLastActiveAt());
+    }
+
+    private static DiscoverableUser toDiscoverableUser(DirectoryEntry entry) {
+        return new DiscoverableUser(entry.id(), entry.displayName(), entry.email(), entry.createdAt(), entry.lastActiveAt());
+    }
+
+    private static SuggestedUser toSuggestedUser(ScoredEntry entry, SuggestionReason reason) {
+        return new SuggestedUser(toDiscoverableUser(entry.user()), reason, entry.score());
+    }
+
+    public enum SuggestionReason {
+        FOLLOWED_BY_PEOPLE_YOU_FOLLOW,
+        POPULAR
     }
 
     public record DiscoverableUser(
             UUID userId,
             String displayName,
             String email,
-            Instant createdAt
+            Instant createdAt,
+            Instant lastActiveAt
     ) {
     }
+
+    public record DiscoveryPage(List<DiscoverableUser> items, DirectoryCursor nextCursor) {
+    }
+
+    public record SuggestedUser(DiscoverableUser user, SuggestionReason reason, long score) {
+    }
 }
@@ -3,9 +3,15 @@ package com.musicstreaming.userservice.service;
 import com.musicstreaming.userservice.domain.UserAccountRepository;
 import com.musicstreaming.userservice.domain.UserFollow;
 import com.musicstreaming.userservice.domain.UserFollowRepository;
+import com.musicstreaming.userservice.domain.UserFollowStatsRepository;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,11 +20,18 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class UserFollowService {
 
+    static final int MAX_LOOKUP_USERS = 100;
+
     private final UserFollowRepository repository;
+    private final UserFollowStatsRepository statsRepository;
     private final UserAccountRepository userAccountRepository;
 
-    public UserFollowService(UserFollowRepository repository, UserAccountRepository userAccountRepository) {
+    public UserFollowService(
+            UserFollowRepository repository,
+            UserFollowStatsRepository statsRepository,
+            UserAccountRepository userAccountRepository) {
         this.repository = repository;
+        this.statsRepository = statsRepository;
         this.userAccountRepository = userAccountRepository;
     }
 
@@ -32,29 +45,109 @@ public class UserFollowService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Target user not found");
         }
 
-        if (repository.existsByFollowerUserIdAndTargetUserId(followerUserId, targetUserId)) {
+        if (repository.insertIfAbsent(UUID.randomUUID(), followerUserId, targetUserId, Instant.now()) == 0) {
             return new FollowResult(targetUserId, false);
         }
 
-        repository.save(new UserFollow(followerUserId, targetUserId, Instant.now()));
+        adjustCounts(followerUserId, targetUserId, 1);
         return new FollowResult(targetUserId, true);
     }
 
     @Transactional
     public void unfollowUser(UUID followerUserId, UUID targetUserId) {
-        repository.deleteByFollowerUserIdAndTargetUserId(followerUserId, targetUserId);
+        if (repository.deleteFollow(followerUserId, targetUserId) > 0) {
+            adjustCounts(followerUserId, targetUserId, -1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public FollowPage listFollowing(UUID userId, FollowCursor after, int limit) {
+        List<UserFollow> rows = after == null
+                ? repository.findAllByFollowerUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit + 1))
+                : repository.findFollowingAfter(userId, after.createdAt(), after.followId(), Limit.of(limit + 1));
+        return toPage(rows, limit, UserFollow::getTargetUserId);
+    }
+
+    @Transactional(readOnly = true)
+    public FollowPage listFollowers(UUID userId, FollowCursor after, int limit) {
+        List<UserFollow> rows = after == null
+                ? repository.findAllByTargetUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit + 1))
+                : repository.findFollowersAfter(userId, after.createdAt(), after.followId(), Limit.of(limit + 1));
+        return toPage(rows, limit, UserFollow::getFollowerUserId);
     }
 
     @Transactional(readOnly = true)
-    public List<FollowedUser> listFollowedUsers(UUID followerUserId) {
-        return repository.findAllByFollowerUserIdOrderByCreatedAtDesc(followerUserId).stream()
-                .map(follow -> new FollowedUser(follow.getTargetUserId(), follow.getCreatedAt()))
+    public FollowPage listMutual(UUID userId, FollowCursor after, int limit) {
+        List<UserFollow> rows = after == null
+                ? repository.findMutual(userId, Limit.of(limit + 1))
+                : repository.findMutualAfter(userId, after.createdAt(), after.followId(), Limit.of(limit + 1));
+        return toPage(rows, limit, UserFollow::getTargetUserId);
+    }
+
+    @Transactional(readOnly = true)
+    public FollowStats getStats(UUID userId) {
+        return statsRepository.findById(userId)
+                .map(stats -> new FollowStats(userId, stats.getFollowerCount(), stats.getFollowingCount()))
+                .orElseGet(() -> {
+                    if (!userAccountRepository.existsById(userId)) {
+                        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+                    }
+                    return new FollowStats(userId, 0, 0);
+                });
+    }
+
+    // Answers "do I follow them / do they follow me" for a whole page of users in two indexed queries.
+    @Transactional(readOnly = true)
+    public List<FollowRelation> lookupRelations(UUID userId, List<UUID> otherUserIds) {
+        Set<UUID> others = new LinkedHashSet<>(otherUserIds);
+        if (others.size() > MAX_LOOKUP_USERS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot look up more than " + MAX_LOOKUP_USERS + " users at once");
+        }
+        if (others.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> following = new HashSet<>(repository.findFollowedAmong(userId, others));
+        Set<UUID> followers = new HashSet<>(repository.findFollowersAmong(userId, others));
+        return others.stream()
+                .map(other -> new FollowRelation(other, following.contains(other), followers.contains(other)))
                 .toList();
     }
 
+    // Both counter rows change in one statement, always in the same user order, so A->B and B->A
+    // follows committing concurrently cannot deadlock on each other's rows.
+    private void adjustCounts(UUID followerUserId, UUID targetUserId, long delta) {
+        if (followerUserId.compareTo(targetUserId) < 0) {
+            statsRepository.adjustCounts(followerUserId, 0, delta, targetUserId, delta, 0);
+        } else {
+            statsRepository.adjustCounts(targetUserId, delta, 0, followerUserId, 0, delta);
+        }
+    }
+
+    private static FollowPage toPage(List<UserFollow> rows, int limit, Function<UserFollow, UUID> otherUser) {
+        List<UserFollow> page = rows.size() > limit ? rows.subList(0, limit) : rows;
+        FollowCursor nextCursor = rows.size() > limit ? FollowCursor.after(page.getLast()) : null;
+        return new FollowPage(
+                page.stream().map(follow -> new FollowEdge(otherUser.apply(follow), follow.getCreatedAt())).toList(),
+                nextCursor);
+    }
+
     public record FollowResult(UUID targetUserId, boolean created) {
     }
 
-    public record FollowedUser(UUID targetUserId, Instant followedAt) {
+    public record FollowEdge(UUID userId, Instant followedAt) {
+    }
+
+    public record FollowPage(List<FollowEdge> items, FollowCursor nextCursor) {
+    }
+
+    public record FollowStats(UUID userId, long followerCount, long followingCount) {
+    }
+
+    public record FollowRelation(UUID userId, boolean following, boolean followedBy) {
+
+        public boolean mutual() {
+            return following && followedBy;
+        }
     }
 }
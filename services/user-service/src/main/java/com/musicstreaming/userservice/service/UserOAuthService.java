@@ -8,8 +8,6 @@ import com.musicstreaming.userservice.domain.UserOAuthAccountRepository;
 import com.musicstreaming.userservice.service.UserAuthService.AuthenticatedUser;
 import java.time.Instant;
 import java.util.Locale;
-import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,15 +16,12 @@ public class UserOAuthService {
 
     private final UserOAuthAccountRepository userOAuthAccountRepository;
     private final UserAccountRepository userAccountRepository;
-    private final PasswordEncoder passwordEncoder;
 
     public UserOAuthService(
             UserOAuthAccountRepository userOAuthAccountRepository,
-            UserAccountRepository userAccountRepository,
-            PasswordEncoder passwordEncoder) {
+            UserAccountRepository userAccountRepository) {
         this.userOAuthAccountRepository = userOAuthAccountRepository;
         this.userAccountRepository = userAccountRepository;
-        this.passwordEncoder = passwordEncoder;
     }
 
     @Transactional
@@ -44,6 +39,7 @@ public class UserOAuthService {
                 .orElse(null);
         if (existingOAuthAccount != null) {
             UserAccount existingUser = existingOAuthAccount.getUser();
+            userAccountRepository.markActive(existingUser.getId(), Instant.now());
             return new OAuthLoginResult(
                     new AuthenticatedUser(existingUser.getId(), existingUser.getEmail(), existingUser.getDisplayName()),
                     false,
@@ -53,13 +49,14 @@ public class UserOAuthService {
         UserAccount user = userAccountRepository.findByEmailIgnoreCase(normalizedEmail).orElse(null);
         boolean userCreated = false;
         if (user == null) {
-            String generatedPassword = "oauth-" + UUID.randomUUID();
             user = userAccountRepository.save(new UserAccount(
                     normalizedEmail,
-                    passwordEncoder.encode(generatedPassword),
+                    UserAccount.NO_PASSWORD_HASH,
                     normalizedDisplayName,
                     Instant.now()));
             userCreated = true;
+        } else {
+            userAccountRepository.markActive(user.getId(), Instant.now());
         }
 
         userOAuthAccountRepository.save(new UserOAuthAccount(
@@ -0,0 +1,72 @@
+package com.musicstreaming.userservice.service;
+
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(prefix = "discovery.suggestions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserSuggestionRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSuggestionRefresher.class);
+
+    private final UserDiscoveryRepository discoveryRepository;
+    private final DiscoveryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserSuggestionRefresher(
+            UserDiscoveryRepository discoveryRepository,
+            DiscoveryProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.discoveryRepository = discoveryRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(
+            initialDelayString = "${discovery.suggestions.initial-delay:PT1M}",
+            fixedDelayString = "${discovery.suggestions.refresh-interval:PT1H}")
+    public void refresh() {
+        try {
+            // Instances race on the same batches otherwise: one's delete misses the other's fresh rows and its insert
+            // then fails on the primary key.
+            if (!discoveryRepository.withSuggestionRefreshLock(() -> refreshAll(Instant.now()))) {
+                log.debug("Suggested users refresh skipped, another instance is running it");
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Suggested users refresh failed, retrying on next run", ex);
+        }
+    }
+
+    // Each batch commits on its own so a long pass never holds locks on more than one batch of users.
+    int refreshAll(Instant now) {
+        Instant activeSince = now.minus(properties.getActiveWindow());
+        int batchSize = properties.getRefreshBatchSize();
+        UUID afterUserId = new UUID(0, 0);
+        int refreshedUsers = 0;
+        List<UUID> batch;
+        do {
+            batch = discoveryRepository.findActiveUserIds(activeSince, afterUserId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<UUID> users = batch;
+            transactionTemplate.executeWithoutResult(
+                    status -> discoveryRepository.replaceSuggestions(users, properties.getSuggestionsPerUser(), now));
+            refreshedUsers += batch.size();
+            afterUserId = batch.getLast();
+        } while (batch.size() == batchSize);
+
+        int dropped = discoveryRepository.deleteSuggestionsRefreshedBefore(now);
+        log.info("Refreshed suggested users for {} active users, dropped {} stale suggestions", refreshedUsers, dropped);
+        return refreshedUsers;
+    }
+}
@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS feed_posts (
+    track_id VARCHAR(64) PRIMARY KEY,
+    author_user_id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    fanned_out BOOLEAN NOT NULL
+);
+
+-- Only posts from high-follower authors are read at query time, so the index covers just those.
+CREATE INDEX IF NOT EXISTS idx_feed_posts_pulled ON feed_posts(author_user_id, created_at DESC, track_id DESC)
+    WHERE NOT fanned_out;
+
+CREATE TABLE IF NOT EXISTS feed_heads (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    next_seq BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS feed_entries (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    slot INTEGER NOT NULL,
+    seq BIGINT NOT NULL,
+    track_id VARCHAR(64) NOT NULL,
+    author_user_id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (user_id, slot)
+);
+
+CREATE INDEX IF NOT EXISTS idx_feed_entries_user_created ON feed_entries(user_id, created_at DESC, track_id DESC);
+CREATE INDEX IF NOT EXISTS idx_user_follows_target_follower ON user_follows(target_user_id, follower_user_id);
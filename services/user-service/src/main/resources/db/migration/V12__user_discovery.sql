@@ -0,0 +1,15 @@
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_active_at TIMESTAMPTZ;
+UPDATE users SET last_active_at = created_at WHERE last_active_at IS NULL;
+ALTER TABLE users ALTER COLUMN last_active_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_users_last_active_at ON users(last_active_at DESC);
+CREATE INDEX IF NOT EXISTS idx_user_follow_stats_follower_count ON user_follow_stats(follower_count DESC, user_id);
+
+CREATE TABLE IF NOT EXISTS user_suggestions (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    suggested_user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    score INTEGER NOT NULL,
+    refreshed_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (user_id, suggested_user_id)
+);
@@ -0,0 +1,4 @@
+-- GiST trigram index returns rows in word-similarity distance order (<<->), so the typo fallback reads the best
+-- matches first instead of ranking an arbitrary subset of everything above the threshold.
+DROP INDEX IF EXISTS idx_users_display_name_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_display_name_trgm ON users USING GIST (display_name gist_trgm_ops);
@@ -0,0 +1,2 @@
+ALTER TABLE playlist_tracks ALTER COLUMN position TYPE BIGINT;
+UPDATE playlist_tracks SET position = position * 1024;
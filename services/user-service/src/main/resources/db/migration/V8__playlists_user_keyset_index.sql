@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_playlists_user_id_id ON playlists(user_id, id);
+DROP INDEX IF EXISTS idx_playlists_user_id;
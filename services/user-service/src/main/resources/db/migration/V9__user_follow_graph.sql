@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS user_follow_stats (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    follower_count BIGINT NOT NULL DEFAULT 0,
+    following_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO user_follow_stats (user_id, follower_count, following_count)
+SELECT user_id, SUM(followers), SUM(following)
+FROM (
+    SELECT target_user_id AS user_id, COUNT(*) AS followers, 0 AS following FROM user_follows GROUP BY target_user_id
+    UNION ALL
+    SELECT follower_user_id AS user_id, 0 AS followers, COUNT(*) AS following FROM user_follows GROUP BY follower_user_id
+) counts
+GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_user_follows_follower_created ON user_follows(follower_user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_user_follows_target_created ON user_follows(target_user_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_user_follows_follower_user_id;
+DROP INDEX IF EXISTS idx_user_follows_target_user_id;
@@ -0,0 +1,83 @@
+package com.musicstreaming.userservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.userservice.domain.UserAccount;
+import com.musicstreaming.userservice.domain.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserResolverTests {
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuthenticatedUserResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new AuthenticatedUserResolver(userAccountRepository, new SubjectCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void uuidSubjectResolvesWithoutLookup() {
+        UUID userId = UUID.randomUUID();
+
+        assertThat(resolver.resolveUserId(jwt(Map.of("sub", userId.toString())))).isEqualTo(userId);
+        verifyNoInteractions(userAccountRepository);
+    }
+
+    @Test
+    void emailSubjectIsLookedUpOnceThenCached() {
+        UserAccount account = account("legacy@example.com");
+        when(userAccountRepository.findByEmailIgnoreCase("legacy@example.com")).thenReturn(Optional.of(account));
+
+        assertThat(resolver.resolveUserId(jwt(Map.of("sub", "legacy@example.com")))).isEqualTo(account.getId());
+        assertThat(resolver.resolveUserId(jwt(Map.of("sub", " Legacy@Example.com")))).isEqualTo(account.getId());
+
+        verify(userAccountRepository, times(1)).findByEmailIgnoreCase(anyString());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.subject").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.subject.legacy").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownEmailIsRejectedAndNotCached() {
+        when(userAccountRepository.findByEmailIgnoreCase("gone@example.com")).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resolver.resolveUserId(jwt(Map.of("email", "gone@example.com"))))
+                    .isInstanceOf(ResponseStatusException.class);
+        }
+        verify(userAccountRepository, times(2)).findByEmailIgnoreCase("gone@example.com");
+    }
+
+    private static Jwt jwt(Map<String, Object> claims) {
+        return new Jwt("token", Instant.now(), Instant.now().plusSeconds(60), Map.of("alg", "HS256"), claims);
+    }
+
+    private static UserAccount account(String email) {
+        UserAccount account = new UserAccount(email, "hash", "Legacy", Instant.now());
+        ReflectionTestUtils.setField(account, "id", UUID.randomUUID());
+        return account;
+    }
+}
@@ -0,0 +1,76 @@
+package com.musicstreaming.userservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.userservice.config.JwtTokenService;
+import com.musicstreaming.userservice.service.UserAuthService;
+import com.musicstreaming.userservice.service.UserAuthService.AuthenticatedUser;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class TokenControllerTests {
+
+    @Mock
+    private AuthenticatedUserResolver authenticatedUserResolver;
+    @Mock
+    private UserAuthService userAuthService;
+    @Mock
+    private JwtEncoder jwtEncoder;
+
+    private TokenController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new TokenController(authenticatedUserResolver, userAuthService, new JwtTokenService(jwtEncoder, "issuer", 60));
+    }
+
+    @Test
+    void reissueKeepsTheLegacyTokenExpiry() {
+        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "legacy@example.com", "Legacy");
+        Instant expiresAt = Instant.now().plus(10, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS);
+        Jwt legacy = jwt("legacy@example.com", expiresAt);
+        when(authenticatedUserResolver.resolveUserId(legacy)).thenReturn(user.id());
+        when(userAuthService.getAuthenticatedUser(user.id())).thenReturn(user);
+        when(jwtEncoder.encode(any())).thenReturn(jwt(user.id().toString(), expiresAt));
+
+        controller.reissue(legacy);
+
+        ArgumentCaptor<JwtEncoderParameters> parameters = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+        verify(jwtEncoder).encode(parameters.capture());
+        assertThat(parameters.getValue().getClaims().getSubject()).isEqualTo(user.id().toString());
+        assertThat(parameters.getValue().getClaims().getExpiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    void reissueRejectsTokensThatAlreadyUseTheUserId() {
+        Jwt current = jwt(UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+
+        assertThatThrownBy(() -> controller.reissue(current))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        verifyNoInteractions(authenticatedUserResolver, userAuthService, jwtEncoder);
+    }
+
+    private static Jwt jwt(String subject, Instant expiresAt) {
+        return new Jwt("token", expiresAt.minusSeconds(3600), expiresAt, Map.of("alg", "HS256"), Map.of("sub", subject));
+    }
+}
@@ -0,0 +1,75 @@
+package com.musicstreaming.userservice.feed.events;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.common.events.EventEnvelope;
+import com.musicstreaming.common.events.TrackUploadedEvent;
+import com.musicstreaming.common.events.codec.EventCodecRegistry;
+import com.musicstreaming.common.observability.tracing.EventTracing;
+import com.musicstreaming.userservice.feed.domain.FeedItem;
+import com.musicstreaming.userservice.feed.service.FeedService;
+import com.musicstreaming.userservice.feed.service.FeedService.FanoutMode;
+import com.musicstreaming.userservice.feed.service.FeedService.FanoutResult;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TrackUploadedFeedListenerTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private FeedService feedService;
+
+    private final EventCodecRegistry registry = EventCodecRegistry.withDefaults();
+    private TrackUploadedFeedListener listener;
+
+    @BeforeEach
+    void setUp() {
+        EventTracing eventTracing = new EventTracing(mock(Tracer.class), mock(Propagator.class), ObservationRegistry.NOOP);
+        listener = new TrackUploadedFeedListener(feedService, registry, eventTracing);
+    }
+
+    @Test
+    void fansOutAsTheUploaderRatherThanTheClaimedArtist() {
+        UUID uploader = UUID.randomUUID();
+        UUID claimedArtist = UUID.randomUUID();
+        FeedItem expected = new FeedItem("trk_1", uploader, "Song", NOW);
+        when(feedService.publish(expected)).thenReturn(new FanoutResult("trk_1", FanoutMode.PUSH, 0));
+
+        listener.onEvent(record(new TrackUploadedEvent("trk_1", claimedArtist.toString(), uploader.toString(), "Song", "url", "1.1.0"), "1.1.0"));
+
+        verify(feedService).publish(expected);
+    }
+
+    @Test
+    void skipsEventsWithoutAnUploader() {
+        UUID claimedArtist = UUID.randomUUID();
+
+        listener.onEvent(record(new TrackUploadedEvent("trk_1", claimedArtist.toString(), null, "Song", "url", "1.0.0"), "1.0.0"));
+
+        verifyNoInteractions(feedService);
+    }
+
+    private ConsumerRecord<String, byte[]> record(TrackUploadedEvent event, String version) {
+        byte[] value = registry.encode(new EventEnvelope<>(TrackUploadedFeedListener.TRACK_UPLOADED, version, NOW, event));
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("media.events", 0, 0L, event.trackId(), value);
+        record.headers().add(TrackUploadedFeedListener.EVENT_TYPE_HEADER, TrackUploadedFeedListener.TRACK_UPLOADED.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(TrackUploadedFeedListener.CONTENT_TYPE_HEADER, EventCodecRegistry.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,148 @@
+package com.musicstreaming.userservice.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.userservice.domain.UserFollowStats;
+import com.musicstreaming.userservice.domain.UserFollowStatsRepository;
+import com.musicstreaming.userservice.feed.domain.FeedItem;
+import com.musicstreaming.userservice.feed.domain.FeedRepository;
+import com.musicstreaming.userservice.feed.service.FeedService.FanoutMode;
+import com.musicstreaming.userservice.feed.service.FeedService.FanoutResult;
+import com.musicstreaming.userservice.feed.service.FeedService.FeedPage;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private FeedRepository feedRepository;
+    @Mock
+    private UserFollowStatsRepository statsRepository;
+
+    private FeedProperties properties;
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FeedProperties();
+        properties.setFanoutThreshold(100);
+        properties.setFanoutChunkSize(2);
+        properties.setRingCapacity(50);
+        feedService = new FeedService(feedRepository, statsRepository, properties);
+    }
+
+    @Test
+    void publishPushesToFollowersInChunks() {
+        UUID authorId = UUID.randomUUID();
+        FeedItem post = new FeedItem("track-1", authorId, "Song", NOW);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UserFollowStats stats = stats(3);
+        when(statsRepository.findById(authorId)).thenReturn(Optional.of(stats));
+        when(feedRepository.insertPostIfAbsent(post, true)).thenReturn(true);
+        when(feedRepository.findFollowerChunk(authorId, null, 2)).thenReturn(List.of(first, second));
+        when(feedRepository.findFollowerChunk(authorId, second, 2)).thenReturn(List.of(third));
+        when(feedRepository.pushToTimelines(List.of(first, second), post, 50)).thenReturn(2);
+        when(feedRepository.pushToTimelines(List.of(third), post, 50)).thenReturn(1);
+
+        FanoutResult result = feedService.publish(post);
+
+        assertThat(result.mode()).isEqualTo(FanoutMode.PUSH);
+        assertThat(result.delivered()).isEqualTo(3);
+    }
+
+    @Test
+    void publishOnlyRecordsPostForHighFollowerAuthors() {
+        UUID authorId = UUID.randomUUID();
+        FeedItem post = new FeedItem("track-1", authorId, "Song", NOW);
+        UserFollowStats stats = stats(100);
+        when(statsRepository.findById(authorId)).thenReturn(Optional.of(stats));
+        when(feedRepository.insertPostIfAbsent(post, false)).thenReturn(true);
+
+        FanoutResult result = feedService.publish(post);
+
+        assertThat(result.mode()).isEqualTo(FanoutMode.PULL);
+        verify(feedRepository, never()).findFollowerChunk(any(), any(), anyInt());
+        verify(feedRepository, never()).pushToTimelines(anyList(), any(), anyInt());
+    }
+
+    @Test
+    void publishIgnoresRedeliveredPost() {
+        UUID authorId = UUID.randomUUID();
+        FeedItem post = new FeedItem("track-1", authorId, "Song", NOW);
+        when(statsRepository.findById(authorId)).thenReturn(Optional.empty());
+        when(feedRepository.insertPostIfAbsent(eq(post), anyBoolean())).thenReturn(false);
+
+        FanoutResult result = feedService.publish(post);
+
+        assertThat(result.mode()).isEqualTo(FanoutMode.DUPLICATE);
+        verify(feedRepository, never()).pushToTimelines(anyList(), any(), anyInt());
+    }
+
+    @Test
+    void getFeedMergesPushedAndPulledEntriesNewestFirst() {
+        UUID userId = UUID.randomUUID();
+        UUID regular = UUID.randomUUID();
+        UUID popular = UUID.randomUUID();
+        FeedItem pushedNewest = new FeedItem("a", regular, "A", NOW);
+        FeedItem pushedOlder = new FeedItem("c", regular, "C", NOW.minusSeconds(20));
+        FeedItem pulledMiddle = new FeedItem("b", popular, "B", NOW.minusSeconds(10));
+        FeedItem pulledOldest = new FeedItem("d", popular, "D", NOW.minusSeconds(30));
+        when(feedRepository.findTimeline(userId, null, null, 3)).thenReturn(List.of(pushedNewest, pushedOlder));
+        when(feedRepository.findPulledPosts(userId, null, null, 3)).thenReturn(List.of(pulledMiddle, pulledOldest));
+
+        FeedPage page = feedService.getFeed(userId, null, 2);
+
+        assertThat(page.items()).containsExactly(pushedNewest, pulledMiddle);
+        assertThat(page.nextCursor()).isEqualTo(new FeedCursor(pulledMiddle.createdAt(), "b"));
+    }
+
+    @Test
+    void getFeedContinuesFromCursorAndEndsWithoutNextCursor() {
+        UUID userId = UUID.randomUUID();
+        FeedItem item = new FeedItem("c", UUID.randomUUID(), "C", NOW.minusSeconds(20));
+        FeedCursor cursor = new FeedCursor(NOW.minusSeconds(10), "b");
+        when(feedRepository.findTimeline(userId, cursor.createdAt(), "b", 3)).thenReturn(List.of(item));
+        when(feedRepository.findPulledPosts(userId, cursor.createdAt(), "b", 3)).thenReturn(List.of());
+
+        FeedPage page = feedService.getFeed(userId, FeedCursor.decode(cursor.encode()), 2);
+
+        assertThat(page.items()).containsExactly(item);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void mergeBreaksTimestampTiesByTrackId() {
+        UUID authorId = UUID.randomUUID();
+        FeedItem first = new FeedItem("b", authorId, "B", NOW);
+        FeedItem second = new FeedItem("a", authorId, "A", NOW);
+
+        assertThat(FeedService.merge(List.of(second), List.of(first), 5)).containsExactly(first, second);
+    }
+
+    private static UserFollowStats stats(long followerCount) {
+        UserFollowStats stats = mock(UserFollowStats.class);
+        when(stats.getFollowerCount()).thenReturn(followerCount);
+        return stats;
+    }
+}
@@ -0,0 +1,139 @@
+package com.musicstreaming.userservice.playlist.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistDetails;
+import com.musicstreaming.userservice.playlist.service.PlaylistService.PlaylistTrackDetails;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class PlaylistCacheTests {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID playlistId = UUID.randomUUID();
+
+    private PlaylistCache cache;
+
+    @BeforeEach
+    void setUp() {
+        PlaylistCacheProperties properties = new PlaylistCacheProperties();
+        cache = new PlaylistCache(new InMemoryPlaylistCacheStore(properties), properties);
+    }
+
+    @Test
+    void cachedValueRoundTripsThroughCodec() {
+        PlaylistDetails playlist = playlist("Road Trip", "long drive");
+
+        cache.get(userId, playlistId, () -> playlist);
+        PlaylistDetails cached = cache.get(userId, playlistId, () -> {
+            throw new AssertionError("loader should not run on a hit");
+        });
+
+        assertThat(cached).isEqualTo(playlist);
+    }
+
+    @Test
+    void evictForcesReloadOfPlaylistAndList() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(userId, playlistId, () -> playlist("v" + loads.incrementAndGet(), null));
+        cache.list(userId, () -> List.of(playlist("v" + loads.incrementAndGet(), null)));
+
+        cache.evict(userId, playlistId);
+
+        assertThat(cache.get(userId, playlistId, () -> playlist("v" + loads.incrementAndGet(), null)).name()).isEqualTo("v3");
+        assertThat(cache.list(userId, () -> List.of(playlist("v" + loads.incrementAndGet(), null))).getFirst().name()).isEqualTo("v4");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<PlaylistDetails> first = executor.submit(() -> cache.get(userId, playlistId, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return playlist("Focus", null);
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<PlaylistDetails>> waiters = List.of(
+                    executor.submit(() -> cache.get(userId, playlistId, () -> playlist("other-" + loads.incrementAndGet(), null))),
+                    executor.submit(() -> cache.get(userId, playlistId, () -> playlist("other-" + loads.incrementAndGet(), null))));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).name()).isEqualTo("Focus");
+            for (Future<PlaylistDetails> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS).name()).isEqualTo("Focus");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadThatOverlapsEvictionIsNotStored() {
+        PlaylistDetails stale = cache.get(userId, playlistId, () -> {
+            cache.evict(userId, playlistId);
+            return playlist("stale", null);
+        });
+
+        PlaylistDetails fresh = cache.get(userId, playlistId, () -> playlist("fresh", null));
+
+        assertThat(stale.name()).isEqualTo("stale");
+        assertThat(fresh.name()).isEqualTo("fresh");
+    }
+
+    @Test
+    void loadThatOverlapsEvictionOnAnotherInstanceIsNotStored() {
+        PlaylistCacheProperties properties = new PlaylistCacheProperties();
+        InMemoryPlaylistCacheStore shared = new InMemoryPlaylistCacheStore(properties);
+        PlaylistCache first = new PlaylistCache(shared, properties);
+        PlaylistCache second = new PlaylistCache(shared, properties);
+
+        first.get(userId, playlistId, () -> {
+            second.evict(userId, playlistId);
+            return playlist("stale", null);
+        });
+
+        assertThat(second.get(userId, playlistId, () -> playlist("fresh", null)).name()).isEqualTo("fresh");
+    }
+
+    @Test
+    void loaderFailuresAreNotCached() {
+        assertThatThrownBy(() -> cache.get(userId, playlistId, () -> {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Playlist not found");
+        })).isInstanceOf(ResponseStatusException.class);
+
+        assertThat(cache.get(userId, playlistId, () -> playlist("Focus", null)).name()).isEqualTo("Focus");
+    }
+
+    private PlaylistDetails playlist(String name, String description) {
+        Instant now = Instant.parse("2026-01-01T00:00:00.123456Z");
+        return new PlaylistDetails(playlistId, name, description, now, now,
+                List.of(new PlaylistTrackDetails("trk_1", "Song", "Artist", "Pop", 1)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.musicstreaming.userservice.playlist.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class PlaylistTrackBatchWriterTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void insertAllAssignsTheIdItBinds() throws Exception {
+        PlaylistTrack track = new PlaylistTrack(UUID.randomUUID(), "trk_1", "Song", "Artist", "Pop", 1024, Instant.now());
+
+        new PlaylistTrackBatchWriter(jdbcTemplate, 500).insertAll(List.of(track));
+
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<PlaylistTrack>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), setter.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement, track);
+
+        assertThat(track.getId()).isNotNull();
+        verify(statement).setObject(1, track.getId());
+    }
+
+    @Test
+    void insertAllSkipsEmptyBatches() {
+        new PlaylistTrackBatchWriter(jdbcTemplate, 500).insertAll(List.of());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+}
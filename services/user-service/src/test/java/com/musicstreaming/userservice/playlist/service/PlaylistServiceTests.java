@@ -3,13 +3,18 @@ package com.musicstreaming.userservice.playlist.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.anyList;
 
+import com.musicstreaming.userservice.playlist.cache.InMemoryPlaylistCacheStore;
+import com.musicstreaming.userservice.playlist.cache.PlaylistCache;
+import com.musicstreaming.userservice.playlist.cache.PlaylistCacheProperties;
 import com.musicstreaming.userservice.playlist.domain.Playlist;
 import com.musicstreaming.userservice.playlist.domain.PlaylistRepository;
 import com.musicstreaming.userservice.playlist.domain.PlaylistTrack;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrackBatchWriter;
 import com.musicstreaming.userservice.playlist.domain.PlaylistTrackRepository;
 import java.time.Instant;
 import java.util.List;
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,12 +35,18 @@ class PlaylistServiceTests {
     private PlaylistRepository playlistRepository;
     @Mock
     private PlaylistTrackRepository playlistTrackRepository;
+    @Mock
+    private PlaylistTrackBatchWriter playlistTrackBatchWriter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private PlaylistService playlistService;
 
     @BeforeEach
     void setUp() {
-        playlistService = new PlaylistService(playlistRepository, playlistTrackRepository);
+        PlaylistCacheProperties cacheProperties = new PlaylistCacheProperties();
+        PlaylistCache playlistCache = new PlaylistCache(new InMemoryPlaylistCacheStore(cacheProperties), cacheProperties);
+        playlistService = new PlaylistService(playlistRepository, playlistTrackRepository, playlistTrackBatchWriter, playlistCache, transactionManager);
     }
 
     @Test
@@ -44,7 +56,7 @@ class PlaylistServiceTests {
         Instant now = Instant.now();
         Playlist saved = new Playlist(userId, "Road Trip", null, now, now);
         setId(saved, playlistId);
-        when(playlistRepository.save(org.mockito.ArgumentMatchers.any(Playlist.class))).thenReturn(saved);
+        when(playlistRepository.saveAndFlush(org.mockito.ArgumentMatchers.any(Playlist.class))).thenReturn(saved);
 
         PlaylistService.PlaylistDetails result = playlistService.create(userId, "  Road Trip  ", "   ", List.of());
 
@@ -84,6 +96,26 @@ class PlaylistServiceTests {
         assertThat(result.getFirst().tracks()).isEmpty();
     }
 
+    @Test
+    void getServesRepeatedReadsFromCacheUntilUpdated() {
+        UUID userId = UUID.randomUUID();
+        UUID playlistId = UUID.randomUUID();
+        Instant now = Instant.now();
+        Playlist playlist = new Playlist(userId, "Focus", "coding", now, now);
+        setId(playlist, playlistId);
+        when(playlistRepository.findByIdAndUserId(playlistId, userId)).thenReturn(Optional.of(playlist));
+        when(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId)).thenReturn(List.of());
+
+        playlistService.get(userId, playlistId);
+        PlaylistService.PlaylistDetails cached = playlistService.get(userId, playlistId);
+        playlistService.update(userId, playlistId, "Deep Focus", null, null);
+        PlaylistService.PlaylistDetails reloaded = playlistService.get(userId, playlistId);
+
+        assertThat(cached.name()).isEqualTo("Focus");
+        assertThat(reloaded.name()).isEqualTo("Deep Focus");
+        verify(playlistRepository, times(3)).findByIdAndUserId(playlistId, userId);
+    }
+
     @Test
     void updateModifiesNameAndDescription() {
         UUID userId = UUID.randomUUID();
@@ -135,8 +167,7 @@ class PlaylistServiceTests {
         Playlist saved = new Playlist(userId, "Party", "night vibes", now, now);
         setId(saved, playlistId);
 
-        when(playlistRepository.save(org.mockito.ArgumentMatchers.any(Playlist.class))).thenReturn(saved);
-        when(playlistTrackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(playlistRepository.saveAndFlush(org.mockito.ArgumentMatchers.any(Playlist.class))).thenReturn(saved);
 
         PlaylistService.PlaylistDetails result = playlistService.create(
                 userId,
@@ -145,11 +176,110 @@ class PlaylistServiceTests {
                 List.of(new PlaylistService.PlaylistTrackInput("trk_1", "Song A", "Artist A", "Pop")));
 
         verify(playlistTrackRepository).deleteByPlaylistId(playlistId);
-        verify(playlistTrackRepository).saveAll(anyList());
+        verify(playlistTrackBatchWriter).insertAll(anyList());
         assertThat(result.tracks()).hasSize(1);
         assertThat(result.tracks().getFirst().trackId()).isEqualTo("trk_1");
     }
 
+    @Test
+    void moveRewritesOnlyTheMovedTrack() {
+        UUID userId = UUID.randomUUID();
+        UUID playlistId = ownedPlaylistForOperations(userId);
+        List<PlaylistTrack> existing = tracks(playlistId, "trk_1", "trk_2", "trk_3", "trk_4");
+        when(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId)).thenReturn(existing);
+
+        PlaylistService.PlaylistDetails result = playlistService.applyTrackOperations(userId, playlistId, List.of(
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.MOVE, "trk_4", 2, null)));
+
+        assertThat(result.tracks()).extracting(PlaylistService.PlaylistTrackDetails::trackId)
+                .containsExactly("trk_1", "trk_4", "trk_2", "trk_3");
+        assertThat(result.tracks()).extracting(PlaylistService.PlaylistTrackDetails::position).containsExactly(1, 2, 3, 4);
+        assertThat(existing).extracting(PlaylistTrack::getPosition).containsExactly(1024L, 2048L, 3072L, 1536L);
+        verify(playlistTrackRepository, never()).deleteByPlaylistId(playlistId);
+        verify(playlistTrackBatchWriter).insertAll(List.of());
+        verify(playlistTrackRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    void appendInsertAndRemoveTouchOnlyAffectedRows() {
+        UUID userId = UUID.randomUUID();
+        UUID playlistId = ownedPlaylistForOperations(userId);
+        List<PlaylistTrack> existing = tracks(playlistId, "trk_1", "trk_2", "trk_3");
+        when(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId)).thenReturn(existing);
+
+        PlaylistService.PlaylistDetails result = playlistService.applyTrackOperations(userId, playlistId, List.of(
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.APPEND, null, null, List.of(input("trk_9"))),
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.INSERT, null, 1, List.of(input("trk_0"))),
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.REMOVE, "trk_2", null, null)));
+
+        assertThat(result.tracks()).extracting(PlaylistService.PlaylistTrackDetails::trackId)
+                .containsExactly("trk_0", "trk_1", "trk_3", "trk_9");
+        assertThat(existing.get(0).getPosition()).isEqualTo(1024L);
+        assertThat(existing.get(2).getPosition()).isEqualTo(3072L);
+        verify(playlistTrackRepository).deleteAllInBatch(List.of(existing.get(1)));
+        org.mockito.ArgumentCaptor<List<PlaylistTrack>> saved = org.mockito.ArgumentCaptor.captor();
+        verify(playlistTrackBatchWriter).insertAll(saved.capture());
+        assertThat(saved.getValue()).extracting(PlaylistTrack::getTrackId).containsExactly("trk_9", "trk_0");
+        assertThat(saved.getValue()).extracting(PlaylistTrack::getPosition).containsExactly(4096L, 512L);
+    }
+
+    @Test
+    void insertRenumbersOnceWhenNeighboursRunOutOfRoom() {
+        UUID userId = UUID.randomUUID();
+        UUID playlistId = ownedPlaylistForOperations(userId);
+        List<PlaylistTrack> existing = List.of(
+                new PlaylistTrack(playlistId, "trk_1", "Song", "Artist", "Pop", 10L, Instant.now()),
+                new PlaylistTrack(playlistId, "trk_2", "Song", "Artist", "Pop", 11L, Instant.now()));
+        when(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId)).thenReturn(existing);
+
+        PlaylistService.PlaylistDetails result = playlistService.applyTrackOperations(userId, playlistId, List.of(
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.INSERT, null, 2, List.of(input("trk_x")))));
+
+        assertThat(result.tracks()).extracting(PlaylistService.PlaylistTrackDetails::trackId)
+                .containsExactly("trk_1", "trk_x", "trk_2");
+        assertThat(existing).extracting(PlaylistTrack::getPosition).containsExactly(1024L, 3072L);
+        org.mockito.ArgumentCaptor<List<PlaylistTrack>> saved = org.mockito.ArgumentCaptor.captor();
+        verify(playlistTrackBatchWriter).insertAll(saved.capture());
+        assertThat(saved.getValue().getFirst().getPosition()).isEqualTo(2048L);
+    }
+
+    @Test
+    void operationsRejectDuplicateAndUnknownTracks() {
+        UUID userId = UUID.randomUUID();
+        UUID playlistId = ownedPlaylistForOperations(userId);
+        when(playlistTrackRepository.findAllByPlaylistIdOrderByPositionAsc(playlistId)).thenReturn(tracks(playlistId, "trk_1"));
+
+        assertThatThrownBy(() -> playlistService.applyTrackOperations(userId, playlistId, List.of(
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.APPEND, null, null, List.of(input("trk_1"))))))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("already contains track");
+        assertThatThrownBy(() -> playlistService.applyTrackOperations(userId, playlistId, List.of(
+                new PlaylistService.PlaylistTrackOperation(PlaylistService.PlaylistTrackOperationType.MOVE, "trk_missing", 1, null))))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("is not in playlist");
+    }
+
+    private UUID ownedPlaylistForOperations(UUID userId) {
+        UUID playlistId = UUID.randomUUID();
+        Instant now = Instant.now();
+        Playlist playlist = new Playlist(userId, "Mix", null, now, now);
+        setId(playlist, playlistId);
+        when(playlistRepository.lockByIdAndUserId(playlistId, userId)).thenReturn(Optional.of(playlist));
+        return playlistId;
+    }
+
+    private static List<PlaylistTrack> tracks(UUID playlistId, String... trackIds) {
+        List<PlaylistTrack> tracks = new java.util.ArrayList<>();
+        for (int i = 0; i < trackIds.length; i++) {
+            tracks.add(new PlaylistTrack(playlistId, trackIds[i], "Song", "Artist", "Pop", (i + 1) * 1024L, Instant.now()));
+        }
+        return tracks;
+    }
+
+    private static PlaylistService.PlaylistTrackInput input(String trackId) {
+        return new PlaylistService.PlaylistTrackInput(trackId, "Song", "Artist", "Pop");
+    }
+
     private static void setId(Playlist playlist, UUID id) {
         try {
             var field = Playlist.class.getDeclaredField("id");
@@ -0,0 +1,179 @@
+package com.musicstreaming.userservice.playlist.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.musicstreaming.userservice.playlist.cache.InMemoryPlaylistCacheStore;
+import com.musicstreaming.userservice.playlist.cache.PlaylistCache;
+import com.musicstreaming.userservice.playlist.cache.PlaylistCacheProperties;
+import com.musicstreaming.userservice.playlist.domain.Playlist;
+import com.musicstreaming.userservice.playlist.domain.PlaylistRepository;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrack;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrackBatchWriter;
+import com.musicstreaming.userservice.playlist.domain.PlaylistTrackRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PlaylistTransferServiceTests {
+
+    private static final String TRACK = "{\"trackId\":\"%s\",\"title\":\"Song\",\"artistName\":\"Artist\",\"genre\":\"Pop\"}";
+
+    @Mock
+    private PlaylistRepository playlistRepository;
+    @Mock
+    private PlaylistTrackRepository playlistTrackRepository;
+    @Mock
+    private PlaylistTrackBatchWriter playlistTrackBatchWriter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PlaylistTransferProperties properties;
+    private PlaylistTransferService transferService;
+
+    @BeforeEach
+    void setUp() {
+        PlaylistCacheProperties cacheProperties = new PlaylistCacheProperties();
+        PlaylistCache playlistCache = new PlaylistCache(new InMemoryPlaylistCacheStore(cacheProperties), cacheProperties);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        properties = new PlaylistTransferProperties();
+        transferService = new PlaylistTransferService(
+                playlistRepository,
+                playlistTrackRepository,
+                playlistTrackBatchWriter,
+                playlistCache,
+                properties,
+                transactionManager,
+                objectMapper);
+    }
+
+    @Test
+    void importCommitsValidLinesInBatchesAndReportsInvalidOnes() throws Exception {
+        properties.setImportBatchPlaylists(2);
+        UUID userId = UUID.randomUUID();
+        when(playlistRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Playlist> playlists = invocation.getArgument(0);
+            playlists.forEach(playlist -> setId(playlist, UUID.randomUUID()));
+            return playlists;
+        });
+        String body = String.join("\n",
+                "{\"name\":\" One \",\"tracks\":[" + TRACK.formatted("a") + "," + TRACK.formatted("b") + "]}",
+                "{\"name\":\"\",\"tracks\":[]}",
+                "",
+                "{\"name\":\"Two\",\"tracks\":[" + TRACK.formatted("a") + "," + TRACK.formatted("a") + "]}",
+                "{\"name\":\"Three\",\"tracks\":\"not-a-list\"}",
+                "{\"name\":\"Four\"}",
+                "{\"name\":\"Five\",\"description\":\"x\",\"tracks\":[" + TRACK.formatted("c") + "]}");
+
+        PlaylistTransferService.PlaylistImportResult result = transferService.importPlaylists(userId, stream(body));
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.aborted()).isFalse();
+        assertThat(result.errors()).extracting(PlaylistTransferService.PlaylistImportError::line).containsExactly(2L, 4L, 5L);
+        assertThat(result.errors().get(1).message()).contains("duplicate track ids");
+
+        ArgumentCaptor<List<Playlist>> playlists = ArgumentCaptor.captor();
+        verify(playlistRepository, times(2)).saveAllAndFlush(playlists.capture());
+        assertThat(playlists.getAllValues().get(0)).extracting(Playlist::getName).containsExactly("One", "Four");
+        assertThat(playlists.getAllValues().get(1)).extracting(Playlist::getName).containsExactly("Five");
+
+        ArgumentCaptor<List<PlaylistTrack>> tracks = ArgumentCaptor.captor();
+        verify(playlistTrackBatchWriter, times(2)).insertAll(tracks.capture());
+        assertThat(tracks.getAllValues().get(0)).extracting(PlaylistTrack::getPosition).containsExactly(1024L, 2048L);
+    }
+
+    @Test
+    void importStopsAtMalformedJsonAndKeepsEarlierLines() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(playlistRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        String body = "{\"name\":\"One\"}\n{\"name\": oops}\n{\"name\":\"Two\"}\n";
+
+        PlaylistTransferService.PlaylistImportResult result = transferService.importPlaylists(userId, stream(body));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.aborted()).isTrue();
+        assertThat(result.errors()).singleElement().satisfies(error -> {
+            assertThat(error.line()).isEqualTo(2L);
+            assertThat(error.message()).startsWith("Malformed JSON");
+        });
+    }
+
+    @Test
+    void importRejectsLinesBeyondConfiguredLimit() throws Exception {
+        properties.setMaxImportPlaylists(1);
+        when(playlistRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PlaylistTransferService.PlaylistImportResult result = transferService.importPlaylists(
+                UUID.randomUUID(),
+                stream("{\"name\":\"One\"}\n{\"name\":\"Two\"}\n"));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.aborted()).isTrue();
+        assertThat(result.errors().getFirst().message()).contains("limited to 1 playlists");
+    }
+
+    @Test
+    void exportPagesThroughPlaylistsByIdAndWritesOneLinePerPlaylist() throws Exception {
+        properties.setExportPageSize(1);
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        Playlist first = new Playlist(userId, "First", null, now, now);
+        Playlist second = new Playlist(userId, "Second", null, now, now);
+        UUID firstId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID secondId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        setId(first, firstId);
+        setId(second, secondId);
+        when(playlistRepository.findAllByUserIdOrderByIdAsc(userId, Limit.of(1))).thenReturn(List.of(first));
+        when(playlistRepository.findAllByUserIdAndIdGreaterThanOrderByIdAsc(userId, firstId, Limit.of(1))).thenReturn(List.of(second));
+        when(playlistRepository.findAllByUserIdAndIdGreaterThanOrderByIdAsc(userId, secondId, Limit.of(1))).thenReturn(List.of());
+        when(playlistTrackRepository.findAllByPlaylistIdInOrderByPlaylistIdAscPositionAsc(List.of(firstId)))
+                .thenReturn(List.of(new PlaylistTrack(firstId, "a", "Song", "Artist", "Pop", 1024L, now)));
+        when(playlistTrackRepository.findAllByPlaylistIdInOrderByPlaylistIdAscPositionAsc(List.of(secondId))).thenReturn(List.of());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        transferService.exportPlaylists(userId, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"name\":\"First\"").contains("\"trackId\":\"a\"").contains("\"position\":1");
+        assertThat(lines[1]).contains("\"name\":\"Second\"").contains("\"tracks\":[]");
+        verify(playlistRepository).findAllByUserIdAndIdGreaterThanOrderByIdAsc(eq(userId), eq(secondId), any(Limit.class));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void setId(Playlist playlist, UUID id) {
+        try {
+            var field = Playlist.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(playlist, id);
+        } catch (ReflectiveOperationException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
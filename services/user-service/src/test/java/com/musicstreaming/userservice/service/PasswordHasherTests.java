@@ -0,0 +1,109 @@
+package com.musicstreaming.userservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordHasherTests {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingProperties properties;
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.destroy();
+        }
+    }
+
+    @Test
+    void hashesOnPoolAndRecordsLatency() {
+        when(passwordEncoder.encode("secret")).thenReturn("hashed");
+        when(passwordEncoder.matches("secret", "hashed")).thenReturn(true);
+        hasher = new PasswordHasher(passwordEncoder, properties, meterRegistry);
+
+        assertThat(hasher.encode("secret")).isEqualTo("hashed");
+        assertThat(hasher.matches("secret", "hashed")).isTrue();
+
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWith503OnceWorkerAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(passwordEncoder.encode("slow")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hashed";
+        });
+        hasher = new PasswordHasher(passwordEncoder, properties, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("slow"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("slow"));
+        waitForQueueSize(1);
+
+        assertThatThrownBy(() -> hasher.encode("slow"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+    }
+
+    @Test
+    void timesOutWith503WhenHashIsTooSlow() {
+        properties.setTimeout(Duration.ofMillis(50));
+        when(passwordEncoder.matches("slow", "hashed")).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+        hasher = new PasswordHasher(passwordEncoder, properties, meterRegistry);
+
+        assertThatThrownBy(() -> hasher.matches("slow", "hashed"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private void waitForQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hash.queue.size").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
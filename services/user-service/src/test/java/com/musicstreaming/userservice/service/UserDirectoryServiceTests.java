@@ -1,16 +1,28 @@
 package com.musicstreaming.userservice.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.musicstreaming.userservice.domain.UserAccount;
 import com.musicstreaming.userservice.domain.UserAccountRepository;
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository;
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository.DirectoryEntry;
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository.ScoredEntry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,31 +32,130 @@ class UserDirectoryServiceTests {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Mock
+    private UserDiscoveryRepository discoveryRepository;
+
     private UserDirectoryService service;
 
     @BeforeEach
     void setUp() {
-        service = new UserDirectoryService(userAccountRepository);
+        service = new UserDirectoryService(userAccountRepository, discoveryRepository);
+    }
+
+    @Test
+    void discoverUsersReturnsPageAndCursorFromLastRow() {
+        UUID currentUserId = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2026-01-02T10:00:00Z");
+        DirectoryEntry first = entry("Artist One", createdAt);
+        DirectoryEntry second = entry("Artist Two", createdAt.minusSeconds(60));
+        DirectoryEntry extra = entry("Artist Three", createdAt.minusSeconds(120));
+        when(discoveryRepository.findDirectoryPage(currentUserId, null, null, null, false, 3))
+                .thenReturn(List.of(first, second, extra));
+
+        UserDirectoryService.DiscoveryPage page = service.discoverUsers(currentUserId, null, null, false, 2);
+
+        assertThat(page.items()).extracting(UserDirectoryService.DiscoverableUser::displayName)
+                .containsExactly("Artist One", "Artist Two");
+        assertThat(page.items().getFirst().userId()).isEqualTo(first.id());
+        assertThat(page.items().getFirst().email()).isEqualTo(first.email());
+        assertThat(page.items().getFirst().createdAt()).isEqualTo(createdAt);
+        assertThat(page.nextCursor()).isEqualTo(new DirectoryCursor(second.createdAt(), second.id()));
+    }
+
+    @Test
+    void discoverUsersPassesCursorAndFiltersAndEndsOnShortPage() {
+        UUID currentUserId = UUID.randomUUID();
+        DirectoryCursor cursor = new DirectoryCursor(Instant.parse("2026-01-02T10:00:00Z"), UUID.randomUUID());
+        ArgumentCaptor<Instant> activeSince = ArgumentCaptor.forClass(Instant.class);
+        when(discoveryRepository.findDirectoryPage(
+                eq(currentUserId), eq(cursor.createdAt()), eq(cursor.userId()), activeSince.capture(), eq(true), eq(11)))
+                .thenReturn(List.of(entry("Artist One", Instant.now())));
+
+        Instant before = Instant.now();
+        UserDirectoryService.DiscoveryPage page = service.discoverUsers(currentUserId, cursor, Duration.ofDays(7), true, 10);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+        assertThat(activeSince.getValue()).isBetween(before.minus(Duration.ofDays(7)), Instant.now().minus(Duration.ofDays(7)));
     }
 
     @Test
-    void listDiscoverableUsersExcludesCurrentUserAndMapsFields() {
+    void suggestUsersTopsUpPrecomputedListWithPopularUsers() {
         UUID currentUserId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-        Instant createdAt = Instant.now();
-        UserAccount account = new UserAccount("artist@example.com", "hash", "Artist One", createdAt);
+        DirectoryEntry friendOfFriend = entry("Friend Of Friend", Instant.now());
+        DirectoryEntry popular = entry("Popular", Instant.now());
+        when(discoveryRepository.findSuggestions(currentUserId, 3))
+                .thenReturn(List.of(new ScoredEntry(friendOfFriend, 4)));
+        when(discoveryRepository.findPopular(currentUserId, 3))
+                .thenReturn(List.of(new ScoredEntry(friendOfFriend, 900), new ScoredEntry(popular, 500)));
+
+        List<UserDirectoryService.SuggestedUser> result = service.suggestUsers(currentUserId, 3);
 
-        setId(account, userId);
-        when(userAccountRepository.findAllByIdNotOrderByCreatedAtDesc(currentUserId))
-                .thenReturn(List.of(account));
+        assertThat(result).extracting(suggestion -> suggestion.user().displayName(), UserDirectoryService.SuggestedUser::reason)
+                .containsExactly(
+                        tuple("Friend Of Friend", UserDirectoryService.SuggestionReason.FOLLOWED_BY_PEOPLE_YOU_FOLLOW),
+                        tuple("Popular", UserDirectoryService.SuggestionReason.POPULAR));
+        assertThat(result.getFirst().score()).isEqualTo(4);
+    }
 
-        List<UserDirectoryService.DiscoverableUser> result = service.listDiscoverableUsers(currentUserId);
+    @Test
+    void suggestUsersSkipsPopularUsersWhenListIsFull() {
+        UUID currentUserId = UUID.randomUUID();
+        when(discoveryRepository.findSuggestions(currentUserId, 1))
+                .thenReturn(List.of(new ScoredEntry(entry("Friend Of Friend", Instant.now()), 2)));
+
+        assertThat(service.suggestUsers(currentUserId, 1)).hasSize(1);
+        verify(discoveryRepository, never()).findPopular(any(), anyInt());
+    }
+
+    @Test
+    void searchUsersStopsWhenStartsWithMatchesFillThePage() {
+        UUID currentUserId = UUID.randomUUID();
+        UserAccount match = account("Daft Punk");
+        when(userAccountRepository.searchByDisplayNameStart("daft p%", currentUserId, 1)).thenReturn(List.of(match));
+
+        List<UserDirectoryService.DiscoverableUser> result = service.searchUsers(currentUserId, " Daft P ", 1);
+
+        assertThat(result).extracting(UserDirectoryService.DiscoverableUser::displayName).containsExactly("Daft Punk");
+        verify(userAccountRepository, never()).searchByDisplayNameWords(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void searchUsersFillsPageFromLaterTiersWithoutDuplicates() {
+        UUID currentUserId = UUID.randomUUID();
+        UserAccount wordMatch = account("The Daft Punks");
+        UserAccount similarMatch = account("Daft Pank");
+        when(userAccountRepository.searchByDisplayNameStart("punk%", currentUserId, 3)).thenReturn(List.of());
+        when(userAccountRepository.searchByDisplayNameWords("punk", currentUserId, 3))
+                .thenReturn(List.of(wordMatch));
+        when(userAccountRepository.searchByDisplayNameSimilarity("punk", currentUserId, 3))
+                .thenReturn(List.of(wordMatch, similarMatch));
+
+        List<UserDirectoryService.DiscoverableUser> result = service.searchUsers(currentUserId, "punk", 3);
+
+        assertThat(result).extracting(UserDirectoryService.DiscoverableUser::displayName)
+                .containsExactly("The Daft Punks", "Daft Pank");
+    }
+
+    @Test
+    void searchUsersSkipsSimilarityForShortQueries() {
+        UUID currentUserId = UUID.randomUUID();
+        when(userAccountRepository.searchByDisplayNameStart("da%", currentUserId, 5)).thenReturn(List.of());
+        when(userAccountRepository.searchByDisplayNameWords("da", currentUserId, 5))
+                .thenReturn(List.of());
+
+        assertThat(service.searchUsers(currentUserId, "da", 5)).isEmpty();
+        verify(userAccountRepository, never()).searchByDisplayNameSimilarity(anyString(), any(), anyInt());
+    }
+
+    private static DirectoryEntry entry(String displayName, Instant createdAt) {
+        return new DirectoryEntry(UUID.randomUUID(), displayName, displayName.replace(' ', '.') + "@example.com", createdAt, createdAt);
+    }
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().userId()).isEqualTo(userId);
-        assertThat(result.getFirst().displayName()).isEqualTo("Artist One");
-        assertThat(result.getFirst().email()).isEqualTo("artist@example.com");
-        assertThat(result.getFirst().createdAt()).isEqualTo(createdAt);
+    private static UserAccount account(String displayName) {
+        UserAccount account = new UserAccount(displayName.replace(' ', '.') + "@example.com", "hash", displayName, Instant.now());
+        setId(account, UUID.randomUUID());
+        return account;
     }
 
     private static void setId(UserAccount account, UUID userId) {
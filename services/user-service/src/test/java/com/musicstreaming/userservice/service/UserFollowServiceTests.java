@@ -2,21 +2,28 @@ package com.musicstreaming.userservice.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.musicstreaming.userservice.domain.UserAccountRepository;
 import com.musicstreaming.userservice.domain.UserFollow;
 import com.musicstreaming.userservice.domain.UserFollowRepository;
+import com.musicstreaming.userservice.domain.UserFollowStatsRepository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +32,9 @@ class UserFollowServiceTests {
     @Mock
     private UserFollowRepository repository;
 
+    @Mock
+    private UserFollowStatsRepository statsRepository;
+
     @Mock
     private UserAccountRepository userAccountRepository;
 
@@ -32,7 +42,7 @@ class UserFollowServiceTests {
 
     @BeforeEach
     void setUp() {
-        service = new UserFollowService(repository, userAccountRepository);
+        service = new UserFollowService(repository, statsRepository, userAccountRepository);
     }
 
     @Test
@@ -40,13 +50,13 @@ class UserFollowServiceTests {
         UUID followerUserId = UUID.randomUUID();
         UUID targetUserId = UUID.randomUUID();
         when(userAccountRepository.existsById(targetUserId)).thenReturn(true);
-        when(repository.existsByFollowerUserIdAndTargetUserId(followerUserId, targetUserId)).thenReturn(false);
+        when(repository.insertIfAbsent(any(UUID.class), eq(followerUserId), eq(targetUserId), any(Instant.class))).thenReturn(1);
 
         UserFollowService.FollowResult result = service.followUser(followerUserId, targetUserId);
 
         assertThat(result.created()).isTrue();
         assertThat(result.targetUserId()).isEqualTo(targetUserId);
-        verify(repository).save(org.mockito.ArgumentMatchers.any(UserFollow.class));
+        verifyCountsAdjusted(followerUserId, targetUserId, 1);
     }
 
     @Test
@@ -54,12 +64,12 @@ class UserFollowServiceTests {
         UUID followerUserId = UUID.randomUUID();
         UUID targetUserId = UUID.randomUUID();
         when(userAccountRepository.existsById(targetUserId)).thenReturn(true);
-        when(repository.existsByFollowerUserIdAndTargetUserId(followerUserId, targetUserId)).thenReturn(true);
+        when(repository.insertIfAbsent(any(UUID.class), eq(followerUserId), eq(targetUserId), any(Instant.class))).thenReturn(0);
 
         UserFollowService.FollowResult result = service.followUser(followerUserId, targetUserId);
 
         assertThat(result.created()).isFalse();
-        verify(repository, never()).save(org.mockito.ArgumentMatchers.any(UserFollow.class));
+        verifyNoInteractions(statsRepository);
     }
 
     @Test
@@ -79,21 +89,99 @@ class UserFollowServiceTests {
         assertThatThrownBy(() -> service.followUser(followerUserId, targetUserId))
                 .isInstanceOf(ResponseStatusException.class)
                 .hasMessageContaining("Target user not found");
-        verify(repository, never()).save(org.mockito.ArgumentMatchers.any(UserFollow.class));
+        verify(repository, never()).insertIfAbsent(any(), any(), any(), any());
     }
 
     @Test
-    void listFollowedUsersMapsRepositoryRecords() {
+    void unfollowUserDecrementsCountsOnlyWhenAFollowWasRemoved() {
         UUID followerUserId = UUID.randomUUID();
         UUID targetUserId = UUID.randomUUID();
+        when(repository.deleteFollow(followerUserId, targetUserId)).thenReturn(1, 0);
+
+        service.unfollowUser(followerUserId, targetUserId);
+        service.unfollowUser(followerUserId, targetUserId);
+
+        verifyCountsAdjusted(followerUserId, targetUserId, -1);
+    }
+
+    @Test
+    void listFollowingReturnsCursorWhenMoreRowsExist() {
+        UUID followerUserId = UUID.randomUUID();
         Instant now = Instant.now();
-        when(repository.findAllByFollowerUserIdOrderByCreatedAtDesc(followerUserId))
-                .thenReturn(List.of(new UserFollow(followerUserId, targetUserId, now)));
+        UserFollow first = follow(followerUserId, UUID.randomUUID(), now);
+        UserFollow second = follow(followerUserId, UUID.randomUUID(), now.minusSeconds(1));
+        UserFollow third = follow(followerUserId, UUID.randomUUID(), now.minusSeconds(2));
+        when(repository.findAllByFollowerUserIdOrderByCreatedAtDescIdDesc(followerUserId, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+
+        UserFollowService.FollowPage page = service.listFollowing(followerUserId, null, 2);
+
+        assertThat(page.items()).extracting(UserFollowService.FollowEdge::userId)
+                .containsExactly(first.getTargetUserId(), second.getTargetUserId());
+        assertThat(page.nextCursor()).isEqualTo(new FollowCursor(second.getCreatedAt(), second.getId()));
+        assertThat(FollowCursor.decode(page.nextCursor().encode())).isEqualTo(page.nextCursor());
+    }
+
+    @Test
+    void listFollowersContinuesAfterCursor() {
+        UUID targetUserId = UUID.randomUUID();
+        UserFollow follow = follow(UUID.randomUUID(), targetUserId, Instant.now());
+        FollowCursor cursor = new FollowCursor(Instant.now(), UUID.randomUUID());
+        when(repository.findFollowersAfter(targetUserId, cursor.createdAt(), cursor.followId(), Limit.of(51)))
+                .thenReturn(List.of(follow));
+
+        UserFollowService.FollowPage page = service.listFollowers(targetUserId, cursor, 50);
 
-        List<UserFollowService.FollowedUser> result = service.listFollowedUsers(followerUserId);
+        assertThat(page.items()).extracting(UserFollowService.FollowEdge::userId).containsExactly(follow.getFollowerUserId());
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void lookupRelationsAnswersAllUsersWithTwoQueries() {
+        UUID userId = UUID.randomUUID();
+        UUID mutual = UUID.randomUUID();
+        UUID followedOnly = UUID.randomUUID();
+        UUID stranger = UUID.randomUUID();
+        when(repository.findFollowedAmong(eq(userId), anyCollection())).thenReturn(List.of(mutual, followedOnly));
+        when(repository.findFollowersAmong(eq(userId), anyCollection())).thenReturn(List.of(mutual));
+
+        List<UserFollowService.FollowRelation> relations = service.lookupRelations(userId, List.of(mutual, followedOnly, stranger, mutual));
+
+        assertThat(relations).extracting(UserFollowService.FollowRelation::userId).containsExactly(mutual, followedOnly, stranger);
+        assertThat(relations).extracting(UserFollowService.FollowRelation::mutual).containsExactly(true, false, false);
+        assertThat(relations.get(1).following()).isTrue();
+        assertThat(relations.get(2).following()).isFalse();
+    }
+
+    @Test
+    void getStatsFallsBackToZeroForUsersWithoutFollows() {
+        UUID userId = UUID.randomUUID();
+        when(statsRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userAccountRepository.existsById(userId)).thenReturn(true);
+
+        UserFollowService.FollowStats stats = service.getStats(userId);
+
+        assertThat(stats.followerCount()).isZero();
+        assertThat(stats.followingCount()).isZero();
+    }
+
+    private void verifyCountsAdjusted(UUID followerUserId, UUID targetUserId, long delta) {
+        if (followerUserId.compareTo(targetUserId) < 0) {
+            verify(statsRepository).adjustCounts(followerUserId, 0, delta, targetUserId, delta, 0);
+        } else {
+            verify(statsRepository).adjustCounts(targetUserId, delta, 0, followerUserId, 0, delta);
+        }
+    }
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().targetUserId()).isEqualTo(targetUserId);
-        assertThat(result.getFirst().followedAt()).isEqualTo(now);
+    private static UserFollow follow(UUID followerUserId, UUID targetUserId, Instant createdAt) {
+        UserFollow follow = new UserFollow(followerUserId, targetUserId, createdAt);
+        try {
+            var field = UserFollow.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(follow, UUID.randomUUID());
+        } catch (ReflectiveOperationException ex) {
+            throw new RuntimeException(ex);
+        }
+        return follow;
     }
 }
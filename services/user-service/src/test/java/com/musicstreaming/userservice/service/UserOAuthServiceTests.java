@@ -17,9 +17,9 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,14 +31,11 @@ class UserOAuthServiceTests {
     @Mock
     private UserAccountRepository userAccountRepository;
 
-    @Mock
-    private PasswordEncoder passwordEncoder;
-
     private UserOAuthService service;
 
     @BeforeEach
     void setUp() {
-        service = new UserOAuthService(userOAuthAccountRepository, userAccountRepository, passwordEncoder);
+        service = new UserOAuthService(userOAuthAccountRepository, userAccountRepository);
     }
 
     @Test
@@ -88,7 +85,6 @@ class UserOAuthServiceTests {
                 .thenReturn(Optional.empty());
         when(userAccountRepository.findByEmailIgnoreCase("newuser@example.com"))
                 .thenReturn(Optional.empty());
-        when(passwordEncoder.encode(any(String.class))).thenReturn("encoded-password");
         when(userAccountRepository.save(any(UserAccount.class))).thenAnswer(invocation -> {
             UserAccount created = invocation.getArgument(0);
             ReflectionTestUtils.setField(created, "id", UUID.randomUUID());
@@ -104,7 +100,10 @@ class UserOAuthServiceTests {
         assertThat(result.userCreated()).isTrue();
         assertThat(result.oauthIdentityLinked()).isTrue();
         assertThat(result.user().email()).isEqualTo("newuser@example.com");
-        verify(userAccountRepository).save(any(UserAccount.class));
+        ArgumentCaptor<UserAccount> saved = ArgumentCaptor.forClass(UserAccount.class);
+        verify(userAccountRepository).save(saved.capture());
+        assertThat(saved.getValue().getPasswordHash()).isEqualTo(UserAccount.NO_PASSWORD_HASH);
+        assertThat(saved.getValue().hasPassword()).isFalse();
         verify(userOAuthAccountRepository).save(any(UserOAuthAccount.class));
     }
 
@@ -0,0 +1,87 @@
+package com.musicstreaming.userservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.musicstreaming.userservice.domain.UserDiscoveryRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class UserSuggestionRefresherTests {
+
+    private static final UUID FIRST = new UUID(0, 0);
+
+    @Mock
+    private UserDiscoveryRepository discoveryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DiscoveryProperties properties;
+    private UserSuggestionRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DiscoveryProperties();
+        properties.setRefreshBatchSize(2);
+        properties.setSuggestionsPerUser(5);
+        properties.setActiveWindow(Duration.ofDays(30));
+        refresher = new UserSuggestionRefresher(discoveryRepository, properties, transactionManager);
+    }
+
+    @Test
+    void refreshesActiveUsersInKeysetBatchesThenDropsStaleLists() {
+        Instant now = Instant.parse("2026-03-01T00:00:00Z");
+        Instant activeSince = now.minus(Duration.ofDays(30));
+        UUID a = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+        UUID b = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+        UUID c = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+        when(discoveryRepository.findActiveUserIds(activeSince, FIRST, 2)).thenReturn(List.of(a, b));
+        when(discoveryRepository.findActiveUserIds(activeSince, b, 2)).thenReturn(List.of(c));
+
+        int refreshed = refresher.refreshAll(now);
+
+        assertThat(refreshed).isEqualTo(3);
+        verify(discoveryRepository).replaceSuggestions(List.of(a, b), 5, now);
+        verify(discoveryRepository).replaceSuggestions(List.of(c), 5, now);
+        verify(discoveryRepository).deleteSuggestionsRefreshedBefore(now);
+    }
+
+    @Test
+    void failedBatchKeepsPreviousSuggestions() {
+        UUID a = UUID.randomUUID();
+        when(discoveryRepository.withSuggestionRefreshLock(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return true;
+        });
+        when(discoveryRepository.findActiveUserIds(any(), any(), any(Integer.class))).thenReturn(List.of(a));
+        doThrow(new IllegalStateException("boom")).when(discoveryRepository).replaceSuggestions(any(), any(Integer.class), any());
+
+        refresher.refresh();
+
+        verify(discoveryRepository, never()).deleteSuggestionsRefreshedBefore(any());
+    }
+
+    @Test
+    void skipsThePassWhileAnotherInstanceHoldsTheLock() {
+        when(discoveryRepository.withSuggestionRefreshLock(any())).thenReturn(false);
+
+        refresher.refresh();
+
+        verify(discoveryRepository, never()).findActiveUserIds(any(), any(), any(Integer.class));
+        verify(discoveryRepository, never()).deleteSuggestionsRefreshedBefore(any());
+    }
+}